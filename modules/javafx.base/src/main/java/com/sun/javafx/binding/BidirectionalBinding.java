@@ -231,8 +231,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private BidirectionalBooleanBinding(BooleanProperty property1, BooleanProperty property2) {
             super(property1, property2);
             oldValue = property1.get();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -308,8 +308,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private BidirectionalDoubleBinding(DoubleProperty property1, DoubleProperty property2) {
             super(property1, property2);
             oldValue = property1.get();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -385,8 +385,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private BidirectionalFloatBinding(FloatProperty property1, FloatProperty property2) {
             super(property1, property2);
             oldValue = property1.get();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -462,8 +462,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private BidirectionalIntegerBinding(IntegerProperty property1, IntegerProperty property2) {
             super(property1, property2);
             oldValue = property1.get();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -539,8 +539,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private BidirectionalLongBinding(LongProperty property1, LongProperty property2) {
             super(property1, property2);
             oldValue = property1.get();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -616,8 +616,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private TypedGenericBidirectionalBinding(Property<T> property1, Property<T> property2) {
             super(property1, property2);
             oldValue = property1.getValue();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -693,8 +693,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
         private TypedNumberBidirectionalBinding(Property<T> property1, Property<Number> property2) {
             super(property1, property2);
             oldValue = property1.getValue();
-            propertyRef1 = new WeakReference<>(property1);
-            propertyRef2 = new WeakReference<>(property2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(property1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(property2);
         }
 
         @Override
@@ -794,8 +794,8 @@ public abstract class BidirectionalBinding implements InvalidationListener, Weak
 
         public StringConversionBidirectionalBinding(Property<String> stringProperty, Property<T> otherProperty) {
             super(stringProperty, otherProperty);
-            stringPropertyRef = new WeakReference<>(stringProperty);
-            otherPropertyRef = new WeakReference<>(otherProperty);
+            stringPropertyRef = ExpressionHelperBase.createWeakReference(stringProperty);
+            otherPropertyRef = ExpressionHelperBase.createWeakReference(otherProperty);
         }
 
         protected abstract String toString(T value);
@@ -103,8 +103,8 @@ public class BidirectionalContentBinding {
 
 
         public ListContentBinding(ObservableList<E> list1, ObservableList<E> list2) {
-            propertyRef1 = new WeakReference<>(list1);
-            propertyRef2 = new WeakReference<>(list2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(list1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(list2);
         }
 
         @Override
@@ -196,8 +196,8 @@ public class BidirectionalContentBinding {
 
 
         public SetContentBinding(ObservableSet<E> list1, ObservableSet<E> list2) {
-            propertyRef1 = new WeakReference<>(list1);
-            propertyRef2 = new WeakReference<>(list2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(list1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(list2);
         }
 
         @Override
@@ -281,8 +281,8 @@ public class BidirectionalContentBinding {
 
 
         public MapContentBinding(ObservableMap<K, V> list1, ObservableMap<K, V> list2) {
-            propertyRef1 = new WeakReference<>(list1);
-            propertyRef2 = new WeakReference<>(list2);
+            propertyRef1 = ExpressionHelperBase.createWeakReference(list1);
+            propertyRef2 = ExpressionHelperBase.createWeakReference(list2);
         }
 
         @Override
@@ -105,7 +105,7 @@ public class ContentBinding {
         private final WeakReference<List<E>> listRef;
 
         public ListContentBinding(List<E> list) {
-            this.listRef = new WeakReference<>(list);
+            this.listRef = ExpressionHelperBase.createWeakReference(list);
         }
 
         @Override
@@ -166,7 +166,7 @@ public class ContentBinding {
         private final WeakReference<Set<E>> setRef;
 
         public SetContentBinding(Set<E> set) {
-            this.setRef = new WeakReference<>(set);
+            this.setRef = ExpressionHelperBase.createWeakReference(set);
         }
 
         @Override
@@ -219,7 +219,7 @@ public class ContentBinding {
         private final WeakReference<Map<K, V>> mapRef;
 
         public MapContentBinding(Map<K, V> map) {
-            this.mapRef = new WeakReference<>(map);
+            this.mapRef = ExpressionHelperBase.createWeakReference(map);
         }
 
         @Override
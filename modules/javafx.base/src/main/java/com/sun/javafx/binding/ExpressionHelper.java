@@ -29,7 +29,12 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A convenience class for creating implementations of {@link javafx.beans.value.ObservableValue}.
@@ -62,33 +67,117 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             throw new NullPointerException();
         }
         observable.getValue(); // validate observable
-        return (helper == null)? new SingleInvalidation<>(observable, listener) : helper.addListener(listener);
+        return track(observable, (helper == null)? new SingleInvalidation<>(observable, listener) : redirect(helper, helper.addListener(listener)));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, InvalidationListener listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : track(helper.observable, redirect(helper, helper.removeListener(listener)));
     }
 
     public static <T> ExpressionHelper<T> addListener(ExpressionHelper<T> helper, ObservableValue<T> observable, ChangeListener<? super T> listener) {
         if ((observable == null) || (listener == null)) {
             throw new NullPointerException();
         }
-        return (helper == null)? new SingleChange<>(observable, observable.getValue(), listener) : helper.addListener(listener);
+        return track(observable, (helper == null)? new SingleChange<>(observable, observable.getValue(), listener) : redirect(helper, helper.addListener(listener)));
     }
 
     public static <T> ExpressionHelper<T> removeListener(ExpressionHelper<T> helper, ChangeListener<? super T> listener) {
         if (listener == null) {
             throw new NullPointerException();
         }
-        return (helper == null)? null : helper.removeListener(listener);
+        return (helper == null)? null : track(helper.observable, redirect(helper, helper.removeListener(listener)));
     }
 
     public static <T> void fireValueChangedEvent(ExpressionHelper<T> helper) {
         if (helper != null) {
-            helper.fireValueChangedEvent();
+            if (deferringThread.get() == Thread.currentThread()) {
+                defer(helper);
+            } else {
+                helper.fireValueChangedEvent();
+            }
+        }
+    }
+
+    private static <T> ExpressionHelper<T> track(ObservableValue<T> observable, ExpressionHelper<T> helper) {
+        if (ListenerDiagnostics.ENABLED) {
+            ListenerDiagnostics.update(observable, helper);
+        }
+        return helper;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Deferred invalidation
+
+    // The thread that is deferring invalidation, it owns the fields below until it sets this back to null
+    private static final AtomicReference<Thread> deferringThread = new AtomicReference<>();
+    private static int deferringDepth;
+    private static final Map<ObservableValue<?>, ExpressionHelper<?>> deferredHelpers = new IdentityHashMap<>();
+    private static final List<ObservableValue<?>> deferredObservables = new ArrayList<>();
+
+    /**
+     * Runs the given action while holding back all events fired through an {@code ExpressionHelper}
+     * on the current thread. When the outermost action has finished, every observable that fired
+     * an event in the meantime is notified exactly once, in the order in which the observables
+     * were first invalidated.
+     *
+     * @param action the action to run
+     * @throws IllegalStateException if another thread is deferring invalidation
+     */
+    public static void deferInvalidation(Runnable action) {
+        final Thread thread = Thread.currentThread();
+        while (deferringThread.get() != thread) {
+            if (deferringThread.compareAndSet(null, thread)) {
+                break;
+            }
+            final Thread owner = deferringThread.get();
+            if (owner != null && owner != thread) {
+                throw new IllegalStateException("Invalidation is already deferred on thread " + owner.getName());
+            }
+        }
+        deferringDepth++;
+        try {
+            action.run();
+        } finally {
+            if (--deferringDepth == 0) {
+                flushDeferred();
+            }
+        }
+    }
+
+    private static void defer(ExpressionHelper<?> helper) {
+        if (!deferredHelpers.containsKey(helper.observable)) {
+            deferredObservables.add(helper.observable);
+        }
+        deferredHelpers.put(helper.observable, helper);
+    }
+
+    /*
+     * Adding or removing a listener may replace the helper of an observable. If the observable has
+     * a deferred event, the event has to be delivered to the listeners of the new helper.
+     */
+    private static <T> ExpressionHelper<T> redirect(ExpressionHelper<T> oldHelper, ExpressionHelper<T> newHelper) {
+        if ((newHelper != oldHelper) && (deferringThread.get() == Thread.currentThread())
+                && (deferredHelpers.get(oldHelper.observable) == oldHelper)) {
+            deferredHelpers.put(oldHelper.observable, newHelper);
+        }
+        return newHelper;
+    }
+
+    private static void flushDeferred() {
+        final ExpressionHelper<?>[] helpers = new ExpressionHelper<?>[deferredObservables.size()];
+        for (int i = 0; i < helpers.length; i++) {
+            helpers[i] = deferredHelpers.get(deferredObservables.get(i));
+        }
+        deferredObservables.clear();
+        deferredHelpers.clear();
+        deferringThread.set(null);
+        for (ExpressionHelper<?> helper : helpers) {
+            if (helper != null) {
+                helper.fireValueChangedEvent();
+            }
         }
     }
 
@@ -109,6 +198,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent();
 
+    abstract int getListenerCount();
+
+    abstract ListenerDiagnostics.ListenerCount countListeners();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -149,6 +242,17 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        int getListenerCount() {
+            return 1;
+        }
+
+        @Override
+        ListenerDiagnostics.ListenerCount countListeners() {
+            return new ListenerDiagnostics.ListenerCount(observable, 1, 0,
+                    ListenerDiagnostics.countCollected(new Object[] {listener}, 1));
+        }
     }
 
     private static class SingleChange<T> extends ExpressionHelper<T> {
@@ -195,6 +299,17 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                 }
             }
         }
+
+        @Override
+        int getListenerCount() {
+            return 1;
+        }
+
+        @Override
+        ListenerDiagnostics.ListenerCount countListeners() {
+            return new ListenerDiagnostics.ListenerCount(observable, 0, 1,
+                    ListenerDiagnostics.countCollected(new Object[] {listener}, 1));
+        }
     }
 
     private static class Generic<T> extends ExpressionHelper<T> {
@@ -203,7 +318,10 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
         private ChangeListener<? super T>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
         private T currentValue;
 
         private Generic(ObservableValue<T> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -228,14 +346,51 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
             this.currentValue = currentValue;
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected Generic<T> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -252,6 +407,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -266,7 +422,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
                             }
@@ -274,7 +431,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -287,12 +444,14 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> addListener(ChangeListener<? super T> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -312,6 +471,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected ExpressionHelper<T> removeListener(ChangeListener<? super T> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -327,7 +487,8 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super T>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index);
                             }
@@ -335,7 +496,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -348,13 +509,14 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent() {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ChangeListener<? super T>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
-
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
                         curInvalidationList[i].invalidated(observable);
@@ -377,9 +539,23 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
             }
         }
+
+        @Override
+        int getListenerCount() {
+            return invalidationSize + changeSize;
+        }
+
+        @Override
+        ListenerDiagnostics.ListenerCount countListeners() {
+            return new ListenerDiagnostics.ListenerCount(observable, invalidationSize, changeSize,
+                    ListenerDiagnostics.countCollected(invalidationListeners, invalidationSize)
+                    + ListenerDiagnostics.countCollected(changeListeners, changeSize));
+        }
     }
 
 }
@@ -25,11 +25,68 @@
 
 package com.sun.javafx.binding;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import javafx.beans.WeakListener;
 
 public class ExpressionHelperBase {
 
+    /*
+     * The generic helpers keep their listeners in arrays that are iterated without copying
+     * when an event is fired. If a listener is added or removed while an event is being fired,
+     * the affected array is copied once (copy-on-write) and the copy is used for all further
+     * modifications until the outermost event has been delivered. The bits below identify the
+     * arrays that may still be referenced by an event in progress.
+     */
+    protected static final int INVALIDATION_LISTENERS = 1;
+    protected static final int CHANGE_LISTENERS = 1 << 1;
+    protected static final int COLLECTION_CHANGE_LISTENERS = 1 << 2;
+    protected static final int ALL_LISTENERS = INVALIDATION_LISTENERS | CHANGE_LISTENERS | COLLECTION_CHANGE_LISTENERS;
+
+    /*
+     * The weak listeners of this module register the references to their targets with this queue.
+     * Every reference that is enqueued advances the generation, which tells the generic helpers
+     * that hold weak listeners that they may contain garbage collected listeners and should trim
+     * their arrays.
+     */
+    private static final ReferenceQueue<Object> collectedReferences = new ReferenceQueue<>();
+    private static final AtomicInteger collectedGeneration = new AtomicInteger();
+
+    /**
+     * Creates a weak reference to the target of a {@link WeakListener}. The helpers remove the
+     * listener the next time they fire an event after the target has been garbage collected.
+     *
+     * @param <T> the type of the target
+     * @param target the target of the weak listener
+     * @return a weak reference to the target
+     */
+    public static <T> WeakReference<T> createWeakReference(T target) {
+        return new WeakReference<>(target, collectedReferences);
+    }
+
+    protected static int collectedGeneration() {
+        int count = 0;
+        while (collectedReferences.poll() != null) {
+            count++;
+        }
+        return (count == 0)? collectedGeneration.get() : collectedGeneration.addAndGet(count);
+    }
+
+    protected static boolean isWeakListener(Object listener) {
+        return listener instanceof WeakListener;
+    }
+
+    protected static boolean containsWeakListener(int size, Object[] listeners) {
+        for (int i = 0; i < size; i++) {
+            if (listeners[i] instanceof WeakListener) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected static int trim(int size, Object[] listeners) {
         Predicate<Object> p = t -> t instanceof WeakListener &&
                 ((WeakListener)t).wasGarbageCollected();
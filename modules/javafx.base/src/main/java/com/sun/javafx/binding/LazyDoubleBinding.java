@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Subscription;
+import javafx.beans.binding.DoubleExpression;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * A {@link DoubleExpression} that stores its value as a primitive {@code double} and
+ * which, like {@link LazyObjectBinding}, only observes its sources while it is
+ * observed itself. When it is not observed, the value is recomputed on every
+ * call to {@link #get()}.
+ */
+abstract class LazyDoubleBinding extends DoubleExpression {
+
+    private ExpressionHelper<Number> helper;
+    private Subscription subscription;
+    private boolean observed;
+    private boolean valid;
+    private double value;
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        observed = observed || listener != null;
+        helper = ExpressionHelper.addListener(helper, this, listener);
+
+        updateSubscriptionAfterAdd();
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        helper = ExpressionHelper.removeListener(helper, listener);
+        observed = helper != null;
+
+        updateSubscriptionAfterRemove();
+    }
+
+    @Override
+    public void addListener(ChangeListener<? super Number> listener) {
+        observed = observed || listener != null;
+        helper = ExpressionHelper.addListener(helper, this, listener);
+
+        updateSubscriptionAfterAdd();
+    }
+
+    @Override
+    public void removeListener(ChangeListener<? super Number> listener) {
+        helper = ExpressionHelper.removeListener(helper, listener);
+        observed = helper != null;
+
+        updateSubscriptionAfterRemove();
+    }
+
+    @Override
+    public final double get() {
+        if (!valid) {
+            double computed = computeValue();
+
+            if (!observed) {
+                return computed;
+            }
+
+            value = computed;
+            valid = true;
+        }
+        return value;
+    }
+
+    protected final void invalidate() {
+        if (valid) {
+            valid = false;
+            ExpressionHelper.fireValueChangedEvent(helper);
+        }
+    }
+
+    private void updateSubscriptionAfterAdd() {
+        if (subscription == null) { // was first observer registered?
+            subscription = observeSources(); // start observing sources
+        }
+    }
+
+    private void updateSubscriptionAfterRemove() {
+        if (subscription != null && !observed) { // was last observer unregistered?
+            subscription.unsubscribe();
+            subscription = null;
+            valid = false; // sources are no longer tracked
+        }
+    }
+
+    /**
+     * Calculates the current value of this binding.
+     *
+     * @return the current value
+     */
+    protected abstract double computeValue();
+
+    /**
+     * Called when this binding was previously not observed and a new observer was added. Implementors must return a
+     * {@link Subscription} which will be cancelled when this binding no longer has any observers.
+     *
+     * @return a {@link Subscription} which will be cancelled when this binding no longer has any observers, never null
+     */
+    protected abstract Subscription observeSources();
+
+    @Override
+    public String toString() {
+        return valid ? getClass().getSimpleName() + " [value: " + value + "]"
+                : getClass().getSimpleName() + " [invalid]";
+    }
+}
@@ -307,7 +307,10 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
         private int invalidationSize;
         private int changeSize;
         private int listChangeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
         private ObservableList<E> currentValue;
 
         private Generic(ObservableListValue<E> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -357,14 +360,53 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
             this.currentValue = observable.getValue();
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    listChangeSize = trim(listChangeSize, listChangeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners)
+                        || containsWeakListener(listChangeSize, listChangeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected ListExpressionHelper<E> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -381,6 +423,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListExpressionHelper<E> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -397,7 +440,8 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index+1);
                             }
@@ -405,7 +449,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -418,12 +462,14 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListExpressionHelper<E> addListener(ChangeListener<? super ObservableList<E>> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -443,6 +489,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListExpressionHelper<E> removeListener(ChangeListener<? super ObservableList<E>> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -459,7 +506,8 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super ObservableList<E>>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index+1);
                             }
@@ -467,7 +515,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -480,12 +528,14 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListExpressionHelper<E> addListener(ListChangeListener<? super E> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (listChangeListeners == null) {
                 listChangeListeners = new ListChangeListener[] {listener};
                 listChangeSize = 1;
             } else {
                 final int oldCapacity = listChangeListeners.length;
-                if (locked) {
+                if (copyOnWrite(COLLECTION_CHANGE_LISTENERS)) {
                     final int newCapacity = (listChangeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     listChangeListeners = Arrays.copyOf(listChangeListeners, newCapacity);
                 } else if (listChangeSize == oldCapacity) {
@@ -505,6 +555,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListExpressionHelper<E> removeListener(ListChangeListener<? super E> listener) {
+            trimCollected();
             if (listChangeListeners != null) {
                 for (int index = 0; index < listChangeSize; index++) {
                     if (listener.equals(listChangeListeners[index])) {
@@ -521,7 +572,8 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = listChangeSize - index - 1;
                             final ListChangeListener<? super E>[] oldListeners = listChangeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(COLLECTION_CHANGE_LISTENERS);
+                            if (copy) {
                                 listChangeListeners = new ListChangeListener[listChangeListeners.length];
                                 System.arraycopy(oldListeners, 0, listChangeListeners, 0, index+1);
                             }
@@ -529,7 +581,7 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, listChangeListeners, index, numMoved);
                             }
                             listChangeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 listChangeListeners[listChangeSize] = null; // Let gc do its work
                             }
                         }
@@ -570,14 +622,16 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
         }
 
         private void notifyListeners(ObservableList<E> oldValue, Change<E> change, boolean noChange) {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ChangeListener<? super ObservableList<E>>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
             final ListChangeListener<? super E>[] curListChangeList = listChangeListeners;
             final int curListChangeSize = listChangeSize;
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     curInvalidationList[i].invalidated(observable);
                 }
@@ -593,7 +647,9 @@ public abstract class ListExpressionHelper<E> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
             }
         }
 
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javafx.beans.WeakListener;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Keeps track of the listeners registered on properties and bindings that use an
+ * {@link ExpressionHelper}, which helps to find listener leaks in a running application.
+ * <p>
+ * Tracking is disabled by default, because it adds a map update to every registration of a
+ * listener. It is enabled by setting the system property {@code javafx.listenerDiagnostics}
+ * to {@code true}. The counts are read without synchronizing with the threads that register
+ * listeners, so they are only approximate while listeners are being added or removed.
+ * <p>
+ * While tracking is enabled, a warning with the listener count is logged to the
+ * {@code javafx.beans} logger when an observable reaches the number of listeners given by the
+ * system property {@code javafx.listenerDiagnostics.threshold}, 100 by default, and again each
+ * time the count doubles. This makes the report available to applications, which cannot access
+ * this class.
+ */
+public final class ListenerDiagnostics {
+
+    @SuppressWarnings("removal")
+    static final boolean ENABLED = AccessController.doPrivileged((PrivilegedAction<Boolean>) ()
+            -> Boolean.getBoolean("javafx.listenerDiagnostics"));
+
+    @SuppressWarnings("removal")
+    static final int THRESHOLD = AccessController.doPrivileged((PrivilegedAction<Integer>) ()
+            -> Integer.getInteger("javafx.listenerDiagnostics.threshold", 100));
+
+    private static final Map<ObservableValue<?>, Tracked> helpers = new WeakHashMap<>();
+
+    private static final class Tracked {
+        private WeakReference<ExpressionHelper<?>> helper;
+        private int reportAt = THRESHOLD; // the listener count of the next warning
+    }
+
+    private ListenerDiagnostics() {
+    }
+
+    /**
+     * The number of listeners registered on an observable.
+     *
+     * @param observable the observable
+     * @param invalidationListeners the number of invalidation listeners
+     * @param changeListeners the number of change listeners
+     * @param collectedListeners the number of weak listeners, included in the other counts,
+     *     whose target has been garbage collected but which have not been removed yet
+     */
+    public record ListenerCount(ObservableValue<?> observable, int invalidationListeners,
+                                int changeListeners, int collectedListeners) {
+
+        public int total() {
+            return invalidationListeners + changeListeners;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder result = new StringBuilder();
+            result.append(total()).append(" listeners (")
+                  .append(invalidationListeners).append(" invalidation, ")
+                  .append(changeListeners).append(" change, ")
+                  .append(collectedListeners).append(" collected): ")
+                  .append(observable.getClass().getName()).append('@')
+                  .append(Integer.toHexString(System.identityHashCode(observable)));
+            if (observable instanceof ReadOnlyProperty<?> property) {
+                final Object bean = property.getBean();
+                result.append(" [bean: ").append((bean == null)? null : bean.getClass().getName())
+                      .append(", name: ").append(property.getName()).append(']');
+            }
+            return result.toString();
+        }
+    }
+
+    /**
+     * Returns whether listeners are being tracked.
+     *
+     * @return {@code true} if the system property {@code javafx.listenerDiagnostics} is set
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the listener counts of all observables that have at least {@code minimum} listeners,
+     * ordered by the number of listeners, largest first. Returns an empty list if listeners are
+     * not being tracked.
+     *
+     * @param minimum the minimum number of listeners
+     * @return the listener counts
+     */
+    public static List<ListenerCount> getListenerCounts(int minimum) {
+        final List<ExpressionHelper<?>> current = new ArrayList<>();
+        synchronized (helpers) {
+            for (Tracked tracked : helpers.values()) {
+                final ExpressionHelper<?> helper = tracked.helper.get();
+                if (helper != null) {
+                    current.add(helper);
+                }
+            }
+        }
+        final List<ListenerCount> result = new ArrayList<>();
+        for (ExpressionHelper<?> helper : current) {
+            final ListenerCount count = helper.countListeners();
+            if (count.total() >= minimum) {
+                result.add(count);
+            }
+        }
+        result.sort(Comparator.comparingInt(ListenerCount::total).reversed());
+        return result;
+    }
+
+    /**
+     * Returns a human-readable report of the observables that have at least {@code minimum} listeners.
+     *
+     * @param minimum the minimum number of listeners
+     * @return the report, one line per observable
+     */
+    public static String report(int minimum) {
+        final StringBuilder report = new StringBuilder();
+        for (ListenerCount count : getListenerCounts(minimum)) {
+            report.append(count).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    static void update(ObservableValue<?> observable, ExpressionHelper<?> helper) {
+        ListenerCount leak = null;
+        synchronized (helpers) {
+            if (helper == null) {
+                helpers.remove(observable);
+            } else {
+                final Tracked tracked = helpers.computeIfAbsent(observable, k -> new Tracked());
+                if ((tracked.helper == null) || (tracked.helper.get() != helper)) {
+                    tracked.helper = new WeakReference<>(helper);
+                }
+                final int count = helper.getListenerCount();
+                if (count >= tracked.reportAt) {
+                    tracked.reportAt = Math.max(count, 1) * 2;
+                    leak = helper.countListeners();
+                }
+            }
+        }
+        if (leak != null) {
+            Logging.getLogger().warning("Possible listener leak, " + leak);
+        }
+    }
+
+    static int countCollected(Object[] listeners, int size) {
+        int count = 0;
+        if (listeners != null) {
+            size = Math.min(size, listeners.length);
+            for (int i = 0; i < size; i++) {
+                if ((listeners[i] instanceof WeakListener listener) && listener.wasGarbageCollected()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
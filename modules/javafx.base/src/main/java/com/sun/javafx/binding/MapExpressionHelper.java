@@ -318,7 +318,10 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         private int invalidationSize;
         private int changeSize;
         private int mapChangeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
         private ObservableMap<K, V> currentValue;
 
         private Generic(ObservableMapValue<K, V> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -368,14 +371,53 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
             this.currentValue = observable.getValue();
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    mapChangeSize = trim(mapChangeSize, mapChangeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners)
+                        || containsWeakListener(mapChangeSize, mapChangeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected MapExpressionHelper<K, V> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -392,6 +434,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected MapExpressionHelper<K, V> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -408,7 +451,8 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index+1);
                             }
@@ -416,7 +460,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -429,12 +473,14 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected MapExpressionHelper<K, V> addListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -454,6 +500,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected MapExpressionHelper<K, V> removeListener(ChangeListener<? super ObservableMap<K, V>> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -470,7 +517,8 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super ObservableMap<K, V>>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index+1);
                             }
@@ -478,7 +526,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -491,12 +539,14 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected MapExpressionHelper<K, V> addListener(MapChangeListener<? super K, ? super V> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (mapChangeListeners == null) {
                 mapChangeListeners = new MapChangeListener[] {listener};
                 mapChangeSize = 1;
             } else {
                 final int oldCapacity = mapChangeListeners.length;
-                if (locked) {
+                if (copyOnWrite(COLLECTION_CHANGE_LISTENERS)) {
                     final int newCapacity = (mapChangeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     mapChangeListeners = Arrays.copyOf(mapChangeListeners, newCapacity);
                 } else if (mapChangeSize == oldCapacity) {
@@ -516,6 +566,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
 
         @Override
         protected MapExpressionHelper<K, V> removeListener(MapChangeListener<? super K, ? super V> listener) {
+            trimCollected();
             if (mapChangeListeners != null) {
                 for (int index = 0; index < mapChangeSize; index++) {
                     if (listener.equals(mapChangeListeners[index])) {
@@ -532,7 +583,8 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = mapChangeSize - index - 1;
                             final MapChangeListener<? super K, ? super V>[] oldListeners = mapChangeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(COLLECTION_CHANGE_LISTENERS);
+                            if (copy) {
                                 mapChangeListeners = new MapChangeListener[mapChangeListeners.length];
                                 System.arraycopy(oldListeners, 0, mapChangeListeners, 0, index+1);
                             }
@@ -540,7 +592,7 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, mapChangeListeners, index, numMoved);
                             }
                             mapChangeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 mapChangeListeners[mapChangeSize] = null; // Let gc do its work
                             }
                         }
@@ -569,14 +621,16 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
         }
 
         private void notifyListeners(ObservableMap<K, V> oldValue, SimpleChange<K, V> change) {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ChangeListener<? super ObservableMap<K, V>>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
             final MapChangeListener<? super K, ? super V>[] curListChangeList = mapChangeListeners;
             final int curListChangeSize = mapChangeSize;
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     curInvalidationList[i].invalidated(observable);
                 }
@@ -638,7 +692,9 @@ public abstract class MapExpressionHelper<K, V> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
             }
         }
 
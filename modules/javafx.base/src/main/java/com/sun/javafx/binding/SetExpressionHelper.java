@@ -309,7 +309,10 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         private int invalidationSize;
         private int changeSize;
         private int setChangeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
         private ObservableSet<E> currentValue;
 
         private Generic(ObservableSetValue<E> observable, InvalidationListener listener0, InvalidationListener listener1) {
@@ -359,14 +362,53 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
             this.currentValue = observable.getValue();
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    setChangeSize = trim(setChangeSize, setChangeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners)
+                        || containsWeakListener(setChangeSize, setChangeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected SetExpressionHelper<E> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -383,6 +425,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected SetExpressionHelper<E> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -399,7 +442,8 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index+1);
                             }
@@ -407,7 +451,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -420,12 +464,14 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected SetExpressionHelper<E> addListener(ChangeListener<? super ObservableSet<E>> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -445,6 +491,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected SetExpressionHelper<E> removeListener(ChangeListener<? super ObservableSet<E>> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -461,7 +508,8 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ChangeListener<? super ObservableSet<E>>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index+1);
                             }
@@ -469,7 +517,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -482,12 +530,14 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected SetExpressionHelper<E> addListener(SetChangeListener<? super E> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (setChangeListeners == null) {
                 setChangeListeners = new SetChangeListener[] {listener};
                 setChangeSize = 1;
             } else {
                 final int oldCapacity = setChangeListeners.length;
-                if (locked) {
+                if (copyOnWrite(COLLECTION_CHANGE_LISTENERS)) {
                     final int newCapacity = (setChangeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     setChangeListeners = Arrays.copyOf(setChangeListeners, newCapacity);
                 } else if (setChangeSize == oldCapacity) {
@@ -507,6 +557,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected SetExpressionHelper<E> removeListener(SetChangeListener<? super E> listener) {
+            trimCollected();
             if (setChangeListeners != null) {
                 for (int index = 0; index < setChangeSize; index++) {
                     if (listener.equals(setChangeListeners[index])) {
@@ -523,7 +574,8 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = setChangeSize - index - 1;
                             final SetChangeListener<? super E>[] oldListeners = setChangeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(COLLECTION_CHANGE_LISTENERS);
+                            if (copy) {
                                 setChangeListeners = new SetChangeListener[setChangeListeners.length];
                                 System.arraycopy(oldListeners, 0, setChangeListeners, 0, index+1);
                             }
@@ -531,7 +583,7 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, setChangeListeners, index, numMoved);
                             }
                             setChangeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 setChangeListeners[setChangeSize] = null; // Let gc do its work
                             }
                         }
@@ -560,14 +612,16 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
         }
 
         private void notifyListeners(ObservableSet<E> oldValue, SimpleChange<E> change) {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ChangeListener<? super ObservableSet<E>>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
             final SetChangeListener<? super E>[] curListChangeList = setChangeListeners;
             final int curListChangeSize = setChangeSize;
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     curInvalidationList[i].invalidated(observable);
                 }
@@ -619,7 +673,9 @@ public abstract class SetExpressionHelper<E> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
             }
         }
 
@@ -179,7 +179,10 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
         private ArrayChangeListener<T>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
 
         private Generic(T observable, InvalidationListener listener0, InvalidationListener listener1) {
             super(observable);
@@ -201,14 +204,51 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
             this.changeSize = 1;
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected Generic<T> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -225,6 +265,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
         @Override
         protected ArrayListenerHelper<T> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -239,7 +280,8 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index+1);
                             }
@@ -247,7 +289,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -260,12 +302,14 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
         @Override
         protected ArrayListenerHelper<T> addListener(ArrayChangeListener<T> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ArrayChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -282,6 +326,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
         @Override
         protected ArrayListenerHelper<T> removeListener(ArrayChangeListener<T> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -296,7 +341,8 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ArrayChangeListener<T>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ArrayChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index+1);
                             }
@@ -304,7 +350,7 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -317,13 +363,14 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
 
         @Override
         protected void fireValueChangedEvent(boolean sizeChanged, int from, int to) {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ArrayChangeListener<T>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
-
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
                         curInvalidationList[i].invalidated(observable);
@@ -339,7 +386,9 @@ public abstract class ArrayListenerHelper<T extends ObservableArray<T>> extends
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
             }
         }
     }
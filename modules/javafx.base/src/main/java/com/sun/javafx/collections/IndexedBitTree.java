@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.Arrays;
+
+/**
+ * A sequence of bits that supports positional insertion and removal as well as
+ * rank and select queries in expected O(log n) time. Used by
+ * {@link javafx.collections.transformation.FilteredList} to map between view and
+ * source indexes of large lists without shifting a flat index array on every change.
+ * <p>
+ * The sequence is stored as an implicit treap in parallel primitive arrays. Every
+ * node holds a single bit together with the number of nodes and the number of set
+ * bits in its subtree. Node {@code 0} is the empty sentinel.
+ */
+public final class IndexedBitTree {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] left;
+    private int[] right;
+    private int[] priority;
+    private int[] count;
+    private int[] ones;
+    private boolean[] bit;
+
+    private int root;
+    private int freeList;
+    private int next = 1;
+    private int seed = 0x2545F491;
+
+    // used by build() as the right spine of the partially built tree
+    private int[] spine = new int[INITIAL_CAPACITY];
+
+    public IndexedBitTree() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of bits in this sequence.
+     * @return the number of bits
+     */
+    public int size() {
+        return count[root];
+    }
+
+    /**
+     * Returns the number of set bits in this sequence.
+     * @return the number of set bits
+     */
+    public int cardinality() {
+        return ones[root];
+    }
+
+    /**
+     * Returns the bit at the given position.
+     * @param index the position of the bit
+     * @return the value of the bit
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        int n = root;
+        while (true) {
+            int l = count[left[n]];
+            if (index < l) {
+                n = left[n];
+            } else if (index == l) {
+                return bit[n];
+            } else {
+                index -= l + 1;
+                n = right[n];
+            }
+        }
+    }
+
+    /**
+     * Sets the bit at the given position.
+     * @param index the position of the bit
+     * @param value the new value
+     * @return the previous value of the bit
+     */
+    public boolean set(int index, boolean value) {
+        checkIndex(index);
+        return set(root, index, value);
+    }
+
+    private boolean set(int n, int index, boolean value) {
+        int l = count[left[n]];
+        boolean old;
+        if (index < l) {
+            old = set(left[n], index, value);
+        } else if (index == l) {
+            old = bit[n];
+            bit[n] = value;
+        } else {
+            old = set(right[n], index - l - 1, value);
+        }
+        if (old != value) {
+            ones[n] += value ? 1 : -1;
+        }
+        return old;
+    }
+
+    /**
+     * Returns the number of set bits at positions lower than {@code index}.
+     * @param index the position, between {@code 0} and {@link #size()} inclusive
+     * @return the number of set bits before {@code index}
+     */
+    public int rank(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int result = 0;
+        int n = root;
+        while (n != 0) {
+            int l = count[left[n]];
+            if (index <= l) {
+                n = left[n];
+            } else {
+                result += ones[left[n]] + (bit[n] ? 1 : 0);
+                index -= l + 1;
+                n = right[n];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the {@code k}-th set bit.
+     * @param k the zero based number of the set bit
+     * @return the position of the set bit
+     */
+    public int select(int k) {
+        if (k < 0 || k >= cardinality()) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + cardinality());
+        }
+        int result = 0;
+        int n = root;
+        while (true) {
+            int l = ones[left[n]];
+            if (k < l) {
+                n = left[n];
+            } else {
+                int self = bit[n] ? 1 : 0;
+                if (k < l + self) {
+                    return result + count[left[n]];
+                }
+                k -= l + self;
+                result += count[left[n]] + 1;
+                n = right[n];
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code length} bits from {@code values} at the given position.
+     * @param index the position where the first bit is inserted
+     * @param values the source of the bits
+     * @param offset the position of the first bit in {@code values}
+     * @param length the number of bits to insert
+     */
+    public void insert(int index, boolean[] values, int offset, int length) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (length == 0) {
+            return;
+        }
+        int inserted = build(values, offset, length);
+        int[] parts = split(root, index);
+        root = merge(merge(parts[0], inserted), parts[1]);
+    }
+
+    /**
+     * Removes the bits in the range {@code [from, to)}.
+     * @param from the first position to remove, inclusive
+     * @param to the last position to remove, exclusive
+     */
+    public void remove(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("[" + from + ", " + to + ") of size " + size());
+        }
+        if (from == to) {
+            return;
+        }
+        int[] tail = split(root, to);
+        int[] head = split(tail[0], from);
+        release(head[1]);
+        root = merge(head[0], tail[1]);
+    }
+
+    /**
+     * Replaces the content of this sequence with the given bits.
+     * @param values the source of the bits
+     * @param length the number of bits
+     */
+    public void setAll(boolean[] values, int length) {
+        root = 0;
+        freeList = 0;
+        next = 1;
+        if (count.length <= length) {
+            allocate(length + 1);
+        }
+        root = build(values, 0, length);
+    }
+
+    /**
+     * Copies the bits in the range {@code [from, to)} into {@code dest}.
+     * @param from the first position to copy, inclusive
+     * @param to the last position to copy, exclusive
+     * @param dest the destination array, at least {@code to - from} long
+     */
+    public void copyTo(int from, int to, boolean[] dest) {
+        copyTo(root, 0, from, to, dest);
+    }
+
+    private void copyTo(int n, int offset, int from, int to, boolean[] dest) {
+        if (n == 0 || offset >= to || offset + count[n] <= from) {
+            return;
+        }
+        int pos = offset + count[left[n]];
+        copyTo(left[n], offset, from, to, dest);
+        if (pos >= from && pos < to) {
+            dest[pos - from] = bit[n];
+        }
+        copyTo(right[n], pos + 1, from, to, dest);
+    }
+
+    private int[] split(int n, int index) {
+        if (n == 0) {
+            return new int[] {0, 0};
+        }
+        int l = count[left[n]];
+        if (index <= l) {
+            int[] parts = split(left[n], index);
+            left[n] = parts[1];
+            update(n);
+            parts[1] = n;
+            return parts;
+        } else {
+            int[] parts = split(right[n], index - l - 1);
+            right[n] = parts[0];
+            update(n);
+            parts[0] = n;
+            return parts;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        } else {
+            left[b] = merge(a, left[b]);
+            update(b);
+            return b;
+        }
+    }
+
+    /**
+     * Builds a treap of the given bits in linear time by maintaining the right
+     * spine of the tree built so far.
+     */
+    private int build(boolean[] values, int offset, int length) {
+        int top = 0;
+        for (int i = 0; i < length; i++) {
+            int n = newNode(values[offset + i]);
+            int last = 0;
+            while (top > 0 && priority[spine[top - 1]] < priority[n]) {
+                last = spine[--top];
+                update(last);
+            }
+            left[n] = last;
+            if (top > 0) {
+                right[spine[top - 1]] = n;
+            }
+            if (top == spine.length) {
+                spine = Arrays.copyOf(spine, top * 2);
+            }
+            spine[top++] = n;
+        }
+        while (top > 1) {
+            update(spine[--top]);
+        }
+        if (top == 0) {
+            return 0;
+        }
+        update(spine[0]);
+        return spine[0];
+    }
+
+    private void update(int n) {
+        count[n] = count[left[n]] + count[right[n]] + 1;
+        ones[n] = ones[left[n]] + ones[right[n]] + (bit[n] ? 1 : 0);
+    }
+
+    private int newNode(boolean value) {
+        int n;
+        if (freeList != 0) {
+            n = freeList;
+            freeList = right[n];
+        } else {
+            if (next == count.length) {
+                allocate(count.length + (count.length >> 1));
+            }
+            n = next++;
+        }
+        // xorshift, good enough to keep the expected depth logarithmic
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        priority[n] = seed;
+        left[n] = 0;
+        right[n] = 0;
+        bit[n] = value;
+        count[n] = 1;
+        ones[n] = value ? 1 : 0;
+        return n;
+    }
+
+    private void release(int n) {
+        if (n == 0) {
+            return;
+        }
+        release(left[n]);
+        release(right[n]);
+        left[n] = 0;
+        right[n] = freeList;
+        freeList = n;
+    }
+
+    private void allocate(int capacity) {
+        if (count == null) {
+            left = new int[capacity];
+            right = new int[capacity];
+            priority = new int[capacity];
+            count = new int[capacity];
+            ones = new int[capacity];
+            bit = new boolean[capacity];
+        } else {
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            priority = Arrays.copyOf(priority, capacity);
+            count = Arrays.copyOf(count, capacity);
+            ones = Arrays.copyOf(ones, capacity);
+            bit = Arrays.copyOf(bit, capacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+}
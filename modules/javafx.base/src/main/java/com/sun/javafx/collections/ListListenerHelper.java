@@ -76,6 +76,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         return helper != null;
     }
 
+    public static <E> boolean needsRemovedElements(ListListenerHelper<E> helper) {
+        return (helper != null) && helper.needsRemovedElements();
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Common implementations
 
@@ -87,6 +91,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
     protected abstract void fireValueChangedEvent(ListChangeListener.Change<? extends E> change);
 
+    protected abstract boolean needsRemovedElements();
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Implementations
 
@@ -126,6 +132,11 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        protected boolean needsRemovedElements() {
+            return false;
+        }
     }
 
     private static class SingleChange<E> extends ListListenerHelper<E> {
@@ -164,6 +175,11 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                 Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
             }
         }
+
+        @Override
+        protected boolean needsRemovedElements() {
+            return listener.needsRemovedElements();
+        }
     }
 
     private static class Generic<E> extends ListListenerHelper<E> {
@@ -172,7 +188,10 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
         private ListChangeListener<? super E>[] changeListeners;
         private int invalidationSize;
         private int changeSize;
-        private boolean locked;
+        private int locked; // depth of nested fireValueChangedEvent calls
+        private int shared; // listener arrays that may be referenced by a running fireValueChangedEvent
+        private int generation = collectedGeneration(); // see trimCollected()
+        private boolean weakListeners = true; // see trimCollected()
 
         private Generic(InvalidationListener listener0, InvalidationListener listener1) {
             this.invalidationListeners = new InvalidationListener[] {listener0, listener1};
@@ -191,14 +210,51 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
             this.changeSize = 1;
         }
 
+        /*
+         * Removes weak listeners that were garbage collected. The arrays are only scanned if this helper
+         * holds weak listeners and any weak listener was collected since the last scan, and never while
+         * an event is being fired. Besides before firing, this is done whenever a listener is added or
+         * removed, so properties that rarely change don't accumulate collected listeners either.
+         */
+        private void trimCollected() {
+            if (weakListeners && (locked == 0)) {
+                final int current = collectedGeneration();
+                if (generation != current) {
+                    generation = current;
+                    invalidationSize = trim(invalidationSize, invalidationListeners);
+                    changeSize = trim(changeSize, changeListeners);
+                    weakListeners = containsWeakListener(invalidationSize, invalidationListeners)
+                        || containsWeakListener(changeSize, changeListeners);
+                }
+            }
+        }
+
+        private void trackWeakListener(Object listener) {
+            if (!weakListeners && isWeakListener(listener)) {
+                // no collected listeners can be left over from before
+                weakListeners = true;
+                generation = collectedGeneration();
+            }
+        }
+
+        private boolean copyOnWrite(int array) {
+            if ((shared & array) != 0) {
+                shared &= ~array;
+                return true;
+            }
+            return false;
+        }
+
         @Override
         protected Generic<E> addListener(InvalidationListener listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (invalidationListeners == null) {
                 invalidationListeners = new InvalidationListener[] {listener};
                 invalidationSize = 1;
             } else {
                 final int oldCapacity = invalidationListeners.length;
-                if (locked) {
+                if (copyOnWrite(INVALIDATION_LISTENERS)) {
                     final int newCapacity = (invalidationSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     invalidationListeners = Arrays.copyOf(invalidationListeners, newCapacity);
                 } else if (invalidationSize == oldCapacity) {
@@ -215,6 +271,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListListenerHelper<E> removeListener(InvalidationListener listener) {
+            trimCollected();
             if (invalidationListeners != null) {
                 for (int index = 0; index < invalidationSize; index++) {
                     if (listener.equals(invalidationListeners[index])) {
@@ -229,7 +286,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = invalidationSize - index - 1;
                             final InvalidationListener[] oldListeners = invalidationListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(INVALIDATION_LISTENERS);
+                            if (copy) {
                                 invalidationListeners = new InvalidationListener[invalidationListeners.length];
                                 System.arraycopy(oldListeners, 0, invalidationListeners, 0, index);
                             }
@@ -237,7 +295,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, invalidationListeners, index, numMoved);
                             }
                             invalidationSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 invalidationListeners[invalidationSize] = null; // Let gc do its work
                             }
                         }
@@ -250,12 +308,14 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListListenerHelper<E> addListener(ListChangeListener<? super E> listener) {
+            trimCollected();
+            trackWeakListener(listener);
             if (changeListeners == null) {
                 changeListeners = new ListChangeListener[] {listener};
                 changeSize = 1;
             } else {
                 final int oldCapacity = changeListeners.length;
-                if (locked) {
+                if (copyOnWrite(CHANGE_LISTENERS)) {
                     final int newCapacity = (changeSize < oldCapacity)? oldCapacity : (oldCapacity * 3)/2 + 1;
                     changeListeners = Arrays.copyOf(changeListeners, newCapacity);
                 } else if (changeSize == oldCapacity) {
@@ -272,6 +332,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected ListListenerHelper<E> removeListener(ListChangeListener<? super E> listener) {
+            trimCollected();
             if (changeListeners != null) {
                 for (int index = 0; index < changeSize; index++) {
                     if (listener.equals(changeListeners[index])) {
@@ -286,7 +347,8 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                         } else {
                             final int numMoved = changeSize - index - 1;
                             final ListChangeListener<? super E>[] oldListeners = changeListeners;
-                            if (locked) {
+                            final boolean copy = copyOnWrite(CHANGE_LISTENERS);
+                            if (copy) {
                                 changeListeners = new ListChangeListener[changeListeners.length];
                                 System.arraycopy(oldListeners, 0, changeListeners, 0, index);
                             }
@@ -294,7 +356,7 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                                 System.arraycopy(oldListeners, index+1, changeListeners, index, numMoved);
                             }
                             changeSize--;
-                            if (!locked) {
+                            if (!copy) {
                                 changeListeners[changeSize] = null; // Let gc do its work
                             }
                         }
@@ -307,13 +369,14 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
 
         @Override
         protected void fireValueChangedEvent(ListChangeListener.Change<? extends E> change) {
+            trimCollected();
             final InvalidationListener[] curInvalidationList = invalidationListeners;
             final int curInvalidationSize = invalidationSize;
             final ListChangeListener<? super E>[] curChangeList = changeListeners;
             final int curChangeSize = changeSize;
-
+            locked++;
+            shared = ALL_LISTENERS;
             try {
-                locked = true;
                 for (int i = 0; i < curInvalidationSize; i++) {
                     try {
                         curInvalidationList[i].invalidated(change.getList());
@@ -330,8 +393,20 @@ public abstract class ListListenerHelper<E> extends ExpressionHelperBase {
                     }
                 }
             } finally {
-                locked = false;
+                if (--locked == 0) {
+                    shared = 0;
+                }
+            }
+        }
+
+        @Override
+        protected boolean needsRemovedElements() {
+            for (int i = 0; i < changeSize; i++) {
+                if (changeListeners[i].needsRemovedElements()) {
+                    return true;
+                }
             }
+            return false;
         }
     }
 
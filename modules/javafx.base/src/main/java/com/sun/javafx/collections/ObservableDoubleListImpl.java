@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * ObservableDoubleList default implementation.
+ */
+public class ObservableDoubleListImpl extends ObservableListBase<Double> implements ObservableDoubleList, RandomAccess {
+
+    private static final double[] INITIAL = new double[0];
+
+    private double[] array = INITIAL;
+    private int size = 0;
+
+    /**
+     * Creates empty observable double list
+     */
+    public ObservableDoubleListImpl() {
+    }
+
+    /**
+     * Creates observable double list with copy of given initial values
+     * @param elements initial values to copy to observable double list
+     */
+    public ObservableDoubleListImpl(double... elements) {
+        array = elements.clone();
+        size = elements.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        rangeCheck(index);
+        return array[index];
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        return setDouble(index, element);
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        rangeCheck(index);
+        double old = array[index];
+        array[index] = value;
+        if (hasListeners()) {
+            fireChange(new RemovedValuesChange(index, index + 1, new double[] {old}, 0, 1, this));
+        }
+        return old;
+    }
+
+    @Override
+    public boolean add(Double element) {
+        addDouble(element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        double value = element;
+        insertCheck(index);
+        growCapacity(1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+        modCount++;
+        fireAdded(index, index + 1);
+    }
+
+    @Override
+    public void addDouble(double value) {
+        growCapacity(1);
+        array[size++] = value;
+        modCount++;
+        fireAdded(size - 1, size);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        insertCheck(index);
+        double[] values = toPrimitive(c);
+        addAllInternal(index, values, 0, values.length);
+        return values.length != 0;
+    }
+
+    @Override
+    public void addAll(double[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        addAllInternal(size, src, srcIndex, length);
+    }
+
+    @Override
+    public void addAll(int index, double[] src, int srcIndex, int length) {
+        insertCheck(index);
+        rangeCheck(src, srcIndex, length);
+        addAllInternal(index, src, srcIndex, length);
+    }
+
+    private void addAllInternal(int index, double[] src, int srcIndex, int length) {
+        if (length == 0) {
+            return;
+        }
+        growCapacity(length);
+        System.arraycopy(array, index, array, index + length, size - index);
+        System.arraycopy(src, srcIndex, array, index, length);
+        size += length;
+        modCount++;
+        fireAdded(index, index + length);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Double> col) {
+        double[] values = toPrimitive(col);
+        setAllInternal(values, 0, values.length);
+        return true;
+    }
+
+    @Override
+    public void setAll(double[] src, int srcIndex, int length) {
+        rangeCheck(src, srcIndex, length);
+        setAllInternal(src, srcIndex, length);
+    }
+
+    private void setAllInternal(double[] src, int srcIndex, int length) {
+        if (size == 0 && length == 0) {
+            return;
+        }
+        RemovedValuesChange change = hasListeners()
+                ? new RemovedValuesChange(0, length, array, 0, size, this) : null;
+        size = 0;
+        ensureCapacity(length);
+        System.arraycopy(src, srcIndex, array, 0, length);
+        size = length;
+        modCount++;
+        if (change != null) {
+            fireChange(change);
+        }
+    }
+
+    @Override
+    public Double remove(int index) {
+        rangeCheck(index);
+        double old = array[index];
+        removeInternal(index, index + 1);
+        return old;
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        removeRange(from, to);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + ") of size " + size);
+        }
+        removeInternal(fromIndex, toIndex);
+    }
+
+    @Override
+    public void clear() {
+        removeInternal(0, size);
+    }
+
+    private void removeInternal(int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return;
+        }
+        RemovedValuesChange change = hasListeners()
+                ? new RemovedValuesChange(from, from, array, from, length, this) : null;
+        System.arraycopy(array, to, array, from, size - to);
+        size -= length;
+        modCount++;
+        if (change != null) {
+            fireChange(change);
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return batchRemove(c, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return batchRemove(c, true);
+    }
+
+    private boolean batchRemove(Collection<?> c, boolean complement) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        boolean notify = hasListeners();
+        if (notify) {
+            beginChange();
+        }
+        int w = 0;
+        for (int r = 0; r < size; r++) {
+            double value = array[r];
+            if (c.contains(value) == complement) {
+                array[w++] = value;
+            } else if (notify) {
+                nextRemove(w, value);
+            }
+        }
+        boolean modified = w != size;
+        if (modified) {
+            size = w;
+            modCount++;
+        }
+        if (notify) {
+            endChange();
+        }
+        return modified;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Double) {
+            double value = (Double) o;
+            for (int i = 0; i < size; i++) {
+                if (Double.compare(array[i], value) == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Double) {
+            double value = (Double) o;
+            for (int i = size - 1; i >= 0; i--) {
+                if (Double.compare(array[i], value) == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        if (srcIndex < 0 || length < 0 || srcIndex + length > size) {
+            throw new ArrayIndexOutOfBoundsException(size);
+        }
+        System.arraycopy(array, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Increases the capacity of the backing array, if necessary, to hold
+     * at least the given number of elements.
+     * @param capacity the desired minimum capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (array.length < capacity) {
+            array = Arrays.copyOf(array, capacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (array.length != size) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    private void fireAdded(int from, int to) {
+        if (hasListeners()) {
+            fireChange(new NonIterableChange.SimpleAddChange<>(from, to, this));
+        }
+    }
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private void growCapacity(int length) {
+        int minCapacity = size + length;
+        int oldCapacity = array.length;
+        if (minCapacity > array.length) {
+            int newCapacity = oldCapacity + (oldCapacity >> 1);
+            if (newCapacity < minCapacity) newCapacity = minCapacity;
+            if (newCapacity > MAX_ARRAY_SIZE) newCapacity = hugeCapacity(minCapacity);
+            ensureCapacity(newCapacity);
+        } else if (length > 0 && minCapacity < 0) {
+            throw new OutOfMemoryError(); // overflow
+        }
+    }
+
+    private static int hugeCapacity(int minCapacity) {
+        if (minCapacity < 0) // overflow
+            throw new OutOfMemoryError();
+        return (minCapacity > MAX_ARRAY_SIZE) ?
+            Integer.MAX_VALUE :
+            MAX_ARRAY_SIZE;
+    }
+
+    private static double[] toPrimitive(Collection<? extends Double> c) {
+        if (c instanceof ObservableDoubleList) {
+            return ((ObservableDoubleList) c).toDoubleArray();
+        }
+        double[] values = new double[c.size()];
+        int i = 0;
+        for (Double value : c) {
+            values[i++] = value;
+        }
+        return values;
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void insertCheck(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static void rangeCheck(double[] src, int srcIndex, int length) {
+        if (src == null) throw new NullPointerException();
+        if (srcIndex < 0 || srcIndex + length > src.length) {
+            throw new ArrayIndexOutOfBoundsException(src.length);
+        }
+        if (length < 0) throw new ArrayIndexOutOfBoundsException(-1);
+    }
+
+    /**
+     * Add/remove change that keeps a private copy of the removed values and
+     * boxes them only when a listener asks for {@link #getRemoved()}.
+     */
+    private static final class RemovedValuesChange extends NonIterableChange<Double> {
+
+        private final double[] removed;
+        private List<Double> removedList;
+
+        RemovedValuesChange(int from, int to, double[] src, int srcIndex, int length, ObservableList<Double> list) {
+            super(from, to, list);
+            this.removed = Arrays.copyOfRange(src, srcIndex, srcIndex + length);
+        }
+
+        @Override
+        public List<Double> getRemoved() {
+            checkState();
+            if (removedList == null) {
+                removedList = removed.length == 0 ? Collections.emptyList() : new RemovedList();
+            }
+            return removedList;
+        }
+
+        @Override
+        public int getRemovedSize() {
+            checkState();
+            return removed.length;
+        }
+
+        @Override
+        public boolean wasRemoved() {
+            checkState();
+            return removed.length != 0;
+        }
+
+        private final class RemovedList extends AbstractList<Double> implements RandomAccess {
+            @Override
+            public Double get(int index) {
+                return removed[index];
+            }
+
+            @Override
+            public int size() {
+                return removed.length;
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javafx.collections.ObservableList;
+import javafx.collections.StagingObservableList;
+
+/**
+ * StagingObservableList default implementation. The edits are staged in a lock-free
+ * multi-producer, single-consumer queue, which is drained by {@link #commit()}.
+ *
+ * @param <E> the type of the elements
+ */
+public class StagingObservableListImpl<E> extends ObservableListWrapper<E> implements StagingObservableList<E> {
+
+    private static final class Node<E> {
+        final Consumer<? super ObservableList<E>> edit;
+        volatile Node<E> next;
+
+        Node(Consumer<? super ObservableList<E>> edit) {
+            this.edit = edit;
+        }
+    }
+
+    private final Executor commitExecutor;
+    private final AtomicReference<Node<E>> tail;
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    // Only accessed by the consumer
+    private Node<E> head;
+
+    private volatile int maxQueueDepth;
+    private volatile long commitCount;
+    private volatile long appliedEditCount;
+    private volatile long lastCommitNanos;
+    private volatile long totalCommitNanos;
+
+    public StagingObservableListImpl(Executor commitExecutor) {
+        this(new ArrayList<>(), commitExecutor);
+    }
+
+    public StagingObservableListImpl(List<E> list, Executor commitExecutor) {
+        super(list);
+        this.commitExecutor = Objects.requireNonNull(commitExecutor, "Commit executor must be specified.");
+        head = new Node<>(null);
+        tail = new AtomicReference<>(head);
+    }
+
+    @Override
+    public void stage(Consumer<? super ObservableList<E>> edit) {
+        Objects.requireNonNull(edit, "Edit must be specified.");
+        final Node<E> node = new Node<>(edit);
+        final int depth = queueDepth.incrementAndGet();
+        if (depth > maxQueueDepth) {
+            // Racy, the maximum is only a diagnostic
+            maxQueueDepth = depth;
+        }
+        final Node<E> prev = tail.getAndSet(node);
+        prev.next = node;
+        // The commit flag is only checked once the node is linked, so a commit that resets the
+        // flag either sees the node or is followed by another commit
+        if (commitScheduled.compareAndSet(false, true)) {
+            commitExecutor.execute(this::commit);
+        }
+    }
+
+    @Override
+    public void stageAdd(E element) {
+        stage(l -> l.add(element));
+    }
+
+    @Override
+    public void stageAddAll(Collection<? extends E> elements) {
+        final List<E> copy = new ArrayList<>(elements);
+        stage(l -> l.addAll(copy));
+    }
+
+    @Override
+    public void stageSet(int index, E element) {
+        stage(l -> l.set(index, element));
+    }
+
+    @Override
+    public void stageRemove(Object element) {
+        stage(l -> l.remove(element));
+    }
+
+    @Override
+    public void stageSetAll(Collection<? extends E> elements) {
+        final List<E> copy = new ArrayList<>(elements);
+        stage(l -> l.setAll(copy));
+    }
+
+    @Override
+    public void stageClear() {
+        stage(List::clear);
+    }
+
+    @Override
+    public void commit() {
+        commitScheduled.set(false);
+        Node<E> next = head.next;
+        if (next == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        int applied = 0;
+        beginChange();
+        try {
+            do {
+                head = next;
+                try {
+                    next.edit.accept(this);
+                } catch (Exception e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+                applied++;
+                next = next.next;
+            } while (next != null);
+        } finally {
+            queueDepth.addAndGet(-applied);
+            endChange();
+        }
+        final long time = System.nanoTime() - start;
+        lastCommitNanos = time;
+        totalCommitNanos += time;
+        appliedEditCount += applied;
+        commitCount++;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    @Override
+    public long getCommitCount() {
+        return commitCount;
+    }
+
+    @Override
+    public long getAppliedEditCount() {
+        return appliedEditCount;
+    }
+
+    @Override
+    public long getLastCommitNanos() {
+        return lastCommitNanos;
+    }
+
+    @Override
+    public long getTotalCommitNanos() {
+        return totalCommitNanos;
+    }
+}
@@ -173,6 +173,10 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
     @Override
     public final Event dispatchCapturingEvent(Event event) {
+        if (eventHandlerMap.isEmpty()) {
+            return event;
+        }
+
         EventType<? extends Event> eventType = event.getEventType();
         do {
             event = dispatchCapturingEvent(eventType, event);
@@ -184,6 +188,10 @@ public class EventHandlerManager extends BasicEventDispatcher {
 
     @Override
     public final Event dispatchBubblingEvent(Event event) {
+        if (eventHandlerMap.isEmpty()) {
+            return event;
+        }
+
         EventType<? extends Event> eventType = event.getEventType();
         do {
             event = dispatchBubblingEvent(eventType, event);
@@ -25,8 +25,8 @@
 
 package com.sun.javafx.event;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Arrays;
+import java.util.Objects;
 
 import javafx.event.Event;
 import javafx.event.EventDispatcher;
@@ -56,7 +56,15 @@ import javafx.event.EventType;
 public class EventRedirector extends BasicEventDispatcher {
     private final EventDispatchChainImpl eventDispatchChain;
 
-    private final List<EventDispatcher> eventDispatchers;
+    private static final EventDispatcher[] NO_EVENT_DISPATCHERS =
+            new EventDispatcher[0];
+
+    /**
+     * The child dispatchers. The array is replaced rather than modified, so
+     * it can be iterated without a copy or an iterator while the dispatchers
+     * are added or removed.
+     */
+    private volatile EventDispatcher[] eventDispatchers = NO_EVENT_DISPATCHERS;
     private final Object eventSource;
 
     /**
@@ -66,7 +74,6 @@ public class EventRedirector extends BasicEventDispatcher {
      *      ({@code RedirectedEvent} event source)
      */
     public EventRedirector(final Object eventSource) {
-        this.eventDispatchers = new CopyOnWriteArrayList<>();
         this.eventDispatchChain = new EventDispatchChainImpl();
         this.eventSource = eventSource;
     }
@@ -82,14 +89,29 @@ public class EventRedirector extends BasicEventDispatcher {
             final Event event) {
     }
 
-    public final void addEventDispatcher(
+    public final synchronized void addEventDispatcher(
             final EventDispatcher eventDispatcher) {
-        eventDispatchers.add(eventDispatcher);
+        final EventDispatcher[] oldDispatchers = eventDispatchers;
+        final EventDispatcher[] newDispatchers =
+                Arrays.copyOf(oldDispatchers, oldDispatchers.length + 1);
+        newDispatchers[oldDispatchers.length] = eventDispatcher;
+        eventDispatchers = newDispatchers;
     }
 
-    public final void removeEventDispatcher(
+    public final synchronized void removeEventDispatcher(
             final EventDispatcher eventDispatcher) {
-        eventDispatchers.remove(eventDispatcher);
+        final EventDispatcher[] oldDispatchers = eventDispatchers;
+        for (int i = 0; i < oldDispatchers.length; ++i) {
+            if (Objects.equals(eventDispatcher, oldDispatchers[i])) {
+                final EventDispatcher[] newDispatchers =
+                        new EventDispatcher[oldDispatchers.length - 1];
+                System.arraycopy(oldDispatchers, 0, newDispatchers, 0, i);
+                System.arraycopy(oldDispatchers, i + 1, newDispatchers, i,
+                                 newDispatchers.length - i);
+                eventDispatchers = newDispatchers;
+                return;
+            }
+        }
     }
 
     @Override
@@ -113,7 +135,8 @@ public class EventRedirector extends BasicEventDispatcher {
     }
 
     private void redirectEvent(final Event event) {
-        if (!eventDispatchers.isEmpty()) {
+        final EventDispatcher[] eventDispatchers = this.eventDispatchers;
+        if (eventDispatchers.length != 0) {
             final RedirectedEvent redirectedEvent =
                     (event.getEventType() == RedirectedEvent.REDIRECTED)
                             ? (RedirectedEvent) event
@@ -25,38 +25,55 @@
 
 package com.sun.javafx.event;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.event.Event;
 import javafx.event.EventDispatchChain;
 import javafx.event.EventTarget;
 
 public final class EventUtil {
-    private static final EventDispatchChainImpl eventDispatchChain =
-            new EventDispatchChainImpl();
+    /**
+     * The number of pooled event dispatch chains. Events fired from within
+     * event handlers take the next free chain, so this is the nesting depth
+     * up to which no chain needs to be allocated.
+     */
+    private static final int POOL_SIZE = 8;
 
-    private static final AtomicBoolean eventDispatchChainInUse =
-            new AtomicBoolean();
+    private static final EventDispatchChainImpl[] eventDispatchChains =
+            new EventDispatchChainImpl[POOL_SIZE];
+
+    /** The bit mask of the pooled chains which are in use currently. */
+    private static final AtomicInteger eventDispatchChainsInUse =
+            new AtomicInteger();
+
+    static {
+        for (int i = 0; i < POOL_SIZE; ++i) {
+            eventDispatchChains[i] = new EventDispatchChainImpl();
+        }
+    }
 
     public static Event fireEvent(EventTarget eventTarget, Event event) {
         if (event.getTarget() != eventTarget) {
             event = event.copyFor(event.getSource(), eventTarget);
         }
 
-        if (eventDispatchChainInUse.getAndSet(true)) {
-            // the member event dispatch chain is in use currently, we need to
-            // create a new instance for this call
+        final int index = acquireEventDispatchChain();
+        if (index < 0) {
+            // all the pooled event dispatch chains are in use currently, we
+            // need to create a new instance for this call
             return fireEventImpl(new EventDispatchChainImpl(),
                                  eventTarget, event);
         }
 
+        final EventDispatchChainImpl eventDispatchChain =
+                eventDispatchChains[index];
         try {
             return fireEventImpl(eventDispatchChain, eventTarget, event);
         } finally {
             // need to do reset after use to remove references to event
             // dispatchers from the chain
             eventDispatchChain.reset();
-            eventDispatchChainInUse.set(false);
+            releaseEventDispatchChain(index);
         }
     }
 
@@ -73,4 +90,26 @@ public final class EventUtil {
                 eventTarget.buildEventDispatchChain(eventDispatchChain);
         return targetDispatchChain.dispatchEvent(event);
     }
+
+    private static int acquireEventDispatchChain() {
+        while (true) {
+            final int inUse = eventDispatchChainsInUse.get();
+            final int index = Integer.numberOfTrailingZeros(~inUse);
+            if (index >= POOL_SIZE) {
+                return -1;
+            }
+            if (eventDispatchChainsInUse.compareAndSet(inUse,
+                                                       inUse | (1 << index))) {
+                return index;
+            }
+        }
+    }
+
+    private static void releaseEventDispatchChain(final int index) {
+        final int bit = 1 << index;
+        int inUse;
+        do {
+            inUse = eventDispatchChainsInUse.get();
+        } while (!eventDispatchChainsInUse.compareAndSet(inUse, inUse & ~bit));
+    }
 }
@@ -37,4 +37,7 @@ public class Logger {
     public void incrementCounter(String counter) {}
     public void newPhase(String name) {}
     public void newInput(String name) {}
+    public void nodeStart(Object node) {}
+    public void nodeEnd(Object node) {}
+    public void dirtyRegion(int x, int y, int width, int height) {}
 }
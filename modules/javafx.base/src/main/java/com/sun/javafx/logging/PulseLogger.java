@@ -35,6 +35,14 @@ import java.util.List;
 public class PulseLogger {
     public static final boolean PULSE_LOGGING_ENABLED;
 
+    /**
+     * Whether the time spent on each node in the phases of a pulse is recorded.
+     * This is the case if pulse logging is enabled and the system property
+     * javafx.pulseLogger.nodes is set to true. The calls to nodeStart and
+     * nodeEnd must be guarded by this flag so that they cost nothing otherwise.
+     */
+    public static final boolean NODE_PROFILING_ENABLED;
+
     private static final String [] DEFAULT_LOGGERS = {"com.sun.javafx.logging.PrintLogger", "com.sun.javafx.logging.jfr.JFRPulseLogger"};
     private static final Logger[] loggers;
 
@@ -48,6 +56,7 @@ public class PulseLogger {
         }
         loggers = list.toArray(new Logger[list.size()]);
         PULSE_LOGGING_ENABLED = loggers.length > 0;
+        NODE_PROFILING_ENABLED = PULSE_LOGGING_ENABLED && isNodeProfilingRequested();
     }
 
     public static void pulseStart() {
@@ -98,6 +107,33 @@ public class PulseLogger {
         }
     }
 
+    /**
+     * Called before a node is processed in the current phase. Calls must
+     * be nested, that is the descendants of the node are processed before
+     * the matching call to nodeEnd.
+     */
+    public static void nodeStart(Object node) {
+        for (Logger logger: loggers) {
+            logger.nodeStart(node);
+        }
+    }
+
+    /**
+     * Called after the node and its descendants have been processed in the
+     * current phase.
+     */
+    public static void nodeEnd(Object node) {
+        for (Logger logger: loggers) {
+            logger.nodeEnd(node);
+        }
+    }
+
+    public static void dirtyRegion(int x, int y, int width, int height) {
+        for (Logger logger: loggers) {
+            logger.dirtyRegion(x, y, width, height);
+        }
+    }
+
     /**
      * @return true if the user requested pulse logging by setting the system
      *         property javafx.pulseLogger to true, false otherwise.
@@ -107,6 +143,15 @@ public class PulseLogger {
         return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.pulseLogger"));
     }
 
+    /**
+     * @return true if the user requested per-node profiling by setting the
+     *         system property javafx.pulseLogger.nodes to true, false otherwise.
+     */
+    @SuppressWarnings("removal")
+    private static boolean isNodeProfilingRequested() {
+        return AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.pulseLogger.nodes"));
+    }
+
     // Loading known loggers reflectively, in case an expected module isn't available
     private static Logger loadLogger(String className) {
         try {
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Name("javafx.NodeSubtree")
+@Label("JavaFX Node Subtree")
+@Category("JavaFX")
+@Description("Time spent on a node and its descendants in a phase of pulse processing")
+@StackTrace(false)
+@Enabled(false)
+@Threshold("1 ms")
+public final class JFRNodeSubtreeEvent extends Event {
+    @PulseId
+    @Label("Pulse Id")
+    private int pulseId;
+
+    @Label("Phase Name")
+    private String phaseName;
+
+    @Label("Node Class")
+    private String nodeClass;
+
+    @Label("Node")
+    private String node;
+
+    @Label("Subtree Node Count")
+    @Description("Number of nodes in the subtree that were processed")
+    private int subtreeNodeCount;
+
+    @Timespan(Timespan.NANOSECONDS)
+    @Label("Self Time")
+    @Description("Time spent on the node itself, excluding its descendants")
+    private long selfTime;
+
+    public int getPulseId() {
+        return pulseId;
+    }
+
+    public void setPulseId(int pulseId) {
+        this.pulseId = pulseId;
+    }
+
+    public String getPhaseName() {
+        return phaseName;
+    }
+
+    public void setPhaseName(String phaseName) {
+        this.phaseName = phaseName;
+    }
+
+    public String getNodeClass() {
+        return nodeClass;
+    }
+
+    public void setNodeClass(String nodeClass) {
+        this.nodeClass = nodeClass;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public void setNode(String node) {
+        this.node = node;
+    }
+
+    public int getSubtreeNodeCount() {
+        return subtreeNodeCount;
+    }
+
+    public void setSubtreeNodeCount(int subtreeNodeCount) {
+        this.subtreeNodeCount = subtreeNodeCount;
+    }
+
+    public long getSelfTime() {
+        return selfTime;
+    }
+
+    public void setSelfTime(long selfTime) {
+        this.selfTime = selfTime;
+    }
+}
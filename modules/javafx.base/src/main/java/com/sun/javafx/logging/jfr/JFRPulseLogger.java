@@ -24,6 +24,10 @@
  */
 package com.sun.javafx.logging.jfr;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import com.sun.javafx.logging.Logger;
 import com.sun.javafx.logging.PulseLogger;
 
@@ -32,6 +36,7 @@ import jdk.jfr.FlightRecorder;
 public final class JFRPulseLogger extends Logger {
     private final ThreadLocal<JFRPulsePhaseEvent> currentPulsePhaseEvent;
     private final ThreadLocal<JFRInputEvent> currentInputEvent;
+    private final ThreadLocal<NodeProfile> currentNodeProfile;
 
     private int pulseNumber;
     private int fxPulseNumber;
@@ -48,6 +53,11 @@ public final class JFRPulseLogger extends Logger {
     private JFRPulseLogger() {
         FlightRecorder.register(JFRInputEvent.class);
         FlightRecorder.register(JFRPulsePhaseEvent.class);
+        if (PulseLogger.NODE_PROFILING_ENABLED) {
+            FlightRecorder.register(JFRNodeSubtreeEvent.class);
+            FlightRecorder.register(JFRNodeClassEvent.class);
+            FlightRecorder.register(JFRDirtyRegionEvent.class);
+        }
         currentPulsePhaseEvent = new ThreadLocal<>() {
             @Override
             public JFRPulsePhaseEvent initialValue() {
@@ -60,6 +70,12 @@ public final class JFRPulseLogger extends Logger {
                 return new JFRInputEvent();
             }
         };
+        currentNodeProfile = new ThreadLocal<>() {
+            @Override
+            public NodeProfile initialValue() {
+                return new NodeProfile();
+            }
+        };
     }
 
     @Override
@@ -96,6 +112,10 @@ public final class JFRPulseLogger extends Logger {
      */
     @Override
     public void newPhase(String phaseName) {
+        if (PulseLogger.NODE_PROFILING_ENABLED) {
+            currentNodeProfile.get().newPhase(phaseName, getPulseId());
+        }
+
         JFRPulsePhaseEvent event = currentPulsePhaseEvent.get();
 
         /* Cleanup if no longer enabled */
@@ -118,10 +138,14 @@ public final class JFRPulseLogger extends Logger {
         event = new JFRPulsePhaseEvent();
         event.begin();
         event.setPhaseName(phaseName);
-        event.setPulseId(Thread.currentThread() == fxThread ? fxPulseNumber : renderPulseNumber);
+        event.setPulseId(getPulseId());
         currentPulsePhaseEvent.set(event);
     }
 
+    private int getPulseId() {
+        return Thread.currentThread() == fxThread ? fxPulseNumber : renderPulseNumber;
+    }
+
     @Override
     public void newInput(String input) {
         JFRInputEvent event = currentInputEvent.get();
@@ -148,4 +172,158 @@ public final class JFRPulseLogger extends Logger {
         event.setInput(input);
         currentInputEvent.set(event);
     }
+
+    @Override
+    public void nodeStart(Object node) {
+        currentNodeProfile.get().nodeStart(node);
+    }
+
+    @Override
+    public void nodeEnd(Object node) {
+        currentNodeProfile.get().nodeEnd(node);
+    }
+
+    @Override
+    public void dirtyRegion(int x, int y, int width, int height) {
+        JFRDirtyRegionEvent event = new JFRDirtyRegionEvent();
+        if (event.isEnabled()) {
+            event.setPulseId(getPulseId());
+            event.setX(x);
+            event.setY(y);
+            event.setWidth(width);
+            event.setHeight(height);
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the time spent on the nodes of a thread in the current phase.
+     * The time of each subtree is committed as a JFRNodeSubtreeEvent if it
+     * exceeds the threshold of the event, and the self time of the nodes is
+     * summed up per class and committed as JFRNodeClassEvents when the phase
+     * ends.
+     */
+    static final class NodeProfile {
+        private final JFRNodeSubtreeEvent subtreeProbe = new JFRNodeSubtreeEvent();
+        private final JFRNodeClassEvent classProbe = new JFRNodeClassEvent();
+
+        // The nodes being processed, outermost first
+        private Object[] nodes = new Object[32];
+        private JFRNodeSubtreeEvent[] events = new JFRNodeSubtreeEvent[32];
+        private long[] startTimes = new long[32];
+        private long[] childTimes = new long[32];
+        private int[] nodeCounts = new int[32];
+        private int depth;
+
+        // Node class -> {node count, self time}
+        private final Map<Class<?>, long[]> classTimes = new HashMap<>();
+
+        private String phaseName;
+        private int pulseId;
+        private boolean subtreeEnabled;
+        private boolean classEnabled;
+
+        void newPhase(String phaseName, int pulseId) {
+            if (classEnabled && this.phaseName != null) {
+                for (Map.Entry<Class<?>, long[]> entry : classTimes.entrySet()) {
+                    JFRNodeClassEvent event = new JFRNodeClassEvent();
+                    event.setPulseId(this.pulseId);
+                    event.setPhaseName(this.phaseName);
+                    event.setNodeClass(entry.getKey().getName());
+                    event.setNodeCount((int) entry.getValue()[0]);
+                    event.setSelfTime(entry.getValue()[1]);
+                    event.commit();
+                }
+            }
+            classTimes.clear();
+
+            // Drop the nodes of a phase that ended abruptly
+            Arrays.fill(nodes, 0, depth, null);
+            Arrays.fill(events, 0, depth, null);
+            depth = 0;
+
+            this.phaseName = phaseName;
+            this.pulseId = pulseId;
+            subtreeEnabled = subtreeProbe.isEnabled();
+            classEnabled = classProbe.isEnabled();
+        }
+
+        void nodeStart(Object node) {
+            if (phaseName == null || (!subtreeEnabled && !classEnabled)) {
+                return;
+            }
+
+            if (depth == nodes.length) {
+                int capacity = depth * 2;
+                nodes = Arrays.copyOf(nodes, capacity);
+                events = Arrays.copyOf(events, capacity);
+                startTimes = Arrays.copyOf(startTimes, capacity);
+                childTimes = Arrays.copyOf(childTimes, capacity);
+                nodeCounts = Arrays.copyOf(nodeCounts, capacity);
+            }
+
+            nodes[depth] = node;
+            childTimes[depth] = 0;
+            nodeCounts[depth] = 1;
+            if (subtreeEnabled) {
+                JFRNodeSubtreeEvent event = new JFRNodeSubtreeEvent();
+                event.begin();
+                events[depth] = event;
+            }
+            startTimes[depth] = System.nanoTime();
+            depth++;
+        }
+
+        void nodeEnd(Object node) {
+            final long endTime = System.nanoTime();
+
+            int n = depth - 1;
+            while (n >= 0 && nodes[n] != node) {
+                n--;
+            }
+            if (n < 0) {
+                // The node was started before the phase or while profiling was disabled
+                return;
+            }
+
+            // Unwind nodes whose nodeEnd was skipped by an exception
+            Arrays.fill(nodes, n + 1, depth, null);
+            Arrays.fill(events, n + 1, depth, null);
+            depth = n;
+
+            final long time = endTime - startTimes[n];
+            final long selfTime = time - childTimes[n];
+            if (n > 0) {
+                childTimes[n - 1] += time;
+                nodeCounts[n - 1] += nodeCounts[n];
+            }
+
+            if (classEnabled) {
+                long[] times = classTimes.computeIfAbsent(node.getClass(), k -> new long[2]);
+                times[0]++;
+                times[1] += selfTime;
+            }
+
+            JFRNodeSubtreeEvent event = events[n];
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.setPulseId(pulseId);
+                    event.setPhaseName(phaseName);
+                    event.setNodeClass(node.getClass().getName());
+                    event.setNode(String.valueOf(node));
+                    event.setSubtreeNodeCount(nodeCounts[n]);
+                    event.setSelfTime(selfTime);
+                    event.commit();
+                }
+            }
+
+            nodes[n] = null;
+            events[n] = null;
+        }
+
+        int getDepth() {
+            return depth;
+        }
+    }
 }
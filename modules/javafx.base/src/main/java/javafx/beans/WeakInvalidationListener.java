@@ -27,6 +27,8 @@ package javafx.beans;
 
 import java.lang.ref.WeakReference;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
+
 /**
  * A {@code WeakInvalidationListener} can be used if an {@link Observable}
  * should only maintain a weak reference to the listener. This helps to avoid
@@ -61,7 +63,7 @@ public final class WeakInvalidationListener implements InvalidationListener, Wea
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<>(listener);
+        this.ref = ExpressionHelperBase.createWeakReference(listener);
     }
 
     /**
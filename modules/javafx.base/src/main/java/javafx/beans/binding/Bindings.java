@@ -53,6 +53,7 @@ import com.sun.javafx.binding.BidirectionalBinding;
 import com.sun.javafx.binding.BidirectionalContentBinding;
 import com.sun.javafx.binding.ContentBinding;
 import com.sun.javafx.binding.DoubleConstant;
+import com.sun.javafx.binding.ExpressionHelper;
 import com.sun.javafx.binding.FloatConstant;
 import com.sun.javafx.binding.IntegerConstant;
 import com.sun.javafx.binding.Logging;
@@ -460,6 +461,42 @@ public final class Bindings {
         };
     }
 
+    // =================================================================================================================
+    // Deferred invalidation
+
+    /**
+     * Runs an action and defers the invalidation of properties and bindings that are changed
+     * by the action until it has finished.
+     * <p>
+     * Normally, changing a property notifies its listeners immediately, which in turn
+     * invalidates all bindings that depend on it. If the same property is changed many times
+     * and read in between, the dependent bindings are invalidated each time. Within the action,
+     * these notifications are collected instead. When the action has finished, every property
+     * or binding that was invalidated is notified exactly once, and change listeners receive a
+     * single event from the value before the action to the value after it.
+     * <p>
+     * Because the notifications are delayed, bindings that depend on properties changed by the
+     * action are not updated until the action has finished, and may return outdated values
+     * while it is running. Only notifications of single-valued observables, such as
+     * {@link javafx.beans.property.DoubleProperty} or {@link ObjectBinding}, are deferred;
+     * change notifications of observable collections are delivered immediately.
+     * <p>
+     * Calls can be nested, in which case the notifications are delivered when the outermost
+     * action has finished. Invalidation can only be deferred on one thread at a time, which
+     * is usually the JavaFX Application Thread.
+     *
+     * @param action the action to run, must not be {@code null}
+     * @throws NullPointerException if {@code action} is {@code null}
+     * @throws IllegalStateException if invalidation is already being deferred on another thread
+     * @since 22
+     */
+    public static void deferInvalidation(Runnable action) {
+        if (action == null) {
+            throw new NullPointerException("Action must be specified.");
+        }
+        ExpressionHelper.deferInvalidation(action);
+    }
+
 
     // =================================================================================================================
     // Select Bindings
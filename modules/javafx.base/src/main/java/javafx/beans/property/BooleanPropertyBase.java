@@ -33,6 +33,7 @@ import javafx.beans.value.ObservableBooleanValue;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.ExpressionHelperBase;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
 
@@ -227,7 +228,7 @@ public abstract class BooleanPropertyBase extends BooleanProperty {
         private final WeakReference<BooleanPropertyBase> wref;
 
         public Listener(BooleanPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
@@ -32,6 +32,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.ExpressionHelperBase;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
 import javafx.beans.value.ObservableDoubleValue;
@@ -249,7 +250,7 @@ public abstract class DoublePropertyBase extends DoubleProperty {
         private final WeakReference<DoublePropertyBase> wref;
 
         public Listener(DoublePropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
@@ -32,6 +32,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.ExpressionHelperBase;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
 import javafx.beans.value.ObservableFloatValue;
@@ -250,7 +251,7 @@ public abstract class FloatPropertyBase extends FloatProperty {
         private final WeakReference<FloatPropertyBase> wref;
 
         public Listener(FloatPropertyBase ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
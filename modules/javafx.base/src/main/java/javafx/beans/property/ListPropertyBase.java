@@ -25,6 +25,7 @@
 
 package javafx.beans.property;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import com.sun.javafx.binding.ListExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.InvalidationListener;
@@ -326,7 +327,7 @@ public abstract class ListPropertyBase<E> extends ListProperty<E> {
         private final WeakReference<ListPropertyBase<E>> wref;
 
         public Listener(ListPropertyBase<E> ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
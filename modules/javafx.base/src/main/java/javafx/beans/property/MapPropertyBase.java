@@ -25,6 +25,7 @@
 
 package javafx.beans.property;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import com.sun.javafx.binding.MapExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.InvalidationListener;
@@ -325,7 +326,7 @@ public abstract class MapPropertyBase<K, V> extends MapProperty<K, V> {
         private final WeakReference<MapPropertyBase<K,V>> wref;
 
         public Listener(MapPropertyBase<K,V> ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
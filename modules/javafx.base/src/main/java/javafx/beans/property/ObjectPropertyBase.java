@@ -31,6 +31,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.ExpressionHelperBase;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
 
@@ -222,7 +223,7 @@ public abstract class ObjectPropertyBase<T> extends ObjectProperty<T> {
         private final WeakReference<ObjectPropertyBase<?>> wref;
 
         public Listener(ObjectPropertyBase<?> ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
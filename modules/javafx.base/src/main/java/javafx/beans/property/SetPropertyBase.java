@@ -25,6 +25,7 @@
 
 package javafx.beans.property;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
 import com.sun.javafx.binding.SetExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.InvalidationListener;
@@ -326,7 +327,7 @@ public abstract class SetPropertyBase<E> extends SetProperty<E> {
         private final WeakReference<SetPropertyBase<E>> wref;
 
         public Listener(SetPropertyBase<E> ref) {
-            this.wref = new WeakReference<>(ref);
+            this.wref = ExpressionHelperBase.createWeakReference(ref);
         }
 
         @Override
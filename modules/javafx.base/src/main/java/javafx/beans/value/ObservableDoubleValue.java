@@ -25,6 +25,12 @@
 
 package javafx.beans.value;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import com.sun.javafx.binding.DoubleCombinedBinding;
+import com.sun.javafx.binding.DoubleMappedBinding;
+
 /**
  * An observable double value.
  *
@@ -42,4 +48,74 @@ public interface ObservableDoubleValue extends ObservableNumberValue {
      * @return The current value
      */
     double get();
+
+    /**
+     * Returns an {@code ObservableDoubleValue} that holds the result of applying the
+     * given mapping function on this value. The result is updated when this
+     * {@code ObservableDoubleValue} changes. Unlike {@link #map(java.util.function.Function)},
+     * the value is not boxed when it is recomputed.
+     * <p>
+     * For example, converting degrees to radians:
+     * <pre>{@code
+     * var degrees = new SimpleDoubleProperty(180);
+     * ObservableDoubleValue radians = degrees.mapToDouble(Math::toRadians);
+     *
+     * radians.get();  // Returns 3.141592653589793
+     * }</pre>
+     *
+     * @param mapper the mapping function to apply to a value, cannot be {@code null}
+     * @return an {@code ObservableDoubleValue} that holds the result of applying the given
+     *     mapping function on this value; never returns {@code null}
+     * @throws NullPointerException if the mapping function is {@code null}
+     * @since 22
+     */
+    default ObservableDoubleValue mapToDouble(DoubleUnaryOperator mapper) {
+        return new DoubleMappedBinding(this, mapper);
+    }
+
+    /**
+     * Returns an {@code ObservableDoubleValue} that holds the result of applying the
+     * given function on this value and the value of {@code other}. The result is
+     * updated when either of them changes.
+     * <p>
+     * For example, computing the area of a rectangle:
+     * <pre>{@code
+     * var width = new SimpleDoubleProperty(2);
+     * var height = new SimpleDoubleProperty(3);
+     * ObservableDoubleValue area = width.combineToDouble(height, (w, h) -> w * h);
+     *
+     * area.get();  // Returns 6.0
+     * }</pre>
+     *
+     * @param other the second operand of the function, cannot be {@code null}
+     * @param combiner the function to apply to both values, cannot be {@code null}
+     * @return an {@code ObservableDoubleValue} that holds the result of applying the given
+     *     function on both values; never returns {@code null}
+     * @throws NullPointerException if {@code other} or the function is {@code null}
+     * @since 22
+     */
+    default ObservableDoubleValue combineToDouble(ObservableDoubleValue other, DoubleBinaryOperator combiner) {
+        return new DoubleCombinedBinding(this, other, combiner);
+    }
+
+    /**
+     * Returns an {@code ObservableDoubleValue} that holds this value limited to the
+     * range from {@code min} to {@code max}. The result is updated when this
+     * {@code ObservableDoubleValue} changes. If this value is {@code NaN}, the
+     * result is {@code NaN} as well.
+     *
+     * @param min the lower bound of the range
+     * @param max the upper bound of the range
+     * @return an {@code ObservableDoubleValue} that holds this value limited to the given
+     *     range; never returns {@code null}
+     * @throws IllegalArgumentException if {@code min} or {@code max} is {@code NaN}, or
+     *     if {@code min} is greater than {@code max}
+     * @since 22
+     */
+    default ObservableDoubleValue clamped(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException(min + " > " + max);
+        }
+        return new DoubleMappedBinding(this, value -> Math.min(Math.max(value, min), max));
+    }
 }
@@ -25,6 +25,15 @@
 
 package javafx.beans.value;
 
+import java.util.Objects;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+import com.sun.javafx.binding.DoubleMappedBinding;
+import com.sun.javafx.binding.IntegerCombinedBinding;
+import com.sun.javafx.binding.IntegerMappedBinding;
+
 /**
  * An observable integer value.
  *
@@ -42,4 +51,80 @@ public interface ObservableIntegerValue extends ObservableNumberValue {
      * @return The current value
      */
     int get();
+
+    /**
+     * Returns an {@code ObservableIntegerValue} that holds the result of applying the
+     * given mapping function on this value. The result is updated when this
+     * {@code ObservableIntegerValue} changes. Unlike {@link #map(java.util.function.Function)},
+     * the value is not boxed when it is recomputed.
+     * <p>
+     * For example, converting a zero-based index to a row number:
+     * <pre>{@code
+     * var index = new SimpleIntegerProperty(0);
+     * ObservableIntegerValue rowNumber = index.mapToInt(i -> i + 1);
+     *
+     * rowNumber.get();  // Returns 1
+     * }</pre>
+     *
+     * @param mapper the mapping function to apply to a value, cannot be {@code null}
+     * @return an {@code ObservableIntegerValue} that holds the result of applying the given
+     *     mapping function on this value; never returns {@code null}
+     * @throws NullPointerException if the mapping function is {@code null}
+     * @since 22
+     */
+    default ObservableIntegerValue mapToInt(IntUnaryOperator mapper) {
+        return new IntegerMappedBinding(this, mapper);
+    }
+
+    /**
+     * Returns an {@code ObservableDoubleValue} that holds the result of applying the
+     * given mapping function on this value. The result is updated when this
+     * {@code ObservableIntegerValue} changes. Unlike {@link #map(java.util.function.Function)},
+     * the value is not boxed when it is recomputed.
+     *
+     * @param mapper the mapping function to apply to a value, cannot be {@code null}
+     * @return an {@code ObservableDoubleValue} that holds the result of applying the given
+     *     mapping function on this value; never returns {@code null}
+     * @throws NullPointerException if the mapping function is {@code null}
+     * @since 22
+     */
+    default ObservableDoubleValue mapToDouble(IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return new DoubleMappedBinding(this, value -> mapper.applyAsDouble((int) value));
+    }
+
+    /**
+     * Returns an {@code ObservableIntegerValue} that holds the result of applying the
+     * given function on this value and the value of {@code other}. The result is
+     * updated when either of them changes.
+     *
+     * @param other the second operand of the function, cannot be {@code null}
+     * @param combiner the function to apply to both values, cannot be {@code null}
+     * @return an {@code ObservableIntegerValue} that holds the result of applying the given
+     *     function on both values; never returns {@code null}
+     * @throws NullPointerException if {@code other} or the function is {@code null}
+     * @since 22
+     */
+    default ObservableIntegerValue combineToInt(ObservableIntegerValue other, IntBinaryOperator combiner) {
+        return new IntegerCombinedBinding(this, other, combiner);
+    }
+
+    /**
+     * Returns an {@code ObservableIntegerValue} that holds this value limited to the
+     * range from {@code min} to {@code max}. The result is updated when this
+     * {@code ObservableIntegerValue} changes.
+     *
+     * @param min the lower bound of the range
+     * @param max the upper bound of the range
+     * @return an {@code ObservableIntegerValue} that holds this value limited to the given
+     *     range; never returns {@code null}
+     * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+     * @since 22
+     */
+    default ObservableIntegerValue clamped(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException(min + " > " + max);
+        }
+        return new IntegerMappedBinding(this, value -> Math.min(Math.max(value, min), max));
+    }
 }
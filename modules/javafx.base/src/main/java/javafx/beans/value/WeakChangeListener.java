@@ -30,6 +30,8 @@ import javafx.beans.WeakListener;
 
 import java.lang.ref.WeakReference;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
+
 /**
  * A {@code WeakChangeListener} can be used if an {@link ObservableValue}
  * should only maintain a weak reference to the listener. This helps to avoid
@@ -64,7 +66,7 @@ public final class WeakChangeListener<T> implements ChangeListener<T>, WeakListe
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<>(listener);
+        this.ref = ExpressionHelperBase.createWeakReference(listener);
     }
 
     /**
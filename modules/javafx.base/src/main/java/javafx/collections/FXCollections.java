@@ -44,8 +44,10 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javafx.beans.InvalidationListener;
 
@@ -54,11 +56,15 @@ import com.sun.javafx.collections.ObservableMapWrapper;
 import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
+import com.sun.javafx.collections.ObservableDoubleListImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableIntegerListImpl;
+import com.sun.javafx.collections.ObservableLongListImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
 import com.sun.javafx.collections.SourceAdapterChange;
+import com.sun.javafx.collections.StagingObservableListImpl;
 import java.util.RandomAccess;
 import javafx.beans.Observable;
 import javafx.util.Callback;
@@ -307,6 +313,83 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable integer list that stores its values in an
+     * unboxed {@code int[]} array.
+     * @return a newly created ObservableIntegerList
+     * @since 22
+     */
+    public static ObservableIntegerList observableIntegerList() {
+        return new ObservableIntegerListImpl();
+    }
+
+    /**
+     * Creates a new observable integer list with a copy of {@code values} set to it.
+     * @param values the values that will be in the new observable integer list
+     * @return a newly created ObservableIntegerList
+     * @since 22
+     */
+    public static ObservableIntegerList observableIntegerList(int... values) {
+        return new ObservableIntegerListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable long list that stores its values in an
+     * unboxed {@code long[]} array.
+     * @return a newly created ObservableLongList
+     * @since 22
+     */
+    public static ObservableLongList observableLongList() {
+        return new ObservableLongListImpl();
+    }
+
+    /**
+     * Creates a new observable long list with a copy of {@code values} set to it.
+     * @param values the values that will be in the new observable long list
+     * @return a newly created ObservableLongList
+     * @since 22
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable double list that stores its values in an
+     * unboxed {@code double[]} array.
+     * @return a newly created ObservableDoubleList
+     * @since 22
+     */
+    public static ObservableDoubleList observableDoubleList() {
+        return new ObservableDoubleListImpl();
+    }
+
+    /**
+     * Creates a new observable double list with a copy of {@code values} set to it.
+     * @param values the values that will be in the new observable double list
+     * @return a newly created ObservableDoubleList
+     * @since 22
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable list that can be edited from any thread
+     * through its {@code stage} methods. The staged edits are applied by a
+     * commit that is scheduled on the given executor when the first edit of a
+     * batch is staged. Use {@code Platform::runAtNextPulse} as the executor to
+     * apply the edits on the JavaFX Application Thread once per pulse.
+     * @param <E> The type of List to be wrapped
+     * @param commitExecutor the executor that runs the commits
+     * @return a newly created StagingObservableList
+     * @throws NullPointerException if {@code commitExecutor} is null
+     * @see StagingObservableList
+     * @since 22
+     */
+    public static <E> StagingObservableList<E> observableStagingList(Executor commitExecutor) {
+        return new StagingObservableListImpl<>(commitExecutor);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an array list.
      * @see #observableList(java.util.List)
@@ -698,6 +781,46 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Runs the given action as a single batch of changes of the provided observable list.
+     * All modifications of the list made by the action, including nested batches, are merged
+     * into one {@link ListChangeListener.Change} that is fired when the action completes,
+     * even if the action completes abruptly by throwing an exception.
+     * If the merged change would be larger than describing the list as a whole, the listeners
+     * receive a single change that replaces the whole content of the list instead.
+     * <p>
+     * Changes can only be merged for lists that extend {@link ObservableListBase}, like the lists
+     * created by {@link #observableArrayList()}. For other lists, the action is simply run.
+     * <p>
+     * The following example fires just one change, although three elements are modified:
+     * <pre>
+     * FXCollections.runBatch(list, () -&gt; {
+     *     list.set(0, "a");
+     *     list.add("b");
+     *     list.remove("c");
+     * });
+     * </pre>
+     *
+     * @param list the list that is modified by the action
+     * @param action the action modifying the list
+     * @throws NullPointerException if {@code list} or {@code action} is null
+     * @since 22
+     */
+    public static void runBatch(ObservableList<?> list, Runnable action) {
+        Objects.requireNonNull(action, "action must not be null");
+        if (list instanceof ObservableListBase<?> base) {
+            base.beginBatch();
+            try {
+                action.run();
+            } finally {
+                base.endBatch();
+            }
+        } else {
+            Objects.requireNonNull(list, "list must not be null");
+            action.run();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private final ListIterator<E> iterator = new ListIterator<>() {
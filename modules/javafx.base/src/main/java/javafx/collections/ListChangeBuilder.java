@@ -26,7 +26,9 @@
 package javafx.collections;
 
 import com.sun.javafx.collections.ChangeHelper;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -41,10 +43,21 @@ final class ListChangeBuilder<E> {
     private static final int[] EMPTY_PERM = new int[0];
     private final ObservableListBase<E> list;
     private int changeLock;
+    private int batchLock;
+    private boolean batchCommit;
+    private boolean retainRemoved = true;
     private List<SubChange<E>> addRemoveChanges;
     private List<SubChange<E>> updateChanges;
     private SubChange<E> permutationChange;
 
+    /**
+     * Creates the list that collects the removed elements of a sub-change. If no listener needs
+     * the removed elements, only their number is recorded.
+     */
+    private List<E> newRemovedList() {
+        return retainRemoved ? new ArrayList<>() : new RemovedElements<>(0);
+    }
+
     private void checkAddRemoveList() {
         if (addRemoveChanges == null) {
             addRemoveChanges = new ArrayList<>();
@@ -105,7 +118,7 @@ final class ListChangeBuilder<E> {
                 change.to--;
                 change.removed.add(0, removed);
             } else {
-                ArrayList<E> removedList = new ArrayList<>();
+                List<E> removedList = newRemovedList();
                 removedList.add(removed);
                 addRemoveChanges.add(idx, new SubChange<>(pos, pos, removedList, EMPTY_PERM, false));
             }
@@ -135,7 +148,7 @@ final class ListChangeBuilder<E> {
                 change.to = to;
                 --idx;
             } else {
-                addRemoveChanges.add(idx, new SubChange<>(from, to, new ArrayList<E>(), EMPTY_PERM, false));
+                addRemoveChanges.add(idx, new SubChange<>(from, to, newRemovedList(), EMPTY_PERM, false));
             }
         } else {
             SubChange<E> change = addRemoveChanges.get(idx);
@@ -159,7 +172,7 @@ final class ListChangeBuilder<E> {
                 prev.to = cur.to;
                 if (prev.removed != null || cur.removed != null) {
                     if (prev.removed == null) {
-                        prev.removed = new ArrayList<>();
+                        prev.removed = newRemovedList();
                     }
                     prev.removed.addAll(cur.removed);
                 }
@@ -234,8 +247,21 @@ final class ListChangeBuilder<E> {
     public void nextRemove(int idx, List<? extends E> removed) {
         checkState();
 
-        for (int i = 0; i < removed.size(); ++i) {
-            nextRemove(idx, removed.get(i));
+        final int size = removed.size();
+        if (size > 0 && (addRemoveChanges == null || addRemoveChanges.isEmpty())
+                && (updateChanges == null || updateChanges.isEmpty())) {
+            // Nothing to merge with, so the elements form a single sub-change
+            checkAddRemoveList();
+            final List<E> removedList = retainRemoved ? new ArrayList<>(removed) : new RemovedElements<>(size);
+            addRemoveChanges.add(new SubChange<>(idx, idx, removedList, EMPTY_PERM, false));
+        } else if (retainRemoved) {
+            for (int i = 0; i < size; ++i) {
+                nextRemove(idx, removed.get(i));
+            }
+        } else {
+            for (int i = 0; i < size; ++i) {
+                nextRemove(idx, (E) null);
+            }
         }
     }
 
@@ -471,6 +497,12 @@ final class ListChangeBuilder<E> {
     private void commit() {
         final boolean addRemoveNotEmpty = addRemoveChanges != null && !addRemoveChanges.isEmpty();
         final boolean updateNotEmpty = updateChanges != null && !updateChanges.isEmpty();
+        if (changeLock == 0 && batchCommit) {
+            batchCommit = false;
+            if (addRemoveNotEmpty && permutationChange == null && commitAsReplaceAll()) {
+                return;
+            }
+        }
         if (changeLock == 0
                 && (addRemoveNotEmpty
                 || updateNotEmpty
@@ -529,8 +561,54 @@ final class ListChangeBuilder<E> {
         }
     }
 
+    /**
+     * Fires the collected add/remove changes as a single change that replaces the whole list,
+     * if describing them individually would take more than describing the old and the new
+     * content of the list. Every sub-change is accounted with its removed and added elements
+     * plus its two boundary indexes.
+     * @return true if the change was fired
+     */
+    private boolean commitAsReplaceAll() {
+        final int newSize = list.size();
+        int subChanges = addRemoveChanges.size() + (updateChanges != null ? updateChanges.size() : 0);
+        int removedSize = 0;
+        int addedSize = 0;
+        for (SubChange<E> c : addRemoveChanges) {
+            removedSize += c.removed == null ? 0 : c.removed.size();
+            addedSize += c.to - c.from;
+        }
+        final int oldSize = newSize - addedSize + removedSize;
+        if (2 * subChanges + removedSize + addedSize <= oldSize + newSize) {
+            return false;
+        }
+        final List<E> old;
+        if (retainRemoved) {
+            // Reconstruct the old content from the current content and the removed elements
+            old = new ArrayList<>(oldSize);
+            int pos = 0;
+            for (SubChange<E> c : addRemoveChanges) {
+                old.addAll(list.subList(pos, c.from));
+                if (c.removed != null) {
+                    old.addAll(c.removed);
+                }
+                pos = c.to;
+            }
+            old.addAll(list.subList(pos, newSize));
+        } else {
+            old = new RemovedElements<>(oldSize);
+        }
+        addRemoveChanges.clear();
+        if (updateChanges != null) {
+            updateChanges.clear();
+        }
+        list.fireChange(new SingleChange<>(finalizeSubChange(new SubChange<>(0, newSize, old, EMPTY_PERM, false)), list));
+        return true;
+    }
+
     public void beginChange() {
-        changeLock++;
+        if (changeLock++ == 0) {
+            retainRemoved = list.needsRemovedElements();
+        }
     }
 
     public void endChange() {
@@ -541,6 +619,60 @@ final class ListChangeBuilder<E> {
         commit();
     }
 
+    /**
+     * Begins a batch. A batch is a change block during which the changes that the list
+     * fires directly, without using the {@code next*} methods, are merged into this builder
+     * as well.
+     */
+    public void beginBatch() {
+        batchLock++;
+        beginChange();
+    }
+
+    public void endBatch() {
+        if (batchLock <= 0) {
+            throw new IllegalStateException("Called endBatch before beginBatch");
+        }
+        if (--batchLock == 0) {
+            batchCommit = true;
+        }
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchLock > 0;
+    }
+
+    /**
+     * Merges a change that is being fired by the list during a batch into this builder.
+     * @param c the change, reflecting the current state of the list
+     */
+    public void merge(Change<? extends E> c) {
+        while (c.next()) {
+            final int from = c.getFrom();
+            final int to = c.getTo();
+            if (c.wasPermutated()) {
+                int[] perm = new int[to - from];
+                for (int i = from; i < to; ++i) {
+                    perm[i - from] = c.getPermutation(i);
+                }
+                nextPermutation(from, to, perm);
+            } else if (c.wasUpdated()) {
+                for (int i = from; i < to; ++i) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    nextRemove(from, c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        c.reset();
+    }
+
     private static <E> SubChange<E>[] finalizeSubChangeArray(final SubChange<E>[] changes) {
         for (SubChange<E> c : changes) {
             finalizeSubChange(c);
@@ -560,6 +692,45 @@ final class ListChangeBuilder<E> {
         return c;
     }
 
+    /**
+     * Stands in for the removed elements of a sub-change if no listener needs them. Only the
+     * number of elements is recorded, the elements themselves cannot be accessed.
+     */
+    private static class RemovedElements<E> extends AbstractList<E> {
+        private int size;
+
+        RemovedElements(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            throw new UnsupportedOperationException("The removed elements were not retained, "
+                    + "as no listener needs them (see ListChangeListener.needsRemovedElements())");
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            size++;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            size += c.size();
+            return !c.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "[" + size + " removed elements]";
+        }
+    }
+
     private static class SingleChange<E> extends Change<E> {
         private final SubChange<E> change;
         private boolean onChange;
@@ -303,4 +303,24 @@ public interface ListChangeListener<E> {
      * @see Change
      */
     public void onChanged(Change<? extends E> c);
+
+    /**
+     * Returns whether this listener accesses the elements returned by {@link Change#getRemoved()}.
+     * Listeners that only need the positions and sizes of the changes, like skins that display
+     * the list, can return {@code false}.
+     * <p>
+     * If none of the listeners registered on an {@link ObservableListBase} needs the removed
+     * elements when a change begins, the list does not retain them. In the changes it fires,
+     * {@code getRemoved()} returns a list that reports the number of removed elements, so
+     * {@link Change#getRemovedSize()} and {@link Change#wasRemoved()} work as usual, but
+     * whose elements cannot be accessed.
+     * <p>
+     * The default implementation returns {@code true}.
+     *
+     * @return {@code true} if this listener accesses the removed elements of a change
+     * @since 22
+     */
+    default boolean needsRemovedElements() {
+        return true;
+    }
 }
@@ -243,9 +243,35 @@ public abstract class ObservableListBase<E> extends AbstractList<E>  implements
      * @param change an object representing the change that was done
      */
     protected final void fireChange(ListChangeListener.Change<? extends E> change) {
+        if (changeBuilder != null && changeBuilder.isInBatch()) {
+            changeBuilder.merge(change);
+            return;
+        }
         ListListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Returns whether any of the registered listeners needs the elements removed by a change.
+     * @see ListChangeListener#needsRemovedElements()
+     */
+    final boolean needsRemovedElements() {
+        return ListListenerHelper.needsRemovedElements(listenerHelper);
+    }
+
+    /**
+     * Begins a batch, see {@link FXCollections#runBatch(ObservableList, Runnable)}.
+     */
+    final void beginBatch() {
+        getListChangeBuilder().beginBatch();
+    }
+
+    /**
+     * Ends a batch and fires the merged change if this was the outer-most batch.
+     */
+    final void endBatch() {
+        getListChangeBuilder().endBatch();
+    }
+
     /**
      * Returns true if there are some listeners registered for this list.
      * @return true if there is a listener for this list
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * {@code ObservableLongList} is an {@link ObservableList} of {@code Long}
+ * values that is backed by an unboxed {@code long[]} array. In addition to
+ * the {@code List} methods it provides primitive accessors and bulk operations
+ * that neither box the values nor allocate per element, which makes it
+ * suitable for high-volume numeric data that is bound to charts or tables.
+ * <p>
+ * The list does not support {@code null} elements. Listeners that request the
+ * removed elements of a {@link ListChangeListener.Change} receive a boxing
+ * view of a copy of the removed values; the copy is only made if there are
+ * listeners registered.
+ *
+ * @see FXCollections#observableLongList()
+ * @since 22
+ */
+public interface ObservableLongList extends ObservableList<Long> {
+
+    /**
+     * Gets a single value of the list without boxing it.
+     * @param index index of element to get
+     * @return value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds
+     */
+    public long getLong(int index);
+
+    /**
+     * Sets a single value in the list without boxing it.
+     * @param index index of the value to set
+     * @param value new value for the given index
+     * @return the value previously at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds
+     */
+    public long setLong(int index, long value);
+
+    /**
+     * Appends a single value to the end of this list without boxing it.
+     * @param value value to append
+     */
+    public void addLong(long value);
+
+    /**
+     * Appends a portion of given array to the end of this list.
+     * Capacity is increased if necessary to match the new size of the data.
+     * A single change is fired for the whole appended range.
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to append
+     * @throws NullPointerException if {@code src} is null
+     * @throws ArrayIndexOutOfBoundsException if the portion is outside
+     * {@code src} bounds
+     */
+    public void addAll(long[] src, int srcIndex, int length);
+
+    /**
+     * Inserts a portion of given array into this list at the specified position.
+     * A single change is fired for the whole inserted range.
+     * @param index position in this list where the values are inserted
+     * @param src source array
+     * @param srcIndex starting position in source array
+     * @param length length of portion to insert
+     * @throws NullPointerException if {@code src} is null
+     * @throws IndexOutOfBoundsException if {@code index} is outside
+     * list bounds or the portion is outside {@code src} bounds
+     */
+    public void addAll(int index, long[] src, int srcIndex, int length);
+
+    /**
+     * Replaces this list content with a copy of portion of a given array.
+     * A single change is fired that replaces the whole list.
+     * @param src source array to copy
+     * @param srcIndex starting position in source array
+     * @param length length of a portion to copy
+     * @throws NullPointerException if {@code src} is null
+     * @throws ArrayIndexOutOfBoundsException if the portion is outside
+     * {@code src} bounds
+     */
+    public void setAll(long[] src, int srcIndex, int length);
+
+    /**
+     * Copies specified portion of the list into {@code dest} array. Throws
+     * the same exceptions as {@link System#arraycopy(java.lang.Object,
+     * int, java.lang.Object, int, int) System.arraycopy()} method.
+     * @param srcIndex starting position in the list
+     * @param dest destination array
+     * @param destIndex starting position in destination array
+     * @param length length of portion to copy
+     */
+    public void copyTo(int srcIndex, long[] dest, int destIndex, int length);
+
+    /**
+     * Returns a new array containing a copy of the values of this list.
+     * @return a long array containing the copy of the list
+     */
+    public long[] toLongArray();
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * {@code StagingObservableList} is an {@link ObservableList} that can be edited
+ * from any thread. Edits are staged in a lock-free queue and applied to the list
+ * by {@link #commit()}, which is scheduled on the commit executor of the list when
+ * the first edit of a batch is staged. All edits of a batch are reported to the
+ * listeners as a single change.
+ * <p>
+ * The list itself is not thread-safe: reading it, adding listeners and calling
+ * the regular {@code List} methods must happen on the thread the commit executor
+ * runs on, typically the JavaFX Application Thread. A list created with
+ * {@code Platform::runAtNextPulse} as its commit executor applies the staged
+ * edits once per pulse:
+ * <pre>
+ * StagingObservableList&lt;Quote&gt; quotes =
+ *         FXCollections.observableStagingList(Platform::runAtNextPulse);
+ * tableView.setItems(quotes);
+ *
+ * // on any thread
+ * quotes.stageAdd(quote);
+ * </pre>
+ *
+ * @param <E> the type of the elements
+ * @see FXCollections#observableStagingList(java.util.concurrent.Executor)
+ * @since 22
+ */
+public interface StagingObservableList<E> extends ObservableList<E> {
+
+    /**
+     * Stages an arbitrary edit of this list. The edit is applied to the list on
+     * the next commit. This method can be called from any thread.
+     *
+     * @param edit the edit
+     * @throws NullPointerException if {@code edit} is {@code null}
+     */
+    public void stage(Consumer<? super ObservableList<E>> edit);
+
+    /**
+     * Stages the addition of an element to the end of this list. This method
+     * can be called from any thread.
+     *
+     * @param element the element to add
+     */
+    public void stageAdd(E element);
+
+    /**
+     * Stages the addition of the elements to the end of this list. The elements
+     * are copied when this method is called. This method can be called from any
+     * thread.
+     *
+     * @param elements the elements to add
+     */
+    public void stageAddAll(Collection<? extends E> elements);
+
+    /**
+     * Stages the replacement of the element at the given index. This method can
+     * be called from any thread.
+     *
+     * @param index the index of the element to replace
+     * @param element the new element
+     */
+    public void stageSet(int index, E element);
+
+    /**
+     * Stages the removal of the first occurrence of the element. This method
+     * can be called from any thread.
+     *
+     * @param element the element to remove
+     */
+    public void stageRemove(Object element);
+
+    /**
+     * Stages the replacement of the content of this list with the elements. The
+     * elements are copied when this method is called. This method can be called
+     * from any thread.
+     *
+     * @param elements the new elements
+     */
+    public void stageSetAll(Collection<? extends E> elements);
+
+    /**
+     * Stages the removal of all elements. This method can be called from any
+     * thread.
+     */
+    public void stageClear();
+
+    /**
+     * Applies all staged edits to this list and notifies the listeners of a
+     * single change. An edit that throws an exception is reported to the
+     * uncaught exception handler of the current thread, the remaining edits are
+     * still applied. This method must be called on the thread the commit
+     * executor runs on.
+     */
+    public void commit();
+
+    /**
+     * Returns the number of edits that are staged and not yet committed.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth();
+
+    /**
+     * Returns the highest queue depth observed since this list was created.
+     *
+     * @return the maximum queue depth
+     */
+    public int getMaxQueueDepth();
+
+    /**
+     * Returns the number of commits that applied at least one edit.
+     *
+     * @return the commit count
+     */
+    public long getCommitCount();
+
+    /**
+     * Returns the number of edits applied by all commits.
+     *
+     * @return the applied edit count
+     */
+    public long getAppliedEditCount();
+
+    /**
+     * Returns the time it took to apply the edits of the last commit, including
+     * the notification of the listeners.
+     *
+     * @return the apply time in nanoseconds
+     */
+    public long getLastCommitNanos();
+
+    /**
+     * Returns the time it took to apply the edits of all commits, including the
+     * notification of the listeners.
+     *
+     * @return the apply time in nanoseconds
+     */
+    public long getTotalCommitNanos();
+}
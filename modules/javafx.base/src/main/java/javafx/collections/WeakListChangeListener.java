@@ -30,6 +30,8 @@ import javafx.beans.WeakListener;
 
 import java.lang.ref.WeakReference;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
+
 /**
  * A {@code WeakListChangeListener} can be used, if an {@link ObservableList}
  * should only maintain a weak reference to the listener. This helps to avoid
@@ -67,7 +69,7 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E>, W
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<>(listener);
+        this.ref = ExpressionHelperBase.createWeakReference(listener);
     }
 
     /**
@@ -93,4 +95,18 @@ public final class WeakListChangeListener<E> implements ListChangeListener<E>, W
             change.getList().removeListener(this);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation delegates to the wrapped listener, or returns {@code false} if
+     * it has been garbage collected.
+     *
+     * @since 22
+     */
+    @Override
+    public boolean needsRemovedElements() {
+        final ListChangeListener<E> listener = ref.get();
+        return (listener != null) && listener.needsRemovedElements();
+    }
 }
@@ -30,6 +30,8 @@ import javafx.beans.WeakListener;
 
 import java.lang.ref.WeakReference;
 
+import com.sun.javafx.binding.ExpressionHelperBase;
+
 /**
  * A {@code WeakMapChangeListener} can be used, if an {@link javafx.collections.ObservableMap}
  * should only maintain a weak reference to the listener. This helps to avoid
@@ -67,7 +69,7 @@ public final class WeakMapChangeListener<K, V> implements MapChangeListener<K, V
         if (listener == null) {
             throw new NullPointerException("Listener must be specified.");
         }
-        this.ref = new WeakReference<>(listener);
+        this.ref = ExpressionHelperBase.createWeakReference(listener);
     }
 
     /**
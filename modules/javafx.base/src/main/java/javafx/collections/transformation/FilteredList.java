@@ -25,6 +25,7 @@
 
 package javafx.collections.transformation;
 
+import com.sun.javafx.collections.IndexedBitTree;
 import com.sun.javafx.collections.NonIterableChange.GenericAddRemoveChange;
 import com.sun.javafx.collections.SortHelper;
 import java.util.ArrayList;
@@ -33,8 +34,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import javafx.beans.NamedArg;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.ObjectPropertyBase;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
@@ -43,6 +47,14 @@ import javafx.collections.ObservableList;
  * Wraps an ObservableList and filters its content using the provided Predicate.
  * All changes in the ObservableList are propagated immediately
  * to the FilteredList.
+ * <p>
+ * By default the mapping between the indexes of this list and of the source
+ * list is kept in a flat array, which is compact but has to be shifted on every
+ * structural change of the source. For very large sources that change often,
+ * an <em>indexed</em> FilteredList can be created with
+ * {@link #FilteredList(ObservableList, Predicate, boolean)}. It keeps the
+ * mapping in a balanced tree, so that index mapping and incremental updates
+ * take O(log n) time, at the cost of a higher memory footprint.
  *
  * @see TransformationList
  * @since JavaFX 8.0
@@ -52,8 +64,16 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     private int[] filtered;
     private int size;
 
+    /**
+     * The mapping used in the indexed mode instead of {@code filtered}. The bit
+     * at a source index is set if the element at that index matches the predicate.
+     */
+    private final IndexedBitTree tree;
+
     private SortHelper helper;
 
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -62,7 +82,37 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      * @param predicate the predicate to match the elements or null to match all elements.
      */
     public FilteredList(@NamedArg("source") ObservableList<E> source, @NamedArg("predicate") Predicate<? super E> predicate) {
+        this(source, predicate, false);
+    }
+
+    /**
+     * Constructs a new FilteredList wrapper around the source list.
+     * The provided predicate will match the elements in the source list that will be visible.
+     * If the predicate is null, all elements will be matched and the list is equal to the source list.
+     * <p>
+     * If {@code indexed} is true, the mapping between the indexes of this list and the source list
+     * is kept in a balanced tree instead of a flat array. This makes {@link #get(int)},
+     * {@link #getSourceIndex(int)}, {@link #getViewIndex(int)} and the processing of each
+     * added, removed or updated source element O(log n) instead of O(n), which pays off for
+     * large source lists that receive frequent changes.
+     * @param source the source list
+     * @param predicate the predicate to match the elements or null to match all elements.
+     * @param indexed whether the index mapping is kept in a balanced tree
+     * @since 22
+     */
+    public FilteredList(@NamedArg("source") ObservableList<E> source, @NamedArg("predicate") Predicate<? super E> predicate,
+                        @NamedArg("indexed") boolean indexed) {
         super(source);
+        if (indexed) {
+            tree = new IndexedBitTree();
+            if (predicate != null) {
+                setPredicate(predicate);
+            } else {
+                refilter();
+            }
+            return;
+        }
+        tree = null;
         filtered = new int[source.size() * 3 / 2  + 1];
         if (predicate != null) {
             setPredicate(predicate);
@@ -124,6 +174,34 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Indicates whether {@link #predicateProperty() the predicate} may be evaluated concurrently.
+     * If true, re-filtering the whole source list after the predicate has changed evaluates the
+     * predicate for large source lists in parallel on the common fork-join pool.
+     * Only set this if the predicate is thread-safe and does not access the scene graph or other
+     * state that is confined to the JavaFX Application Thread.
+     * The changes of this list are still reported on the thread that changed the predicate.
+     *
+     * @defaultValue false
+     * @since 22
+     */
+    private BooleanProperty parallelFiltering;
+
+    public final BooleanProperty parallelFilteringProperty() {
+        if (parallelFiltering == null) {
+            parallelFiltering = new SimpleBooleanProperty(this, "parallelFiltering", false);
+        }
+        return parallelFiltering;
+    }
+
+    public final boolean isParallelFiltering() {
+        return parallelFiltering != null && parallelFiltering.get();
+    }
+
+    public final void setParallelFiltering(boolean value) {
+        parallelFilteringProperty().set(value);
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -135,7 +213,15 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     protected void sourceChanged(Change<? extends E> c) {
         beginChange();
         while (c.next()) {
-            if (c.wasPermutated()) {
+            if (tree != null) {
+                if (c.wasPermutated()) {
+                    permutateIndexed(c);
+                } else if (c.wasUpdated()) {
+                    updateIndexed(c);
+                } else {
+                    addRemoveIndexed(c);
+                }
+            } else if (c.wasPermutated()) {
                 permutate(c);
             } else if (c.wasUpdated()) {
                 update(c);
@@ -153,7 +239,7 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public int size() {
-        return size;
+        return tree != null ? tree.cardinality() : size;
     }
 
     /**
@@ -165,22 +251,26 @@ public final class FilteredList<E> extends TransformationList<E, E>{
      */
     @Override
     public E get(int index) {
-        if (index >= size) {
-            throw new IndexOutOfBoundsException();
-        }
-        return getSource().get(filtered[index]);
+        return getSource().get(getSourceIndex(index));
     }
 
     @Override
     public int getSourceIndex(int index) {
-        if (index >= size) {
+        if (index >= size()) {
             throw new IndexOutOfBoundsException();
         }
-        return filtered[index];
+        return tree != null ? tree.select(index) : filtered[index];
     }
 
     @Override
     public int getViewIndex(int index) {
+        if (tree != null) {
+            if (index < 0 || index >= tree.size()) {
+                return -1;
+            }
+            int rank = tree.rank(index);
+            return tree.get(index) ? rank : ~rank;
+        }
         return Arrays.binarySearch(filtered, 0, size, index);
     }
 
@@ -316,23 +406,146 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     }
 
     private void refilter() {
-        ensureSize(getSource().size());
         List<E> removed = null;
         if (hasListeners()) {
             removed = new ArrayList<>(this);
         }
-        size = 0;
-        int i = 0;
         Predicate<? super E> pred = getPredicateImpl();
-        for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
-            final E next = it.next();
-            if (pred.test(next)) {
-                filtered[size++] = i;
+        if (tree != null) {
+            boolean[] matches = match(pred);
+            tree.setAll(matches, matches.length);
+        } else if (isParallelFiltering() && getSource().size() >= PARALLEL_THRESHOLD) {
+            boolean[] matches = match(pred);
+            ensureSize(matches.length);
+            size = 0;
+            for (int i = 0; i < matches.length; ++i) {
+                if (matches[i]) {
+                    filtered[size++] = i;
+                }
+            }
+        } else {
+            ensureSize(getSource().size());
+            size = 0;
+            int i = 0;
+            for (Iterator<? extends E> it = getSource().iterator();it.hasNext(); ) {
+                final E next = it.next();
+                if (pred.test(next)) {
+                    filtered[size++] = i;
+                }
+                ++i;
             }
-            ++i;
         }
         if (hasListeners()) {
-            fireChange(new GenericAddRemoveChange<>(0, size, removed, this));
+            fireChange(new GenericAddRemoveChange<>(0, size(), removed, this));
+        }
+    }
+
+    /**
+     * Evaluates the predicate for all elements of the source list. The evaluation runs
+     * in parallel if {@link #parallelFilteringProperty() parallel filtering} is enabled
+     * and the source is large enough. The elements are copied first, so that the worker
+     * threads never access the source list itself.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean[] match(Predicate<? super E> pred) {
+        if (isParallelFiltering() && getSource().size() >= PARALLEL_THRESHOLD) {
+            final Object[] elements = getSource().toArray();
+            final boolean[] matches = new boolean[elements.length];
+            IntStream.range(0, elements.length).parallel()
+                    .forEach(i -> matches[i] = pred.test((E) elements[i]));
+            return matches;
+        }
+        final boolean[] matches = new boolean[getSource().size()];
+        int i = 0;
+        for (E e : getSource()) {
+            matches[i++] = pred.test(e);
+        }
+        return matches;
+    }
+
+    private void permutateIndexed(Change<? extends E> c) {
+        final int from = c.getFrom();
+        final int to = c.getTo();
+        final int viewFrom = tree.rank(from);
+        final int viewTo = tree.rank(to);
+        if (viewTo == viewFrom) {
+            return;
+        }
+        boolean[] oldBits = new boolean[to - from];
+        boolean[] newBits = new boolean[to - from];
+        tree.copyTo(from, to, oldBits);
+        for (int i = from; i < to; ++i) {
+            newBits[c.getPermutation(i) - from] = oldBits[i - from];
+        }
+        // view position of every permuted source position
+        int[] newViewIndex = new int[to - from];
+        for (int i = 0, v = viewFrom; i < newBits.length; ++i) {
+            newViewIndex[i] = v;
+            if (newBits[i]) {
+                ++v;
+            }
+        }
+        int[] perm = new int[viewTo - viewFrom];
+        for (int i = from, v = 0; i < to; ++i) {
+            if (oldBits[i - from]) {
+                perm[v++] = newViewIndex[c.getPermutation(i) - from];
+            }
+        }
+        tree.remove(from, to);
+        tree.insert(from, newBits, 0, newBits.length);
+        nextPermutation(viewFrom, viewTo, perm);
+    }
+
+    private void addRemoveIndexed(Change<? extends E> c) {
+        final int from = c.getFrom();
+        final int viewFrom = tree.rank(from);
+        if (c.wasRemoved()) {
+            final int removedSize = c.getRemovedSize();
+            boolean[] removedBits = new boolean[removedSize];
+            tree.copyTo(from, from + removedSize, removedBits);
+            List<? extends E> removed = c.getRemoved();
+            for (int i = 0; i < removedSize; ++i) {
+                if (removedBits[i]) {
+                    nextRemove(viewFrom, removed.get(i));
+                }
+            }
+            tree.remove(from, from + removedSize);
+        }
+        if (c.wasAdded()) {
+            Predicate<? super E> pred = getPredicateImpl();
+            final int addedSize = c.getAddedSize();
+            boolean[] addedBits = new boolean[addedSize];
+            int viewTo = viewFrom;
+            ListIterator<? extends E> it = getSource().listIterator(from);
+            for (int i = 0; i < addedSize; ++i) {
+                if (pred.test(it.next())) {
+                    addedBits[i] = true;
+                    ++viewTo;
+                }
+            }
+            tree.insert(from, addedBits, 0, addedSize);
+            if (viewTo > viewFrom) {
+                nextAdd(viewFrom, viewTo);
+            }
+        }
+    }
+
+    private void updateIndexed(Change<? extends E> c) {
+        Predicate<? super E> pred = getPredicateImpl();
+        int viewIndex = tree.rank(c.getFrom());
+        ListIterator<? extends E> it = getSource().listIterator(c.getFrom());
+        for (int i = c.getFrom(); i < c.getTo(); ++i) {
+            E el = it.next();
+            boolean matches = pred.test(el);
+            boolean old = tree.set(i, matches);
+            if (old && !matches) {
+                nextRemove(viewIndex, el);
+            } else if (old) {
+                nextUpdate(viewIndex++);
+            } else if (matches) {
+                nextAdd(viewIndex, viewIndex + 1);
+                ++viewIndex;
+            }
         }
     }
 
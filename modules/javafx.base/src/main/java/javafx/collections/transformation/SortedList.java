@@ -47,6 +47,11 @@ import javafx.collections.ObservableList;
  *
  * Note: invalid SortedList (as a result of broken comparison) doesn't send any notification to listeners on becoming
  * valid again.
+ * <p>
+ * When a range of several elements is added to the source list, the added elements are sorted on their own
+ * and merged with the already sorted content in a single pass. Large ranges are sorted with
+ * {@link Arrays#parallelSort(Object[], Comparator)}, so the comparator may be called concurrently from
+ * several threads in that case.
  *
  * @see TransformationList
  * @since JavaFX 8.0
@@ -62,6 +67,8 @@ public final class SortedList<E> extends TransformationList<E, E>{
 
     private final Element<E> tempElement = new Element<>(null, -1);
 
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
 
     /**
      * Creates a new SortedList wrapped around the source list.
@@ -369,6 +376,76 @@ public final class SortedList<E> extends TransformationList<E, E>{
         nextRemove(pos, e);
     }
 
+    /**
+     * Inserts the source elements in range {@code [from, to)}. The added elements are sorted
+     * separately and merged with the sorted elements from the back, so that elements that compare
+     * equal keep the existing ones first.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void insertRangeToMapping(List<? extends E> list, int from, int to) {
+        final int added = to - from;
+        Element<E>[] batch = new Element[added];
+        for (int i = from; i < to; ++i) {
+            batch[i - from] = new Element<>(list.get(i), i);
+        }
+        if (added >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(batch, elementComparator);
+        } else {
+            Arrays.sort(batch, elementComparator);
+        }
+
+        for (int i = 0; i < size; ++i) {
+            if (sorted[i].index >= from) {
+                sorted[i].index += added;
+            }
+        }
+        ensureSize(size + added);
+        int i = size - 1;
+        int j = added - 1;
+        int w = size + added - 1;
+        while (j >= 0) {
+            if (i >= 0 && elementComparator.compare(sorted[i], batch[j]) > 0) {
+                sorted[w--] = sorted[i--];
+            } else {
+                sorted[w--] = batch[j--];
+            }
+        }
+        size += added;
+
+        for (int pos = 0; pos < size; ++pos) {
+            final int index = sorted[pos].index;
+            perm[index] = pos;
+            if (index >= from && index < to) {
+                nextAdd(pos, pos + 1);
+            }
+        }
+    }
+
+    /**
+     * Removes the source elements in range {@code [from, from + count)} in a single pass
+     * over the sorted elements.
+     */
+    private void removeRangeFromMapping(int from, int count) {
+        final int to = from + count;
+        int w = 0;
+        for (int r = 0; r < size; ++r) {
+            final Element<E> el = sorted[r];
+            if (el.index >= from && el.index < to) {
+                nextRemove(w, el.e);
+            } else {
+                if (el.index >= to) {
+                    el.index -= count;
+                }
+                sorted[w++] = el;
+            }
+        }
+        Arrays.fill(sorted, w, size, null);
+        size = w;
+        for (int pos = 0; pos < size; ++pos) {
+            perm[sorted[pos].index] = pos;
+        }
+    }
+
     private void removeAllFromMapping() {
         List<E> removed = new ArrayList<>(this);
         for (int i = 0; i < size; ++i) {
@@ -392,6 +469,8 @@ public final class SortedList<E> extends TransformationList<E, E>{
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
+        } else if (c.getRemovedSize() > 1) {
+            removeRangeFromMapping(c.getFrom(), c.getRemovedSize());
         } else {
             for (int i = 0, sz = c.getRemovedSize(); i < sz; ++i) {
                 removeFromMapping(c.getFrom(), c.getRemoved().get(i));
@@ -400,6 +479,8 @@ public final class SortedList<E> extends TransformationList<E, E>{
         if (size == 0) {
             setAllToMapping(c.getList(), c.getTo()); // This is basically equivalent to getAddedSubList
                                                      // as size is 0, only valid "from" is also 0
+        } else if (c.getAddedSize() > 1) {
+            insertRangeToMapping(c.getList(), c.getFrom(), c.getTo());
         } else {
             for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
                 insertToMapping(c.getList().get(i), i);
@@ -30,4 +30,12 @@ public class ExpressionHelperShim {
         helper.fireValueChangedEvent();
     }
 
+    public static int getListenerCount(ExpressionHelper helper) {
+        return helper.countListeners().total();
+    }
+
+    public static int getCollectedListenerCount(ExpressionHelper helper) {
+        return helper.countListeners().collectedListeners();
+    }
+
 }
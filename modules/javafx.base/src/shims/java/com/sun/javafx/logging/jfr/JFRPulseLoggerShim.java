@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.logging.jfr;
+
+public class JFRPulseLoggerShim {
+
+    public static Object createNodeProfile() {
+        return new JFRPulseLogger.NodeProfile();
+    }
+
+    public static void newPhase(Object profile, String phaseName, int pulseId) {
+        ((JFRPulseLogger.NodeProfile) profile).newPhase(phaseName, pulseId);
+    }
+
+    public static void nodeStart(Object profile, Object node) {
+        ((JFRPulseLogger.NodeProfile) profile).nodeStart(node);
+    }
+
+    public static void nodeEnd(Object profile, Object node) {
+        ((JFRPulseLogger.NodeProfile) profile).nodeEnd(node);
+    }
+
+    public static int getDepth(Object profile) {
+        return ((JFRPulseLogger.NodeProfile) profile).getDepth();
+    }
+}
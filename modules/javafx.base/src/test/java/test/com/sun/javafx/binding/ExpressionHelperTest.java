@@ -29,6 +29,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.util.BitSet;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,6 +44,7 @@ import com.sun.javafx.binding.ExpressionHelperShim;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -500,6 +502,118 @@ public class ExpressionHelperTest {
         changeListener[2].check(null, UNDEFINED, UNDEFINED, 0);
     }
 
+    @Test
+    public void testRemoveInvalidationAfterNestedFire() {
+        final InvalidationListener nestingListener = new InvalidationListener() {
+            boolean nested;
+            @Override public void invalidated(Observable o) {
+                if (!nested) {
+                    nested = true;
+                    ExpressionHelper.fireValueChangedEvent(helper);
+                    helper = ExpressionHelper.removeListener(helper, this);
+                }
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, nestingListener);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[1]);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(observable, 2);
+        invalidationListener[1].check(observable, 2);
+
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(observable, 1);
+        invalidationListener[1].check(observable, 1);
+    }
+
+    @Test
+    public void testAddChangeWhileNestedFire() {
+        final InvalidationListener nestingListener = new InvalidationListener() {
+            int depth;
+            @Override public void invalidated(Observable o) {
+                if (depth < 2) {
+                    final int index = ++depth;
+                    ExpressionHelper.fireValueChangedEvent(helper);
+                    helper = ExpressionHelper.addListener(helper, observable, changeListener[index]);
+                }
+            }
+        };
+        helper = ExpressionHelper.addListener(helper, observable, nestingListener);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+
+        observable.set(DATA_2);
+        ExpressionHelper.fireValueChangedEvent(helper);
+        changeListener[0].check(observable, DATA_1, DATA_2, 1);
+        changeListener[1].check(null, UNDEFINED, UNDEFINED, 0);
+        changeListener[2].check(null, UNDEFINED, UNDEFINED, 0);
+
+        observable.set(DATA_1);
+        ExpressionHelper.fireValueChangedEvent(helper);
+        changeListener[0].check(observable, DATA_2, DATA_1, 1);
+        changeListener[1].check(observable, DATA_2, DATA_1, 1);
+        changeListener[2].check(observable, DATA_2, DATA_1, 1);
+    }
+
+    @Test
+    public void testCollectedWeakListenersAreTrimmedOnFire() {
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        InvalidationListenerMock target = new InvalidationListenerMock();
+        final WeakReference<InvalidationListenerMock> ref = new WeakReference<>(target);
+        for (int i = 0; i < 10; i++) {
+            helper = ExpressionHelper.addListener(helper, observable, new WeakInvalidationListener(target));
+        }
+        helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+        assertEquals(12, ExpressionHelperShim.getListenerCount(helper));
+        assertEquals(0, ExpressionHelperShim.getCollectedListenerCount(helper));
+
+        target = null;
+        JMemoryBuddy.assertCollectable(ref);
+        assertEquals(10, ExpressionHelperShim.getCollectedListenerCount(helper));
+
+        // the reference is enqueued asynchronously after it has been cleared
+        for (int i = 0; i < 100 && ExpressionHelperShim.getListenerCount(helper) > 2; i++) {
+            ExpressionHelper.fireValueChangedEvent(helper);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertEquals(2, ExpressionHelperShim.getListenerCount(helper));
+
+        invalidationListener[0].reset();
+        ExpressionHelper.fireValueChangedEvent(helper);
+        invalidationListener[0].check(observable, 1);
+    }
+
+    @Test
+    public void testCollectedWeakListenersAreTrimmedOnAddListener() {
+        helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
+        InvalidationListenerMock target = new InvalidationListenerMock();
+        final WeakReference<InvalidationListenerMock> ref = new WeakReference<>(target);
+        for (int i = 0; i < 10; i++) {
+            helper = ExpressionHelper.addListener(helper, observable, new WeakInvalidationListener(target));
+        }
+        assertEquals(11, ExpressionHelperShim.getListenerCount(helper));
+
+        target = null;
+        JMemoryBuddy.assertCollectable(ref);
+
+        // the reference is enqueued asynchronously after it has been cleared
+        for (int i = 0; i < 100 && ExpressionHelperShim.getListenerCount(helper) > 2; i++) {
+            helper = ExpressionHelper.addListener(helper, observable, changeListener[0]);
+            helper = ExpressionHelper.removeListener(helper, changeListener[0]);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertEquals(1, ExpressionHelperShim.getListenerCount(helper));
+        invalidationListener[0].check(null, 0);
+    }
+
     @Test
     public void testFireValueChangedEvent() {
         helper = ExpressionHelper.addListener(helper, observable, invalidationListener[0]);
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.collections;
+
+import com.sun.javafx.collections.IndexedBitTree;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IndexedBitTreeTest {
+
+    private IndexedBitTree tree;
+
+    @Before
+    public void setUp() {
+        tree = new IndexedBitTree();
+        tree.setAll(new boolean[] {true, false, true, true, false}, 5);
+    }
+
+    @Test
+    public void testSizeAndCardinality() {
+        assertEquals(5, tree.size());
+        assertEquals(3, tree.cardinality());
+    }
+
+    @Test
+    public void testRankAndSelect() {
+        assertEquals(0, tree.rank(0));
+        assertEquals(1, tree.rank(2));
+        assertEquals(3, tree.rank(5));
+        assertEquals(0, tree.select(0));
+        assertEquals(2, tree.select(1));
+        assertEquals(3, tree.select(2));
+    }
+
+    @Test
+    public void testSet() {
+        assertFalse(tree.set(1, true));
+        assertTrue(tree.get(1));
+        assertEquals(4, tree.cardinality());
+        assertTrue(tree.set(0, false));
+        assertEquals(1, tree.select(0));
+    }
+
+    @Test
+    public void testInsertAndRemove() {
+        tree.insert(1, new boolean[] {false, true, true}, 1, 2);
+        assertEquals(7, tree.size());
+        assertEquals(5, tree.cardinality());
+        assertTrue(tree.get(1));
+        assertTrue(tree.get(2));
+        assertFalse(tree.get(3));
+
+        tree.remove(0, 3);
+        assertEquals(4, tree.size());
+        assertEquals(2, tree.cardinality());
+        assertEquals(1, tree.select(0));
+    }
+
+    @Test
+    public void testCopyTo() {
+        boolean[] dest = new boolean[3];
+        tree.copyTo(1, 4, dest);
+        assertArrayEquals(new boolean[] {false, true, true}, dest);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfBounds() {
+        tree.select(3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveOutOfBounds() {
+        tree.remove(3, 6);
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        List<Boolean> expected = new ArrayList<>();
+        tree.setAll(new boolean[0], 0);
+        for (int op = 0; op < 2000; op++) {
+            int k = random.nextInt(3);
+            if (k == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                boolean[] values = new boolean[random.nextInt(4) + 1];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = random.nextBoolean();
+                    expected.add(index + i, values[i]);
+                }
+                tree.insert(index, values, 0, values.length);
+            } else if (k == 1) {
+                int from = random.nextInt(expected.size());
+                int to = Math.min(expected.size(), from + random.nextInt(3));
+                expected.subList(from, to).clear();
+                tree.remove(from, to);
+            } else {
+                int index = random.nextInt(expected.size());
+                boolean value = random.nextBoolean();
+                assertEquals(expected.set(index, value), tree.set(index, value));
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+        int ones = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+            assertEquals(ones, tree.rank(i));
+            if (expected.get(i)) {
+                assertEquals(i, tree.select(ones));
+                ones++;
+            }
+        }
+        assertEquals(ones, tree.cardinality());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.event.Event;
+import javafx.event.EventDispatchChain;
+import javafx.event.EventTarget;
+
+import org.junit.Test;
+
+import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.event.EventUtil;
+
+import static org.junit.Assert.assertEquals;
+
+public final class EventUtilTest {
+    @Test
+    public void testNestedFireEventDeeperThanChainPool() {
+        final int depth = 20;
+        final TestTarget parent = new TestTarget(null);
+        final TestTarget child = new TestTarget(parent);
+        final List<Object> sources = new ArrayList<>();
+
+        parent.handlerManager.addEventHandler(EmptyEvent.EMPTY, event -> {
+            sources.add(event.getSource());
+        });
+        child.handlerManager.addEventHandler(EmptyEvent.EMPTY, event -> {
+            sources.add(event.getSource());
+            if (sources.size() < depth) {
+                // fire a new event from within the handler
+                EventUtil.fireEvent(child, new EmptyEvent());
+            }
+        });
+
+        EventUtil.fireEvent(child, new EmptyEvent());
+
+        assertEquals(2 * depth, sources.size());
+        for (int i = 0; i < depth; ++i) {
+            assertEquals(child, sources.get(i));
+            assertEquals(parent, sources.get(depth + i));
+        }
+    }
+
+    @Test
+    public void testDispatchChainIsResetBetweenCalls() {
+        final TestTarget parent = new TestTarget(null);
+        final TestTarget child = new TestTarget(parent);
+        final TestTarget other = new TestTarget(null);
+        final EventCountingHandler<Event> parentHandler =
+                new EventCountingHandler<>();
+        final EventCountingHandler<Event> otherHandler =
+                new EventCountingHandler<>();
+        parent.handlerManager.addEventHandler(EmptyEvent.EMPTY, parentHandler);
+        other.handlerManager.addEventHandler(EmptyEvent.EMPTY, otherHandler);
+
+        EventUtil.fireEvent(child, new EmptyEvent());
+        EventUtil.fireEvent(other, new EmptyEvent());
+        EventUtil.fireEvent(other, new EmptyEvent());
+
+        assertEquals(1, parentHandler.getEventCount());
+        assertEquals(2, otherHandler.getEventCount());
+    }
+
+    private static final class TestTarget implements EventTarget {
+        private final TestTarget parent;
+        private final EventHandlerManager handlerManager;
+
+        public TestTarget(final TestTarget parent) {
+            this.parent = parent;
+            this.handlerManager = new EventHandlerManager(this);
+        }
+
+        @Override
+        public EventDispatchChain buildEventDispatchChain(
+                EventDispatchChain tail) {
+            for (TestTarget t = this; t != null; t = t.parent) {
+                tail = tail.prepend(t.handlerManager);
+            }
+            return tail;
+        }
+    }
+}
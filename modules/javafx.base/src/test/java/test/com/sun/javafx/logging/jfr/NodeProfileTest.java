@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.logging.jfr;
+
+import com.sun.javafx.logging.jfr.JFRPulseLoggerShim;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NodeProfileTest {
+
+    private static final long SPIN_NANOS = 2_000_000;
+    // JFR measures the duration of an event with its own clock
+    private static final long CLOCK_TOLERANCE_NANOS = 500_000;
+    private static final String SUBTREE_EVENT = "javafx.NodeSubtree";
+    private static final String CLASS_EVENT = "javafx.NodeClass";
+
+    private static final class Outer {
+        @Override public String toString() { return "outer"; }
+    }
+
+    private static final class Inner {
+        private final String name;
+        Inner(String name) { this.name = name; }
+        @Override public String toString() { return name; }
+    }
+
+    private Recording recording;
+    private Object profile;
+
+    @Before
+    public void setUp() {
+        recording = new Recording();
+        recording.enable(SUBTREE_EVENT).withThreshold(Duration.ZERO);
+        recording.enable(CLASS_EVENT);
+        recording.start();
+        profile = JFRPulseLoggerShim.createNodeProfile();
+        JFRPulseLoggerShim.newPhase(profile, "Test phase", 1);
+    }
+
+    @After
+    public void tearDown() {
+        recording.close();
+    }
+
+    private static void spin() {
+        final long end = System.nanoTime() + SPIN_NANOS;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private List<RecordedEvent> stop() throws Exception {
+        // commits the class events of the phase
+        JFRPulseLoggerShim.newPhase(profile, null, 0);
+        recording.stop();
+        final Path file = Files.createTempFile("NodeProfileTest", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("javafx.Node"))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent subtreeEvent(List<RecordedEvent> events, String node) {
+        final List<RecordedEvent> found = events.stream()
+                .filter(e -> e.getEventType().getName().equals(SUBTREE_EVENT) && node.equals(e.getString("node")))
+                .collect(Collectors.toList());
+        assertEquals("events for " + node, 1, found.size());
+        return found.get(0);
+    }
+
+    private static RecordedEvent classEvent(List<RecordedEvent> events, Class<?> nodeClass) {
+        final List<RecordedEvent> found = events.stream()
+                .filter(e -> e.getEventType().getName().equals(CLASS_EVENT)
+                        && nodeClass.getName().equals(e.getString("nodeClass")))
+                .collect(Collectors.toList());
+        assertEquals("events for " + nodeClass, 1, found.size());
+        return found.get(0);
+    }
+
+    private static long selfTime(RecordedEvent event) {
+        return event.getDuration("selfTime").toNanos();
+    }
+
+    @Test
+    public void testSelfTimeAndSubtreeOfNestedNodes() throws Exception {
+        final Outer a = new Outer();
+        final Inner b = new Inner("b");
+        final Inner c = new Inner("c");
+
+        JFRPulseLoggerShim.nodeStart(profile, a);
+        spin();
+        JFRPulseLoggerShim.nodeStart(profile, b);
+        spin();
+        JFRPulseLoggerShim.nodeStart(profile, c);
+        spin();
+        JFRPulseLoggerShim.nodeEnd(profile, c);
+        JFRPulseLoggerShim.nodeEnd(profile, b);
+        spin();
+        JFRPulseLoggerShim.nodeEnd(profile, a);
+        assertEquals(0, JFRPulseLoggerShim.getDepth(profile));
+
+        final List<RecordedEvent> events = stop();
+        final RecordedEvent eventA = subtreeEvent(events, "outer");
+        final RecordedEvent eventB = subtreeEvent(events, "b");
+        final RecordedEvent eventC = subtreeEvent(events, "c");
+
+        assertEquals(3, eventA.getInt("subtreeNodeCount"));
+        assertEquals(2, eventB.getInt("subtreeNodeCount"));
+        assertEquals(1, eventC.getInt("subtreeNodeCount"));
+        assertEquals("Test phase", eventA.getString("phaseName"));
+        assertEquals(1, eventA.getInt("pulseId"));
+
+        assertTrue(selfTime(eventA) >= 2 * SPIN_NANOS);
+        assertTrue(selfTime(eventB) >= SPIN_NANOS);
+        assertTrue(selfTime(eventC) >= SPIN_NANOS);
+
+        // the self times of a subtree add up to the time of its root
+        final long subtreeTime = selfTime(eventA) + selfTime(eventB) + selfTime(eventC);
+        assertTrue(subtreeTime <= eventA.getDuration().toNanos() + CLOCK_TOLERANCE_NANOS);
+        assertTrue(selfTime(eventB) + selfTime(eventC) <= eventB.getDuration().toNanos() + CLOCK_TOLERANCE_NANOS);
+        assertTrue(selfTime(eventA) < eventA.getDuration().toNanos() - eventB.getDuration().toNanos() + SPIN_NANOS);
+
+        final RecordedEvent outerClass = classEvent(events, Outer.class);
+        final RecordedEvent innerClass = classEvent(events, Inner.class);
+        assertEquals(1, outerClass.getInt("nodeCount"));
+        assertEquals(2, innerClass.getInt("nodeCount"));
+        assertEquals(selfTime(eventA), selfTime(outerClass));
+        assertEquals(selfTime(eventB) + selfTime(eventC), selfTime(innerClass));
+    }
+
+    @Test
+    public void testSkippedNodeEndIsUnwound() throws Exception {
+        final Outer a = new Outer();
+        final Inner b = new Inner("b");
+        final Inner c = new Inner("c");
+
+        JFRPulseLoggerShim.nodeStart(profile, a);
+        JFRPulseLoggerShim.nodeStart(profile, b);
+        JFRPulseLoggerShim.nodeStart(profile, c);
+        spin();
+        // the nodeEnd of c is skipped, as if an exception was thrown
+        JFRPulseLoggerShim.nodeEnd(profile, b);
+        assertEquals(1, JFRPulseLoggerShim.getDepth(profile));
+        JFRPulseLoggerShim.nodeEnd(profile, a);
+        assertEquals(0, JFRPulseLoggerShim.getDepth(profile));
+
+        final List<RecordedEvent> events = stop();
+        final RecordedEvent eventA = subtreeEvent(events, "outer");
+        final RecordedEvent eventB = subtreeEvent(events, "b");
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().equals(SUBTREE_EVENT)
+                && "c".equals(e.getString("node"))));
+
+        // the time of c is counted as self time of b
+        assertEquals(1, eventB.getInt("subtreeNodeCount"));
+        assertEquals(2, eventA.getInt("subtreeNodeCount"));
+        assertTrue(selfTime(eventB) >= SPIN_NANOS);
+        assertEquals(1, classEvent(events, Inner.class).getInt("nodeCount"));
+    }
+
+    @Test
+    public void testNodeEndOfUnknownNodeKeepsStack() throws Exception {
+        final Outer a = new Outer();
+
+        JFRPulseLoggerShim.nodeStart(profile, a);
+        JFRPulseLoggerShim.nodeEnd(profile, new Inner("unknown"));
+        assertEquals(1, JFRPulseLoggerShim.getDepth(profile));
+        JFRPulseLoggerShim.nodeEnd(profile, a);
+        assertEquals(0, JFRPulseLoggerShim.getDepth(profile));
+
+        final List<RecordedEvent> events = stop();
+        assertEquals(1, subtreeEvent(events, "outer").getInt("subtreeNodeCount"));
+    }
+
+    @Test
+    public void testNewPhaseDropsUnfinishedNodes() {
+        JFRPulseLoggerShim.nodeStart(profile, new Outer());
+        JFRPulseLoggerShim.nodeStart(profile, new Inner("b"));
+        JFRPulseLoggerShim.newPhase(profile, "Next phase", 1);
+        assertEquals(0, JFRPulseLoggerShim.getDepth(profile));
+    }
+}
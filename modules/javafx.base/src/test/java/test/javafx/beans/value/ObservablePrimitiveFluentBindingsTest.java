@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.beans.value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableIntegerValue;
+
+public class ObservablePrimitiveFluentBindingsTest {
+
+    private final DoubleProperty width = new SimpleDoubleProperty(2);
+    private final DoubleProperty height = new SimpleDoubleProperty(3);
+    private final IntegerProperty index = new SimpleIntegerProperty(4);
+
+    @Test
+    void mapToDoubleShouldApplyMapper() {
+        ObservableDoubleValue half = width.mapToDouble(v -> v / 2);
+
+        assertEquals(1.0, half.get());
+        width.set(10);
+        assertEquals(5.0, half.get());
+    }
+
+    @Test
+    void mapToDoubleShouldRejectNullMapper() {
+        assertThrows(NullPointerException.class, () -> width.mapToDouble(null));
+        assertThrows(NullPointerException.class, () -> index.mapToDouble(null));
+        assertThrows(NullPointerException.class, () -> index.mapToInt(null));
+    }
+
+    @Test
+    void mapToIntShouldApplyMapper() {
+        ObservableIntegerValue next = index.mapToInt(i -> i + 1);
+        ObservableDoubleValue scaled = index.mapToDouble(i -> i * 0.5);
+
+        assertEquals(5, next.get());
+        assertEquals(2.0, scaled.get());
+        index.set(7);
+        assertEquals(8, next.get());
+        assertEquals(3.5, scaled.get());
+    }
+
+    @Test
+    void combineShouldApplyCombinerToBothValues() {
+        ObservableDoubleValue area = width.combineToDouble(height, (w, h) -> w * h);
+        ObservableIntegerValue sum = index.combineToInt(new SimpleIntegerProperty(6), Integer::sum);
+
+        assertEquals(6.0, area.get());
+        assertEquals(10, sum.get());
+        width.set(4);
+        assertEquals(12.0, area.get());
+        height.set(5);
+        assertEquals(20.0, area.get());
+    }
+
+    @Test
+    void combineShouldRejectNullArguments() {
+        assertThrows(NullPointerException.class, () -> width.combineToDouble(null, Double::sum));
+        assertThrows(NullPointerException.class, () -> width.combineToDouble(height, null));
+        assertThrows(NullPointerException.class, () -> index.combineToInt(null, Integer::sum));
+    }
+
+    @Test
+    void clampedShouldLimitValueToRange() {
+        ObservableDoubleValue clampedWidth = width.clamped(0, 5);
+        ObservableIntegerValue clampedIndex = index.clamped(-1, 1);
+
+        assertEquals(2.0, clampedWidth.get());
+        assertEquals(1, clampedIndex.get());
+        width.set(-3);
+        assertEquals(0.0, clampedWidth.get());
+        width.set(8);
+        assertEquals(5.0, clampedWidth.get());
+        width.set(Double.NaN);
+        assertTrue(Double.isNaN(clampedWidth.get()));
+        index.set(-9);
+        assertEquals(-1, clampedIndex.get());
+    }
+
+    @Test
+    void clampedShouldRejectInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> width.clamped(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> width.clamped(Double.NaN, 1));
+        assertThrows(IllegalArgumentException.class, () -> index.clamped(2, 1));
+    }
+
+    @Test
+    void shouldNotObserveSourceUntilObserved() {
+        AtomicInteger calls = new AtomicInteger();
+        ObservableDoubleValue mapped = width.mapToDouble(counting(calls, v -> v * 2));
+
+        assertEquals(4.0, mapped.get());
+        assertEquals(4.0, mapped.get());
+        assertEquals(2, calls.get());  // not cached while unobserved
+
+        InvalidationListener listener = obs -> {};
+        mapped.addListener(listener);
+        calls.set(0);
+        mapped.get();
+        mapped.get();
+        assertEquals(0, calls.get());  // cached while observed
+
+        width.set(3);
+        assertEquals(6.0, mapped.get());
+        assertEquals(1, calls.get());
+
+        mapped.removeListener(listener);
+        width.set(5);
+        assertEquals(10.0, mapped.get());
+    }
+
+    @Test
+    void shouldNotifyListenersWhenSourceChanges() {
+        ObservableDoubleValue area = width.combineToDouble(height, (w, h) -> w * h);
+        AtomicInteger invalidations = new AtomicInteger();
+        List<String> changes = new ArrayList<>();
+        ChangeListener<Number> changeListener = (obs, oldValue, newValue) -> changes.add(oldValue + "->" + newValue);
+
+        area.addListener(obs -> invalidations.incrementAndGet());
+        area.addListener(changeListener);
+        width.set(4);
+        height.set(1);
+
+        assertEquals(2, invalidations.get());
+        assertEquals(List.of("6.0->12.0", "12.0->4.0"), changes);
+
+        area.removeListener(changeListener);
+        width.set(2);
+        assertEquals(3, invalidations.get());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    void shouldStopCachingWhenNoLongerObserved() {
+        AtomicInteger calls = new AtomicInteger();
+        ObservableDoubleValue mapped = width.mapToDouble(counting(calls, v -> v));
+        InvalidationListener listener = obs -> {};
+
+        mapped.addListener(listener);
+        mapped.removeListener(listener);
+        width.set(7);
+        calls.set(0);
+
+        assertEquals(7.0, mapped.get());
+        assertEquals(7.0, mapped.get());
+        assertEquals(2, calls.get());
+    }
+
+    private static DoubleUnaryOperator counting(AtomicInteger calls, DoubleUnaryOperator operator) {
+        return v -> {
+            calls.incrementAndGet();
+            return operator.applyAsDouble(v);
+        };
+    }
+}
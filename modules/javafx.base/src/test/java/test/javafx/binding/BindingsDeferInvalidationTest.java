@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.binding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+import test.javafx.beans.InvalidationListenerMock;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BindingsDeferInvalidationTest {
+
+    private IntegerProperty a;
+    private IntegerProperty b;
+    private AtomicInteger computations;
+    private IntegerBinding sum;
+    private InvalidationListenerMock observer;
+
+    @Before
+    public void setUp() {
+        a = new SimpleIntegerProperty(1);
+        b = new SimpleIntegerProperty(2);
+        computations = new AtomicInteger();
+        sum = Bindings.createIntegerBinding(() -> {
+            computations.incrementAndGet();
+            return a.get() + b.get();
+        }, a, b);
+        observer = new InvalidationListenerMock();
+        sum.addListener(observer);
+        assertEquals(3, sum.get());
+        computations.set(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullAction() {
+        Bindings.deferInvalidation(null);
+    }
+
+    @Test
+    public void testBindingIsInvalidatedOnceAfterAction() {
+        Bindings.deferInvalidation(() -> {
+            for (int i = 0; i < 1000; i++) {
+                a.set(i);
+                a.get();
+                b.set(i);
+                b.get();
+            }
+            assertTrue(sum.isValid());
+            observer.check(null, 0);
+        });
+        observer.check(sum, 1);
+        assertFalse(sum.isValid());
+        assertEquals(1998, sum.get());
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    public void testChangeListenerReceivesSingleChange() {
+        final List<String> changes = new ArrayList<>();
+        a.addListener((obs, oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+        Bindings.deferInvalidation(() -> {
+            a.set(10);
+            a.set(20);
+            a.set(30);
+            assertEquals(List.of(), changes);
+        });
+        assertEquals(List.of("1->30"), changes);
+    }
+
+    @Test
+    public void testNoChangeWhenValueIsRestored() {
+        final AtomicInteger changes = new AtomicInteger();
+        a.addListener((obs, oldValue, newValue) -> changes.incrementAndGet());
+        Bindings.deferInvalidation(() -> {
+            a.set(10);
+            a.set(1);
+        });
+        assertEquals(0, changes.get());
+        observer.check(sum, 1);
+    }
+
+    @Test
+    public void testNestedActionsAreFlushedByOutermostAction() {
+        Bindings.deferInvalidation(() -> {
+            Bindings.deferInvalidation(() -> a.set(10));
+            observer.check(null, 0);
+            b.set(20);
+        });
+        observer.check(sum, 1);
+        assertEquals(30, sum.get());
+    }
+
+    @Test
+    public void testListenerRemovedDuringActionIsNotNotified() {
+        final InvalidationListenerMock listener = new InvalidationListenerMock();
+        a.addListener(listener);
+        Bindings.deferInvalidation(() -> {
+            a.set(10);
+            a.removeListener(listener);
+        });
+        listener.check(null, 0);
+        observer.check(sum, 1);
+    }
+
+    @Test
+    public void testListenerAddedDuringActionIsNotified() {
+        final AtomicReference<Number> newValue = new AtomicReference<>();
+        final ChangeListener<Number> listener = (obs, o, n) -> newValue.set(n);
+        Bindings.deferInvalidation(() -> {
+            a.set(10);
+            a.addListener(listener);
+            a.set(20);
+        });
+        assertEquals(20, newValue.get());
+    }
+
+    @Test
+    public void testInvalidationIsFlushedWhenActionThrows() {
+        try {
+            Bindings.deferInvalidation(() -> {
+                a.set(10);
+                throw new IllegalArgumentException();
+            });
+            fail("Exception expected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        observer.check(sum, 1);
+        assertEquals(12, sum.get());
+
+        a.set(20);
+        observer.check(sum, 1);
+    }
+
+    @Test
+    public void testOtherThreadIsNotDeferredAndCannotDefer() throws Exception {
+        final IntegerProperty other = new SimpleIntegerProperty();
+        final InvalidationListenerMock otherObserver = new InvalidationListenerMock();
+        other.addListener(otherObserver);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Bindings.deferInvalidation(() -> {
+            a.set(10);
+            final Thread thread = new Thread(() -> {
+                try {
+                    other.set(1);
+                    otherObserver.check(other, 1);
+                    try {
+                        Bindings.deferInvalidation(() -> other.set(2));
+                        fail("IllegalStateException expected");
+                    } catch (IllegalStateException e) {
+                        // expected
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            observer.check(null, 0);
+        });
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        observer.check(sum, 1);
+
+        // the other thread can defer once this thread has finished
+        final Thread thread = new Thread(() -> {
+            try {
+                Bindings.deferInvalidation(() -> {
+                    other.set(3);
+                    other.set(4);
+                });
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        assertEquals(4, other.get());
+    }
+}
@@ -33,6 +33,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableDoubleList;
 import test.javafx.collections.MockSetObserver.Tuple;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
@@ -744,6 +745,86 @@ public class FXCollectionsTest {
         testIterationProtection(FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), this::modifyList, this::iterateOverList);
     }
 
+    @Test
+    public void testRunBatchFiresSingleChange() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d", "e", "f");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        FXCollections.runBatch(list, () -> {
+            list.set(0, "x");
+            list.remove("d");
+            FXCollections.runBatch(list, () -> list.add("y"));
+        });
+        observer.checkN(3);
+        observer.checkAddRemove(0, list, Arrays.asList("a"), 0, 1);
+        observer.checkAddRemove(1, list, Arrays.asList("d"), 3, 3);
+        observer.checkAddRemove(2, list, null, 5, 6);
+        assertEquals(Arrays.asList("x", "b", "c", "e", "f", "y"), list);
+    }
+
+    @Test
+    public void testRunBatchMergesDirectlyFiredChanges() {
+        ObservableDoubleList list = FXCollections.observableDoubleList(1, 2, 3);
+        MockListObserver<Double> observer = new MockListObserver<>();
+        list.addListener(observer);
+        FXCollections.runBatch(list, () -> {
+            list.addDouble(4);
+            list.addAll(new double[] {5, 6}, 0, 2);
+        });
+        observer.check1AddRemove(list, null, 3, 6);
+    }
+
+    @Test
+    public void testRunBatchFallsBackToReplaceAll() {
+        ObservableList<Integer> list = FXCollections.observableArrayList(0, 1, 2, 3);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        list.addListener(observer);
+        FXCollections.runBatch(list, () -> {
+            list.set(0, 10);
+            list.set(2, 12);
+            list.remove(3);
+        });
+        observer.check1AddRemove(list, Arrays.asList(0, 1, 2, 3), 0, 3);
+        assertEquals(Arrays.asList(10, 1, 12), list);
+    }
+
+    @Test
+    public void testRunBatchKeepsSmallMergedChange() {
+        ObservableList<Integer> list = FXCollections.observableArrayList(0, 1, 2, 3, 4, 5, 6, 7);
+        MockListObserver<Integer> observer = new MockListObserver<>();
+        list.addListener(observer);
+        FXCollections.runBatch(list, () -> {
+            list.set(1, 11);
+            list.remove(5);
+        });
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, Arrays.asList(1), 1, 2);
+        observer.checkAddRemove(1, list, Arrays.asList(5), 5, 5);
+    }
+
+    @Test
+    public void testRunBatchFiresOnException() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b");
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(observer);
+        assertThrows(IllegalStateException.class, () -> FXCollections.runBatch(list, () -> {
+            list.add("c");
+            throw new IllegalStateException();
+        }));
+        observer.check1AddRemove(list, null, 2, 3);
+        observer.clear();
+        list.add("d");
+        observer.check1AddRemove(list, null, 3, 4);
+    }
+
+    @Test
+    public void testRunBatchOnOtherList() {
+        ObservableList<String> list = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList("a"));
+        boolean[] run = new boolean[1];
+        FXCollections.runBatch(list, () -> run[0] = true);
+        assertTrue(run[0]);
+    }
+
     private void modifyList(List<Integer> list, Random rnd) {
         if (rnd.nextInt(1000) > list.size()) {
             list.add(rnd.nextInt(1000));
@@ -29,6 +29,7 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Predicate;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -306,4 +307,127 @@ public class FilteredListTest {
         assertEquals(list, filteredList);
         compareIndices();
     }
+
+    @Test
+    public void testIndexed_LiveMode() {
+        FilteredList<String> filtered = new FilteredList<>(list, (String e) -> !e.equals("c"), true);
+        MockListObserver<String> lo = new MockListObserver<>();
+        filtered.addListener(lo);
+        assertEquals(Arrays.asList("a", "d"), filtered);
+        compareIndices(filtered);
+
+        list.add(1, "b");
+        lo.check1AddRemove(filtered, Collections.<String>emptyList(), 1, 2);
+        assertEquals(Arrays.asList("a", "b", "d"), filtered);
+        compareIndices(filtered);
+
+        lo.clear();
+        list.remove(0, 3);
+        lo.check1AddRemove(filtered, Arrays.asList("a", "b"), 0, 0);
+        assertEquals(Arrays.asList("d"), filtered);
+        compareIndices(filtered);
+    }
+
+    @Test
+    public void testIndexed_Permutation() {
+        FilteredList<String> filtered = new FilteredList<>(list, (String e) -> !e.equals("c"), true);
+        MockListObserver<String> lo = new MockListObserver<>();
+        filtered.addListener(lo);
+        FXCollections.sort(list, (o1, o2) -> -o1.compareTo(o2));
+        lo.check1Permutation(filtered, new int[] {1, 0});
+        assertEquals(Arrays.asList("d", "a"), filtered);
+        compareIndices(filtered);
+    }
+
+    @Test
+    public void testIndexed_mutableElement() {
+        ObservableList<Person> list = Person.createPersonsList("A", "BB", "C");
+
+        FilteredList<Person> filtered = new FilteredList<>(list,
+                (Person p) -> p.name.get().length() > 1, true);
+        MockListObserver<Person> lo = new MockListObserver<>();
+        filtered.addListener(lo);
+
+        list.get(0).name.set("AA");
+        lo.check1AddRemove(filtered, Collections.EMPTY_LIST, 0, 1);
+        compareIndices(filtered);
+
+        lo.clear();
+        list.get(1).name.set("BBB");
+        lo.check1Update(filtered, 1, 2);
+        compareIndices(filtered);
+
+        lo.clear();
+        list.get(1).name.set("B");
+        lo.check1AddRemove(filtered, Person.createPersonsList("B"), 1, 1);
+        assertEquals(Person.createPersonsList("AA"), filtered);
+        compareIndices(filtered);
+    }
+
+    @Test
+    public void testIndexed_changePredicate() {
+        FilteredList<String> filtered = new FilteredList<>(list, null, true);
+        MockListObserver<String> lo = new MockListObserver<>();
+        filtered.addListener(lo);
+        assertEquals(list, filtered);
+        filtered.setPredicate((String s) -> !s.equals("d"));
+        lo.check1AddRemove(filtered, Arrays.asList("a", "c", "d", "c"), 0, 3);
+        assertEquals(Arrays.asList("a", "c", "c"), filtered);
+        compareIndices(filtered);
+    }
+
+    @Test
+    public void testIndexed_MatchesFlatMode() {
+        Random random = new Random(1234);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < 200; i++) {
+            source.add(random.nextInt(100));
+        }
+        FilteredList<Integer> flat = new FilteredList<>(source, i -> i % 3 != 0);
+        FilteredList<Integer> indexed = new FilteredList<>(source, i -> i % 3 != 0, true);
+        for (int op = 0; op < 500; op++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+                    break;
+                case 1:
+                    if (!source.isEmpty()) {
+                        int from = random.nextInt(source.size());
+                        source.remove(from, Math.min(source.size(), from + random.nextInt(5)));
+                    }
+                    break;
+                case 2:
+                    if (!source.isEmpty()) {
+                        source.set(random.nextInt(source.size()), random.nextInt(100));
+                    }
+                    break;
+                case 3:
+                    FXCollections.sort(source);
+                    break;
+                default:
+                    int m = random.nextInt(5) + 2;
+                    flat.setPredicate(i -> i % m != 0);
+                    indexed.setPredicate(i -> i % m != 0);
+            }
+            assertEquals(flat, indexed);
+        }
+        compareIndices(indexed);
+    }
+
+    @Test
+    public void testParallelFiltering() {
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < 50_000; i++) {
+            source.add(i);
+        }
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        filtered.setParallelFiltering(true);
+        MockListObserver<Integer> lo = new MockListObserver<>();
+        filtered.addListener(lo);
+        filtered.setPredicate(i -> i % 2 == 0);
+        lo.check1();
+        assertEquals(25_000, filtered.size());
+        assertEquals(Integer.valueOf(49_998), filtered.get(24_999));
+        compareIndices(filtered);
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ListChangeRemovedElementsTest {
+
+    private ObservableList<String> list;
+    private RangeListener rangeListener;
+
+    private static class RangeListener implements ListChangeListener<String> {
+        final List<int[]> changes = new ArrayList<>();
+        List<String> lastRemoved;
+
+        @Override
+        public void onChanged(Change<? extends String> c) {
+            while (c.next()) {
+                changes.add(new int[] { c.getFrom(), c.getTo(), c.getRemovedSize(), c.getAddedSize() });
+                lastRemoved = new ArrayList<>();
+                try {
+                    lastRemoved.addAll(c.getRemoved());
+                } catch (UnsupportedOperationException e) {
+                    lastRemoved = null;
+                }
+            }
+        }
+
+        @Override
+        public boolean needsRemovedElements() {
+            return false;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        list = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        rangeListener = new RangeListener();
+    }
+
+    private void assertChange(int index, int from, int to, int removedSize, int addedSize) {
+        assertArrayEquals(new int[] { from, to, removedSize, addedSize }, rangeListener.changes.get(index));
+    }
+
+    @Test
+    public void testDefaultNeedsRemovedElements() {
+        ListChangeListener<String> listener = c -> {};
+        assertTrue(listener.needsRemovedElements());
+    }
+
+    @Test
+    public void testRemoveRangeReportsSizeOnly() {
+        list.addListener(rangeListener);
+        list.remove(1, 4);
+
+        assertEquals(1, rangeListener.changes.size());
+        assertChange(0, 1, 1, 3, 0);
+        assertNull(rangeListener.lastRemoved);
+        assertEquals(Arrays.asList("a", "e"), list);
+    }
+
+    @Test
+    public void testClearReportsSizeOnly() {
+        list.addListener(rangeListener);
+        list.clear();
+
+        assertEquals(1, rangeListener.changes.size());
+        assertChange(0, 0, 0, 5, 0);
+        assertNull(rangeListener.lastRemoved);
+    }
+
+    @Test
+    public void testSetAllReportsSizeOnly() {
+        list.addListener(rangeListener);
+        list.setAll("x", "y");
+
+        assertEquals(1, rangeListener.changes.size());
+        assertChange(0, 0, 2, 5, 2);
+        assertNull(rangeListener.lastRemoved);
+    }
+
+    @Test
+    public void testRemoveAllReportsSizeOnly() {
+        list.addListener(rangeListener);
+        list.removeAll("b", "d");
+
+        assertEquals(2, rangeListener.changes.size());
+        assertChange(0, 1, 1, 1, 0);
+        assertChange(1, 2, 2, 1, 0);
+        assertNull(rangeListener.lastRemoved);
+    }
+
+    @Test
+    public void testRemovedElementsAreRetainedIfAnyListenerNeedsThem() {
+        MockListObserver<String> observer = new MockListObserver<>();
+        list.addListener(rangeListener);
+        list.addListener(observer);
+        list.remove(1, 4);
+
+        assertEquals(Arrays.asList("b", "c", "d"), rangeListener.lastRemoved);
+        observer.check1AddRemove(list, Arrays.asList("b", "c", "d"), 1, 1);
+    }
+
+    @Test
+    public void testWeakListenerDelegatesToReferent() {
+        WeakListChangeListener<String> weakListener = new WeakListChangeListener<>(rangeListener);
+        assertFalse(weakListener.needsRemovedElements());
+
+        list.addListener(weakListener);
+        list.remove(0, 2);
+
+        assertChange(0, 0, 0, 2, 0);
+        assertNull(rangeListener.lastRemoved);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableDoubleList;
+import javafx.collections.ObservableIntegerList;
+import javafx.collections.ObservableLongList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ObservablePrimitiveListTest {
+
+    private ObservableDoubleList list;
+    private MockListObserver<Double> observer;
+
+    @Before
+    public void setUp() {
+        list = FXCollections.observableDoubleList(1, 2, 3, 4, 5);
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testInitialContent() {
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0), list);
+        assertArrayEquals(new double[] {1, 2, 3, 4, 5}, list.toDoubleArray(), 0);
+        observer.check0();
+    }
+
+    @Test
+    public void testAddDouble() {
+        list.addDouble(6);
+        observer.check1AddRemove(list, null, 5, 6);
+        assertEquals(6.0, list.getDouble(5), 0);
+    }
+
+    @Test
+    public void testAddAllArrayRange() {
+        list.addAll(new double[] {10, 11, 12, 13}, 1, 2);
+        observer.check1AddRemove(list, null, 5, 7);
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0, 11.0, 12.0), list);
+    }
+
+    @Test
+    public void testInsertArrayRange() {
+        list.addAll(1, new double[] {10, 11}, 0, 2);
+        observer.check1AddRemove(list, null, 1, 3);
+        assertEquals(Arrays.asList(1.0, 10.0, 11.0, 2.0, 3.0, 4.0, 5.0), list);
+    }
+
+    @Test
+    public void testAddAllEmptyRangeDoesNotFire() {
+        list.addAll(new double[] {10}, 0, 0);
+        observer.check0();
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testAddAllOutOfBounds() {
+        list.addAll(new double[] {10, 11}, 1, 2);
+    }
+
+    @Test
+    public void testSetDouble() {
+        assertEquals(3.0, list.setDouble(2, 30), 0);
+        observer.check1AddRemove(list, Collections.singletonList(3.0), 2, 3);
+        assertEquals(30.0, list.getDouble(2), 0);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.remove(1, 3);
+        observer.check1AddRemove(list, Arrays.asList(2.0, 3.0), 1, 1);
+        assertEquals(Arrays.asList(1.0, 4.0, 5.0), list);
+    }
+
+    @Test
+    public void testRemoveIndex() {
+        assertEquals(Double.valueOf(1), list.remove(0));
+        observer.check1AddRemove(list, Collections.singletonList(1.0), 0, 0);
+    }
+
+    @Test
+    public void testClear() {
+        list.clear();
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0), 0, 0);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testSetAllArrayRange() {
+        list.setAll(new double[] {7, 8, 9}, 0, 3);
+        observer.check1AddRemove(list, Arrays.asList(1.0, 2.0, 3.0, 4.0, 5.0), 0, 3);
+        assertEquals(Arrays.asList(7.0, 8.0, 9.0), list);
+    }
+
+    @Test
+    public void testRemoveAll() {
+        list.removeAll(2.0, 4.0);
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, Collections.singletonList(2.0), 1, 1);
+        observer.checkAddRemove(1, list, Collections.singletonList(4.0), 2, 2);
+        assertEquals(Arrays.asList(1.0, 3.0, 5.0), list);
+    }
+
+    @Test
+    public void testRetainAll() {
+        list.retainAll(2.0, 3.0);
+        observer.checkN(2);
+        observer.checkAddRemove(0, list, Collections.singletonList(1.0), 0, 0);
+        observer.checkAddRemove(1, list, Arrays.asList(4.0, 5.0), 2, 2);
+        assertEquals(Arrays.asList(2.0, 3.0), list);
+    }
+
+    @Test
+    public void testRemovedValuesAreSnapshot() {
+        final List<?>[] removed = new List<?>[1];
+        list.addListener((javafx.collections.ListChangeListener<Double>) c -> {
+            c.next();
+            if (removed[0] == null) {
+                removed[0] = c.getRemoved();
+            }
+        });
+        list.remove(0, 2);
+        list.addAll(new double[] {100, 200}, 0, 2);
+        assertEquals(Arrays.asList(1.0, 2.0), removed[0]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        list.add(null);
+    }
+
+    @Test
+    public void testCopyTo() {
+        double[] dest = new double[4];
+        list.copyTo(1, dest, 1, 3);
+        assertArrayEquals(new double[] {0, 2, 3, 4}, dest, 0);
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(2, list.indexOf(3.0));
+        assertEquals(-1, list.indexOf(3));
+        assertTrue(list.contains(5.0));
+    }
+
+    @Test
+    public void testLongList() {
+        ObservableLongList longs = FXCollections.observableLongList(1, 2, 3);
+        MockListObserver<Long> longObserver = new MockListObserver<>();
+        longs.addListener(longObserver);
+        longs.addAll(new long[] {4, 5}, 0, 2);
+        longObserver.check1AddRemove(longs, null, 3, 5);
+        longObserver.clear();
+        longs.remove(0, 4);
+        longObserver.check1AddRemove(longs, Arrays.asList(1L, 2L, 3L, 4L), 0, 0);
+        assertArrayEquals(new long[] {5}, longs.toLongArray());
+    }
+
+    @Test
+    public void testIntegerList() {
+        ObservableIntegerList ints = FXCollections.observableIntegerList();
+        MockListObserver<Integer> intObserver = new MockListObserver<>();
+        ints.addListener(intObserver);
+        ints.addInt(1);
+        intObserver.check1AddRemove(ints, null, 0, 1);
+        intObserver.clear();
+        assertEquals(1, ints.setInt(0, 2));
+        intObserver.check1AddRemove(ints, Collections.singletonList(1), 0, 1);
+        assertEquals(2, ints.getInt(0));
+    }
+}
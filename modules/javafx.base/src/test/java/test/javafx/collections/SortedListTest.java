@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
@@ -595,4 +596,66 @@ public class SortedListTest {
         mockListObserver.check1Permutation(sortedList, new int[] {0, 3, 2, 1});
         compareIndices();
     }
+
+    @Test
+    public void testAddAllInTheMiddle() {
+        list.addAll(1, Arrays.asList("b", "e", "a", "f"));
+        assertEquals(Arrays.asList("a", "a", "b", "c", "c", "d", "e", "f"), sortedList);
+        mockListObserver.checkN(2);
+        mockListObserver.checkAddRemove(0, sortedList, null, 1, 3);
+        mockListObserver.checkAddRemove(1, sortedList, null, 6, 8);
+        compareIndices();
+    }
+
+    @Test
+    public void testAddAllKeepsExistingEqualElementsFirst() {
+        ObservableList<Person> persons = Person.createPersonsList("A", "B");
+        SortedList<Person> sorted = persons.sorted(Comparator.comparing(p -> p.name.get()));
+        Person existing = persons.get(1);
+        persons.addAll(Person.createPersonsList("B", "C"));
+        assertSame(existing, sorted.get(1));
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.addAll("b", "e");
+        mockListObserver.clear();
+        list.remove(1, 4);
+        assertEquals(Arrays.asList("a", "b", "e"), sortedList);
+        mockListObserver.check1AddRemove(sortedList, Arrays.asList("c", "c", "d"), 2, 2);
+        compareIndices();
+    }
+
+    @Test
+    public void testBulkChangesMatchSequentialSort() {
+        Random random = new Random(4321);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        SortedList<Integer> sorted = source.sorted();
+        List<Integer> mirror = new ArrayList<>();
+        sorted.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                assertFalse(c.wasPermutated());
+                mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                mirror.addAll(c.getFrom(), c.getAddedSubList());
+            }
+        });
+        for (int op = 0; op < 200; op++) {
+            if (random.nextBoolean() || source.size() < 10) {
+                List<Integer> added = new ArrayList<>();
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    added.add(random.nextInt(50));
+                }
+                source.addAll(random.nextInt(source.size() + 1), added);
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + random.nextInt(10)));
+            }
+            List<Integer> expected = new ArrayList<>(source);
+            Collections.sort(expected);
+            assertEquals(expected, sorted);
+            assertEquals(expected, mirror);
+            compareIndices(sorted);
+        }
+    }
 }
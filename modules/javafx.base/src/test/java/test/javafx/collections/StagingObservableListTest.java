@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.StagingObservableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StagingObservableListTest {
+
+    private List<Runnable> scheduled;
+    private StagingObservableList<String> list;
+    private int changeCount;
+
+    @Before
+    public void setUp() {
+        scheduled = new ArrayList<>();
+        list = FXCollections.observableStagingList(scheduled::add);
+        list.addListener((ListChangeListener<String>) c -> changeCount++);
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testEditsAreAppliedOnCommit() {
+        list.stageAdd("a");
+        list.stageAddAll(Arrays.asList("b", "c"));
+        list.stageSet(0, "x");
+        list.stageRemove("b");
+
+        assertTrue(list.isEmpty());
+        assertEquals(4, list.getQueueDepth());
+        assertEquals(1, scheduled.size());
+
+        runScheduled();
+
+        assertEquals(Arrays.asList("x", "c"), list);
+        assertEquals(1, changeCount);
+        assertEquals(0, list.getQueueDepth());
+        assertEquals(4, list.getMaxQueueDepth());
+        assertEquals(1, list.getCommitCount());
+        assertEquals(4, list.getAppliedEditCount());
+    }
+
+    @Test
+    public void testCommitIsScheduledOncePerBatch() {
+        list.stageAdd("a");
+        list.stageAdd("b");
+        assertEquals(1, scheduled.size());
+        runScheduled();
+
+        list.stageClear();
+        assertEquals(1, scheduled.size());
+        runScheduled();
+
+        assertTrue(list.isEmpty());
+        assertEquals(2, changeCount);
+        assertEquals(2, list.getCommitCount());
+    }
+
+    @Test
+    public void testEmptyCommitDoesNotFireChange() {
+        list.commit();
+        assertEquals(0, changeCount);
+        assertEquals(0, list.getCommitCount());
+    }
+
+    @Test
+    public void testFailingEditDoesNotStopCommit() {
+        List<Throwable> errors = new ArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> errors.add(e));
+        try {
+            list.stageSet(5, "a");
+            list.stageSetAll(Arrays.asList("b", "c"));
+            runScheduled();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof IndexOutOfBoundsException);
+        assertEquals(Arrays.asList("b", "c"), list);
+        assertEquals(0, list.getQueueDepth());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final int threads = 4;
+        final int edits = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final String prefix = "t" + t + "-";
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < edits; i++) {
+                    list.stageAdd(prefix + i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        list.commit();
+
+        assertEquals(threads * edits, list.size());
+        assertEquals(0, list.getQueueDepth());
+        for (int t = 0; t < threads; t++) {
+            // Edits of a single producer keep their order
+            int last = -1;
+            for (String s : list) {
+                if (s.startsWith("t" + t + "-")) {
+                    int i = Integer.parseInt(s.substring(s.indexOf('-') + 1));
+                    assertEquals(last + 1, i);
+                    last = i;
+                }
+            }
+            assertEquals(edits - 1, last);
+        }
+    }
+}
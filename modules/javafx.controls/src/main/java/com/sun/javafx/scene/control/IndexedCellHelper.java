@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.control;
+
+import com.sun.javafx.util.Utils;
+import javafx.scene.control.IndexedCell;
+
+/*
+ * Used to access internal IndexedCell methods.
+ */
+public class IndexedCellHelper {
+
+    private static IndexedCellAccessor indexedCellAccessor;
+
+    static {
+        Utils.forceInit(IndexedCell.class);
+    }
+
+    private IndexedCellHelper() {
+    }
+
+    /*
+     * Tells the cell that a VirtualFlow keeps it on its pile, where it is not
+     * shown until it gets an index again.
+     */
+    public static void recycle(IndexedCell<?> cell) {
+        indexedCellAccessor.recycle(cell);
+    }
+
+    /*
+     * Sets what a cell outside of javafx.scene.control does when it is
+     * recycled.
+     */
+    public static void setOnRecycled(IndexedCell<?> cell, Runnable onRecycled) {
+        indexedCellAccessor.setOnRecycled(cell, onRecycled);
+    }
+
+    public static void setIndexedCellAccessor(final IndexedCellAccessor newAccessor) {
+        if (indexedCellAccessor != null) {
+            throw new IllegalStateException();
+        }
+
+        indexedCellAccessor = newAccessor;
+    }
+
+    public interface IndexedCellAccessor {
+
+        void recycle(IndexedCell<?> cell);
+
+        void setOnRecycled(IndexedCell<?> cell, Runnable onRecycled);
+
+    }
+}
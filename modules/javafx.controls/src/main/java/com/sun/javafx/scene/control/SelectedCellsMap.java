@@ -45,20 +45,32 @@ import java.util.*;
  * row is selected.
  *
  * Refer to RT-33442 for more information on this issue.
+ *
+ * Selecting all cells of a large table would create a position for every
+ * cell, so such a selection is kept as a range of rows and columns instead,
+ * and positions are created as they are read. The range is turned into the
+ * representation above as soon as it is changed in any other way.
  */
 // T == TablePosition<S,?>
 public abstract class SelectedCellsMap<T extends TablePositionBase> {
     private final ObservableList<T> selectedCells;
     private final ObservableList<T> sortedSelectedCells;
 
+    private final ListChangeListener<T> listener;
+
     private final Map<Integer, BitSet> selectedCellBitSetMap;
 
+    // the selected range of cells, or null if the selection is held in the
+    // lists and the map above
+    private CellRange<T> cellRange;
+
     public SelectedCellsMap(final ListChangeListener<T> listener) {
         selectedCells = FXCollections.<T>observableArrayList();
         sortedSelectedCells = new SortedList<>(selectedCells, (T o1, T o2) -> {
             int result = o1.getRow() - o2.getRow();
             return result == 0 ? (o1.getColumn() - o2.getColumn()) : result;
         });
+        this.listener = listener;
         sortedSelectedCells.addListener(listener);
 
         selectedCellBitSetMap = new TreeMap<>((o1, o2) -> o1.compareTo(o2));
@@ -67,6 +79,9 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     public abstract boolean isCellSelectionEnabled();
 
     public int size() {
+        if (cellRange != null) {
+            return cellRange.size();
+        }
         return selectedCells.size();
     }
 
@@ -74,10 +89,20 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
         if (i < 0) {
             return null;
         }
+        if (cellRange != null) {
+            return cellRange.get(i);
+        }
         return sortedSelectedCells.get(i);
     }
 
     public void add(T tp) {
+        if (cellRange != null) {
+            if (cellRange.contains(tp, isCellSelectionEnabled())) {
+                return;
+            }
+            expandCellRange();
+        }
+
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
@@ -121,6 +146,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void addAll(Collection<T> cells) {
+        expandCellRange();
+
         // update bitset
         for (T tp : cells) {
             final int row = tp.getRow();
@@ -147,6 +174,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void setAll(Collection<T> cells) {
+        cellRange = null;
+
         // update bitset
         selectedCellBitSetMap.clear();
         for (T tp : cells) {
@@ -174,6 +203,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void remove(T tp) {
+        expandCellRange();
+
         final int row = tp.getRow();
         final int columnIndex = tp.getColumn();
 
@@ -195,6 +226,8 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public void clear() {
+        cellRange = null;
+
         // update bitset
         selectedCellBitSetMap.clear();
 
@@ -203,7 +236,9 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public boolean isSelected(int row, int columnIndex) {
-        if (columnIndex < 0) {
+        if (cellRange != null) {
+            return cellRange.isSelected(row, columnIndex);
+        } else if (columnIndex < 0) {
             return selectedCellBitSetMap.containsKey(row);
         } else {
             return selectedCellBitSetMap.containsKey(row) ? selectedCellBitSetMap.get(row).get(columnIndex) : false;
@@ -211,14 +246,125 @@ public abstract class SelectedCellsMap<T extends TablePositionBase> {
     }
 
     public int indexOf(T tp) {
+        if (cellRange != null) {
+            return cellRange.indexOf(tp);
+        }
         return sortedSelectedCells.indexOf(tp);
     }
 
     public boolean isEmpty() {
-        return selectedCells.isEmpty();
+        return size() == 0;
     }
 
-    public ObservableList<T> getSelectedCells() {
+    public List<T> getSelectedCells() {
+        if (cellRange != null) {
+            return cellRange;
+        }
         return selectedCells;
     }
+
+    /**
+     * Returns the selected cells in row and column order, as they are now.
+     * A selected range of cells is returned as is, without creating the
+     * positions of its cells.
+     */
+    public List<T> getSnapshot() {
+        if (cellRange != null) {
+            return cellRange;
+        }
+        return new ArrayList<>(sortedSelectedCells);
+    }
+
+    /**
+     * Selects the cells of the given number of rows and columns, replacing
+     * the current selection. A column count of zero selects the rows without
+     * any column. No change is fired, as the caller is expected to fire a
+     * single change covering the whole range.
+     */
+    public void setRange(int rowCount, int columnCount, PositionFactory<T> factory) {
+        selectedCellBitSetMap.clear();
+        sortedSelectedCells.removeListener(listener);
+        selectedCells.clear();
+        sortedSelectedCells.addListener(listener);
+
+        cellRange = new CellRange<>(rowCount, columnCount, factory);
+    }
+
+    private void expandCellRange() {
+        if (cellRange == null) {
+            return;
+        }
+        List<T> cells = new ArrayList<>(cellRange);
+        sortedSelectedCells.removeListener(listener);
+        setAll(cells);
+        sortedSelectedCells.addListener(listener);
+    }
+
+    /**
+     * Creates the position of a cell in a selected range of cells. The column
+     * is -1 when the range holds rows only.
+     */
+    @FunctionalInterface
+    public interface PositionFactory<T> {
+        T createPosition(int row, int column);
+    }
+
+    /*
+     * An immutable range of rows and columns, listing its cells in row and
+     * column order.
+     */
+    private static final class CellRange<T> extends AbstractList<T> {
+        private final int rowCount;
+        private final int columnCount;
+        private final PositionFactory<T> factory;
+
+        CellRange(int rowCount, int columnCount, PositionFactory<T> factory) {
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            this.factory = factory;
+        }
+
+        private int getCellsPerRow() {
+            return Math.max(1, columnCount);
+        }
+
+        @Override public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, (long) rowCount * getCellsPerRow());
+        }
+
+        @Override public T get(int index) {
+            Objects.checkIndex(index, size());
+            final int cellsPerRow = getCellsPerRow();
+            return factory.createPosition(index / cellsPerRow, columnCount == 0 ? -1 : index % cellsPerRow);
+        }
+
+        boolean isSelected(int row, int columnIndex) {
+            return row >= 0 && row < rowCount && columnIndex < columnCount;
+        }
+
+        boolean contains(TablePositionBase<?> tp, boolean cellSelectionEnabled) {
+            if (!cellSelectionEnabled) {
+                return tp.getRow() >= 0 && tp.getRow() < rowCount;
+            }
+            return indexOf(tp) >= 0;
+        }
+
+        @Override public int indexOf(Object o) {
+            if (!(o instanceof TablePositionBase)) {
+                return -1;
+            }
+            final TablePositionBase<?> tp = (TablePositionBase<?>) o;
+            final int row = tp.getRow();
+            final int column = columnCount == 0 ? 0 : tp.getColumn();
+            if (row < 0 || row >= rowCount || column < 0 || column >= getCellsPerRow()) {
+                return -1;
+            }
+            final int index = row * getCellsPerRow() + column;
+            return index < size() && get(index).equals(tp) ? index : -1;
+        }
+
+        @Override public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+    }
 }
\ No newline at end of file
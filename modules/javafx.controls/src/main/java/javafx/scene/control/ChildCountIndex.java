@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control;
+
+/**
+ * A Fenwick tree over the expanded item counts of the children of a
+ * TreeItem, in the order of its children list. It maps between rows and
+ * children in O(log n) and merges the change of a single child count in
+ * O(log n), so that neither needs a walk over all the siblings.
+ */
+final class ChildCountIndex {
+
+    // 1-based, tree[i] holds the sum of the counts (i - (i & -i), i]
+    private final int[] tree;
+    private final int size;
+    private int total;
+
+    ChildCountIndex(int[] counts) {
+        size = counts.length;
+        tree = new int[size + 1];
+        for (int i = 1; i <= size; i++) {
+            tree[i] += counts[i - 1];
+            total += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sum of the counts of all children.
+     */
+    int getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the sum of the counts of the children before the given position.
+     */
+    int getOffset(int position) {
+        int sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Sets the count of the child at the given position.
+     */
+    void set(int position, int count) {
+        final int delta = count - (getOffset(position + 1) - getOffset(position));
+        if (delta == 0) {
+            return;
+        }
+        total += delta;
+        for (int i = position + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the position of the child whose rows contain the given row,
+     * counted from the first row of the first child, or -1 if the row is out
+     * of range.
+     */
+    int find(int row) {
+        if (row < 0 || row >= total) {
+            return -1;
+        }
+        int position = 0;
+        int remaining = row;
+        for (int step = Integer.highestOneBit(size); step > 0; step >>= 1) {
+            final int next = position + step;
+            if (next <= size && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+}
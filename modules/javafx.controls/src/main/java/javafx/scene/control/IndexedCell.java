@@ -25,9 +25,11 @@
 
 package javafx.scene.control;
 
+import com.sun.javafx.scene.control.IndexedCellHelper;
 import javafx.css.PseudoClass;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.scene.Node;
 
 /**
  * An implementation of {@link Cell} which contains an index property which maps
@@ -50,6 +52,19 @@ import javafx.beans.property.ReadOnlyIntegerWrapper;
  * @since JavaFX 2.0
  */
 public class IndexedCell<T> extends Cell<T> {
+    static {
+        IndexedCellHelper.setIndexedCellAccessor(new IndexedCellHelper.IndexedCellAccessor() {
+            @Override
+            public void recycle(IndexedCell<?> cell) {
+                cell.recycle();
+            }
+
+            @Override
+            public void setOnRecycled(IndexedCell<?> cell, Runnable onRecycled) {
+                cell.onRecycled = onRecycled;
+            }
+        });
+    }
 
     /* *************************************************************************
      *                                                                         *
@@ -121,6 +136,8 @@ public class IndexedCell<T> extends Cell<T> {
      */
     public void updateIndex(int newIndex) {
         oldIndex = index.get();
+        final boolean wasRecycled = recycled;
+        recycled = false;
 
         if (oldIndex == newIndex) {
             // When the index wasn't changed the index property will not be invalidated,
@@ -129,6 +146,16 @@ public class IndexedCell<T> extends Cell<T> {
         } else {
             index.set(newIndex);
         }
+
+        if (wasRecycled) {
+            // The cells of a row are not updated when the row keeps its item,
+            // but they have to observe their values again
+            for (Node child : getChildrenUnmodifiable()) {
+                if (child instanceof IndexedCell<?> cell && cell.recycled) {
+                    cell.updateIndex(cell.getIndex());
+                }
+            }
+        }
     }
 
     /**
@@ -141,6 +168,40 @@ public class IndexedCell<T> extends Cell<T> {
         // no-op
     }
 
+    // Whether a VirtualFlow keeps this cell on its pile
+    private boolean recycled;
+
+    private Runnable onRecycled;
+
+    /*
+     * Called by a VirtualFlow when it puts this cell on its pile. The cell is
+     * not shown until its index is updated again. The cells of a row are
+     * recycled with it.
+     */
+    private void recycle() {
+        if (recycled) {
+            return;
+        }
+        recycled = true;
+        for (Node child : getChildrenUnmodifiable()) {
+            if (child instanceof IndexedCell<?> cell) {
+                cell.recycle();
+            }
+        }
+        recycled();
+        if (onRecycled != null) {
+            onRecycled.run();
+        }
+    }
+
+    /**
+     * This method is called when the cell is recycled, so that it can stop
+     * observing its value until its index is updated again.
+     */
+    void recycled() {
+        // no-op
+    }
+
     /* *************************************************************************
      *                                                                         *
      * Stylesheet Handling                                                     *
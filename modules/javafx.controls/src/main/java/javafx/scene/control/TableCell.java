@@ -490,6 +490,15 @@ public class TableCell<S,T> extends IndexedCell<T> {
         updateEditing();
     }
 
+    @Override void recycled() {
+        // The value is observed again when the cell gets its next index, until
+        // then a value that is still loading can be cancelled
+        if (currentObservableValue != null) {
+            currentObservableValue.removeListener(weaktableRowUpdateObserver);
+            currentObservableValue = null;
+        }
+    }
+
     private boolean isLastVisibleColumn = false;
     private int columnIndex = -1;
 
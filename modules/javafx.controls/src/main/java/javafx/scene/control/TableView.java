@@ -27,7 +27,6 @@ package javafx.scene.control;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -2794,36 +2793,32 @@ public class TableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            final int rowCount = getItemCount();
             if (isCellSelectionEnabled()) {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                TableColumn<S,?> column;
-                TablePosition<S,?> tp = null;
-                for (int col = 0; col < getTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getItemCount(); row++) {
-                        tp = new TablePosition<>(getTableView(), row, column);
-                        indices.add(tp);
-                    }
-                }
-                selectedCellsMap.setAll(indices);
-
-                if (tp != null) {
-                    select(tp.getRow(), tp.getTableColumn());
-                    focus(tp.getRow(), tp.getTableColumn());
+                List<TableColumn<S,?>> columns = new ArrayList<>(getTableView().getVisibleLeafColumns());
+                selectAllCells(rowCount, columns.size(),
+                        (row, column) -> {
+                            // the positions are created as they are read, so
+                            // fix the column index at the time of selection
+                            TablePosition<S,?> pos = new TablePosition<>(getTableView(), row, columns.get(column));
+                            pos.fixedColumnIndex = column;
+                            return pos;
+                        });
+
+                if (rowCount > 0 && !columns.isEmpty()) {
+                    TableColumn<S,?> column = columns.get(columns.size() - 1);
+                    select(rowCount - 1, column);
+                    focus(rowCount - 1, column);
                 }
             } else {
-                List<TablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getItemCount(); i++) {
-                    indices.add(new TablePosition<>(getTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                selectAllCells(rowCount, 0, (row, column) -> new TablePosition<>(getTableView(), row, null));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
                     final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(itemCount - 1);
                     }
                 } else {
                     select(focusedIndex);
@@ -2832,6 +2827,30 @@ public class TableView<S> extends Control {
             }
         }
 
+        /*
+         * Selects all cells as a range, rather than creating a position for
+         * each of them, and fires a single change for the selected cells and
+         * for the selected indices.
+         */
+        private void selectAllCells(int rowCount, int columnCount,
+                                    SelectedCellsMap.PositionFactory<TablePosition<S,?>> factory) {
+            final List<TablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
+            selectedCellsMap.setRange(rowCount, columnCount, factory);
+
+            selectedIndices._beginChange();
+            selectedIndices.clear();
+            if (rowCount > 0) {
+                selectedIndices.set(0, rowCount, true);
+            }
+            selectedIndices._endChange();
+
+            if (!isAtomic() && (!removed.isEmpty() || !selectedCellsMap.isEmpty())) {
+                ListChangeListener.Change<TablePosition<S, ?>> c = new NonIterableChange.GenericAddRemoveChange<>(
+                        0, selectedCellsMap.size(), removed, selectedCellsSeq);
+                selectedCellsSeq.callObservers(c);
+            }
+        }
+
         @Override public void selectRange(int minRow, TableColumnBase<S,?> minColumn,
                                           int maxRow, TableColumnBase<S,?> maxColumn) {
             if (getSelectionMode() == SelectionMode.SINGLE) {
@@ -2944,7 +2963,7 @@ public class TableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
 
             quietClearSelection();
 
@@ -366,6 +366,7 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         new EventHandler<>() {
             @Override public void handle(TreeModificationEvent<Object> event) {
                 expandedDescendentCountDirty = true;
+                childCountChanged(event);
             }
     };
 
@@ -404,6 +405,24 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // when all children are collapsed.
     int previousExpandedDescendentCount = 1;
 
+    // The number of changed children above which the childCountIndex is
+    // rebuilt rather than updated
+    private static final int MAX_CHANGED_CHILDREN = 16;
+
+    // The expanded item counts of the children, so that rows can be mapped to
+    // children without summing up the counts of the siblings. This is null
+    // until the count is first computed, and whenever the children change.
+    private ChildCountIndex childCountIndex;
+
+    // The children whose count changed since the childCountIndex was last
+    // updated, or null. Only these are merged into the index on the next
+    // count update.
+    private List<TreeItem<?>> changedChildren;
+
+    // The position of this TreeItem in the children of its parent when the
+    // childCountIndex of the parent was last built
+    private int indexInParent = -1;
+
     Comparator<TreeItem<T>> lastComparator = null;
     TreeSortMode lastSortMode = null;
 
@@ -422,6 +441,8 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
     // called whenever the contents of the children sequence changes
     private ListChangeListener<TreeItem<T>> childrenListener = c -> {
         expandedDescendentCountDirty = true;
+        childCountIndex = null;
+        changedChildren = null;
         updateChildren(c);
     };
 
@@ -915,14 +936,111 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
 
         ignoreSortUpdate = true;
         if (!isLeaf() && isExpanded()) {
-            for (TreeItem<T> child : getChildren()) {
-                if (child == null) continue;
-                expandedDescendentCount += child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+            if (reset || childCountIndex == null || !updateChangedChildren()) {
+                buildChildCountIndex(reset);
             }
+            expandedDescendentCount += childCountIndex.getTotal();
+        } else if (isLeaf()) {
+            childCountIndex = null;
+            changedChildren = null;
         }
         ignoreSortUpdate = false;
     }
 
+    private void buildChildCountIndex(boolean reset) {
+        final List<TreeItem<T>> children = getChildren();
+        final int[] counts = new int[children.size()];
+        for (int i = 0; i < counts.length; i++) {
+            final TreeItem<T> child = children.get(i);
+            if (child == null) continue;
+            child.indexInParent = i;
+            counts[i] = child.isExpanded() ? child.getExpandedDescendentCount(reset) : 1;
+        }
+        childCountIndex = new ChildCountIndex(counts);
+        changedChildren = null;
+    }
+
+    // Merges the counts of the changed children into the childCountIndex,
+    // returns false if it needs to be rebuilt instead
+    private boolean updateChangedChildren() {
+        if (changedChildren != null) {
+            for (int i = 0, max = changedChildren.size(); i < max; i++) {
+                final TreeItem<?> child = changedChildren.get(i);
+                final int position = child.indexInParent;
+                if (children == null || position < 0 || position >= childCountIndex.size()
+                        || children.get(position) != child) {
+                    return false;
+                }
+                childCountIndex.set(position,
+                        child.isExpanded() ? child.getExpandedDescendentCount(false) : 1);
+            }
+            changedChildren = null;
+        }
+        return true;
+    }
+
+    // Called for every count change in the subtree of this TreeItem, records
+    // the child on the path to the changed item
+    private void childCountChanged(TreeModificationEvent<?> event) {
+        final TreeItem<?> changedItem = event.getTreeItem();
+        // The event bubbles up from the changed item, so the item that
+        // received it before this one is the child on the path
+        TreeItem<?> child = event.lastReceiver;
+        event.lastReceiver = this;
+        if (childCountIndex == null || changedItem == this) {
+            // nothing to update, or this TreeItem was expanded or collapsed,
+            // which leaves the counts of its children as they are
+            return;
+        }
+        if (child == null || child.getParent() != this) {
+            child = changedItem;
+            while (child != null && child.getParent() != this) {
+                child = child.getParent();
+            }
+        }
+        if (child == null) {
+            childCountIndex = null;
+            changedChildren = null;
+            return;
+        }
+        if (changedChildren == null) {
+            changedChildren = new ArrayList<>(4);
+        } else if (changedChildren.contains(child)) {
+            return;
+        } else if (changedChildren.size() >= MAX_CHANGED_CHILDREN) {
+            // cheaper to rebuild
+            childCountIndex = null;
+            changedChildren = null;
+            return;
+        }
+        changedChildren.add(child);
+    }
+
+    // This value is package accessible so that it may be retrieved from
+    // TreeUtil. The returned index is up to date after a call to
+    // getExpandedDescendentCount while this TreeItem is expanded.
+    ChildCountIndex getChildCountIndex() {
+        return childCountIndex;
+    }
+
+    // Returns whether the childCountIndex reflects the current counts of the
+    // children. Unlike getExpandedDescendentCount, this never computes counts
+    // or children, so it is safe to call while the children are changing.
+    boolean isChildCountIndexValid() {
+        return childCountIndex != null && changedChildren == null && !expandedDescendentCountDirty;
+    }
+
+    // Returns the position of the given child as recorded in the
+    // childCountIndex, or -1 if it is not known
+    int getIndexInChildCountIndex(TreeItem<T> child) {
+        final int position = child.indexInParent;
+        if (childCountIndex == null || children == null || position < 0
+                || position >= childCountIndex.size() || children.get(position) != child) {
+            return -1;
+        }
+        return position;
+    }
+
     private void updateChildren(ListChangeListener.Change<? extends TreeItem<T>> c) {
         setLeaf(children.isEmpty());
 
@@ -1008,6 +1126,10 @@ public class TreeItem<T> implements EventTarget { //, Comparable<TreeItem<T>> {
         private final boolean wasCollapsed;
         private boolean wasPermutated;
 
+        // The TreeItem whose handlers received this event last, see
+        // TreeItem.childCountChanged
+        private transient TreeItem<?> lastReceiver;
+
         /**
          * Constructs a basic TreeModificationEvent - this is useful in situations
          * where the tree item has not received a new value, has not changed
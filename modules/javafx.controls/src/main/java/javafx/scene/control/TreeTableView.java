@@ -28,7 +28,6 @@ package javafx.scene.control;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -3171,36 +3170,32 @@ public class TreeTableView<S> extends Control {
         @Override public void selectAll() {
             if (getSelectionMode() == SelectionMode.SINGLE) return;
 
+            final int rowCount = getRowCount();
             if (isCellSelectionEnabled()) {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                TreeTableColumn<S,?> column;
-                TreeTablePosition<S,?> tp = null;
-                for (int col = 0; col < getTreeTableView().getVisibleLeafColumns().size(); col++) {
-                    column = getTreeTableView().getVisibleLeafColumns().get(col);
-                    for (int row = 0; row < getRowCount(); row++) {
-                        tp = new TreeTablePosition<>(getTreeTableView(), row, column);
-                        indices.add(tp);
-                    }
-                }
-                selectedCellsMap.setAll(indices);
-
-                if (tp != null) {
-                    select(tp.getRow(), tp.getTableColumn());
-                    focus(tp.getRow(), tp.getTableColumn());
+                List<TreeTableColumn<S,?>> columns = new ArrayList<>(getTreeTableView().getVisibleLeafColumns());
+                selectAllCells(rowCount, columns.size(),
+                        (row, column) -> {
+                            // the positions are created as they are read, so
+                            // fix the column index at the time of selection
+                            TreeTablePosition<S,?> pos = new TreeTablePosition<>(getTreeTableView(), row, columns.get(column));
+                            pos.fixedColumnIndex = column;
+                            return pos;
+                        });
+
+                if (rowCount > 0 && !columns.isEmpty()) {
+                    TreeTableColumn<S,?> column = columns.get(columns.size() - 1);
+                    select(rowCount - 1, column);
+                    focus(rowCount - 1, column);
                 }
             } else {
-                List<TreeTablePosition<S,?>> indices = new ArrayList<>();
-                for (int i = 0; i < getRowCount(); i++) {
-                    indices.add(new TreeTablePosition<>(getTreeTableView(), i, null));
-                }
-                selectedCellsMap.setAll(indices);
+                selectAllCells(rowCount, 0, (row, column) -> new TreeTablePosition<>(getTreeTableView(), row, null));
 
                 int focusedIndex = getFocusedIndex();
                 if (focusedIndex == -1) {
                     final int itemCount = getItemCount();
                     if (itemCount > 0) {
                         select(itemCount - 1);
-                        focus(indices.get(indices.size() - 1));
+                        focus(itemCount - 1);
                     }
                 } else {
                     select(focusedIndex);
@@ -3209,6 +3204,30 @@ public class TreeTableView<S> extends Control {
             }
         }
 
+        /*
+         * Selects all cells as a range, rather than creating a position for
+         * each of them, and fires a single change for the selected cells and
+         * for the selected indices.
+         */
+        private void selectAllCells(int rowCount, int columnCount,
+                                    SelectedCellsMap.PositionFactory<TreeTablePosition<S,?>> factory) {
+            final List<TreeTablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
+            selectedCellsMap.setRange(rowCount, columnCount, factory);
+
+            selectedIndices._beginChange();
+            selectedIndices.clear();
+            if (rowCount > 0) {
+                selectedIndices.set(0, rowCount, true);
+            }
+            selectedIndices._endChange();
+
+            if (!isAtomic() && (!removed.isEmpty() || !selectedCellsMap.isEmpty())) {
+                ListChangeListener.Change<TreeTablePosition<S, ?>> c = new NonIterableChange.GenericAddRemoveChange<>(
+                        0, selectedCellsMap.size(), removed, selectedCellsSeq);
+                selectedCellsSeq.callObservers(c);
+            }
+        }
+
         @Override public void selectRange(int minRow, TableColumnBase<TreeItem<S>,?> minColumn,
                                           int maxRow, TableColumnBase<TreeItem<S>,?> maxColumn) {
             if (getSelectionMode() == SelectionMode.SINGLE) {
@@ -3321,7 +3340,7 @@ public class TreeTableView<S> extends Control {
         }
 
         @Override public void clearSelection() {
-            final List<TreeTablePosition<S,?>> removed = new ArrayList<>((Collection)getSelectedCells());
+            final List<TreeTablePosition<S,?>> removed = selectedCellsMap.getSnapshot();
 
             quietClearSelection();
 
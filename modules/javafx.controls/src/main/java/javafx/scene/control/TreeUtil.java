@@ -68,6 +68,17 @@ class TreeUtil {
 
         int idx = itemIndex - 1;
 
+        // the count above brought the index of the child counts up to date,
+        // find the child which contains the row without summing up siblings
+        final ChildCountIndex index = parent.getChildCountIndex();
+        if (index != null && index.size() == children.size()) {
+            final int position = index.find(idx);
+            if (position < 0) return null;
+            final TreeItem<T> child = children.get(position);
+            final int offset = idx - index.getOffset(position);
+            return offset == 0 ? child : getItem(child, offset, treeItemCountDirty);
+        }
+
         TreeItem<T> child;
         for (int i = 0, max = children.size(); i < max; i++) {
             child = children.get(i);
@@ -100,6 +111,11 @@ class TreeUtil {
             return 0;
         }
 
+        final int indexedRow = getIndexedRow(item, root, treeItemCountDirty);
+        if (indexedRow != Integer.MIN_VALUE) {
+            return isShowRoot ? indexedRow : indexedRow == 0 ? -1 : indexedRow - 1;
+        }
+
         int row = 0;
         TreeItem<T> i = item;
         TreeItem<T> p = item.getParent();
@@ -149,4 +165,38 @@ class TreeUtil {
 
         return (p == null && row == 0) || parentIsCollapsed ? -1 : isShowRoot ? row : row - 1;
     }
+
+    /*
+     * Returns the row of the item counted from the root (which is at row 0),
+     * -1 if an ancestor is collapsed, or Integer.MIN_VALUE if the row cannot
+     * be found through the indices of the child counts, either because the
+     * root is not an ancestor of the item or because an index is not built
+     * or not up to date.
+     */
+    private static <T> int getIndexedRow(TreeItem<T> item, TreeItem<T> root, boolean treeItemCountDirty) {
+        if (root == null) return Integer.MIN_VALUE;
+
+        int row = 0;
+        boolean collapsed = false;
+        TreeItem<T> i = item;
+        while (i != root) {
+            final TreeItem<T> p = i.getParent();
+            if (p == null) return Integer.MIN_VALUE;
+
+            if (! p.isExpanded()) {
+                // keep going, the root still needs to be found
+                collapsed = true;
+            } else if (! collapsed) {
+                // only use an index that is already up to date, computing the
+                // counts here could call getChildren() on lazily populated
+                // items, whose change events call back into getRow
+                if (treeItemCountDirty || ! p.isChildCountIndexValid()) return Integer.MIN_VALUE;
+                final int position = p.getIndexInChildCountIndex(i);
+                if (position < 0) return Integer.MIN_VALUE;
+                row += p.getChildCountIndex().getOffset(position) + 1;
+            }
+            i = p;
+        }
+        return collapsed ? -1 : row;
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control.cell;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import com.sun.javafx.scene.control.IndexedCellHelper;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.ObservableValueBase;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.CellDataFeatures;
+import javafx.scene.control.TableView;
+import javafx.util.Callback;
+
+/**
+ * A convenience implementation of the Callback interface, designed for use
+ * within the {@link TableColumn}
+ * {@link TableColumn#cellValueFactoryProperty() cell value factory} when the
+ * values of the cells are expensive to get, for example because they come
+ * from a remote service. An example of how to use this class is:
+ *
+ * <pre><code>
+ * {@literal TableColumn<Person, Image> photoColumn = new TableColumn<>("Photo");
+ * photoColumn.setCellValueFactory(new AsyncValueFactory<>(
+ *         person -> CompletableFuture.supplyAsync(() -> loadPhoto(person))));}
+ * </code></pre>
+ *
+ * <p>The loader is called with the value of the row and returns a
+ * {@link CompletionStage} of the value of the cell. Until it completes, the
+ * cell shows the placeholder value, which is {@code null} unless specified
+ * otherwise. The value is then set on the JavaFX Application Thread and the
+ * cell updates as for any other changing value. If the loading fails, the cell
+ * keeps the placeholder.
+ *
+ * <p>When a cell is scrolled out of view or reused for another row before its
+ * value has arrived, the loading is cancelled through
+ * {@link CompletableFuture#cancel(boolean)} as soon as no cell observes the
+ * value anymore. Loaded values are kept in a cache of a bounded number of
+ * entries, using the least recently used value as the one to drop, so that
+ * scrolling back to a row does not load its value again. Failed loadings are
+ * kept the same way, so that they are not started again whenever a cell
+ * updates. A factory is meant to be used by a single column or list.
+ *
+ * <p>A {@link ListView} shows the loaded values of its items with the cells
+ * from {@link #forListView()}:
+ *
+ * <pre><code>
+ * {@literal ListView<Person> listView = new ListView<>(people);
+ * listView.setCellFactory(new AsyncValueFactory<Person, Image>(
+ *         person -> CompletableFuture.supplyAsync(() -> loadPhoto(person))).forListView());}
+ * </code></pre>
+ *
+ * <p>Other cells can use {@link #getObservableValue(Object)} to load their
+ * content the same way, observing the returned value from
+ * {@link ListCell#updateItem}.
+ *
+ * @see TableColumn
+ * @see TableView
+ * @see TableCell
+ * @param <S> The type of the class contained within the TableView.items list.
+ * @param <T> The type of the class contained within the TableColumn cells.
+ * @since 22
+ */
+public class AsyncValueFactory<S,T> implements Callback<CellDataFeatures<S,T>, ObservableValue<T>> {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private final Function<? super S, ? extends CompletionStage<? extends T>> loader;
+    private final T placeholder;
+    private final Map<S, T> cache;
+    private final Set<S> failed;
+    private final Map<S, AsyncValue> pending = new HashMap<>();
+
+    /**
+     * Creates an AsyncValueFactory with a {@code null} placeholder and a cache
+     * of 1000 values.
+     *
+     * @param loader the function that starts loading the value of the cell for
+     *      the value of a row
+     * @throws NullPointerException if the loader is null
+     */
+    public AsyncValueFactory(Function<? super S, ? extends CompletionStage<? extends T>> loader) {
+        this(loader, null, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates an AsyncValueFactory.
+     *
+     * @param loader the function that starts loading the value of the cell for
+     *      the value of a row
+     * @param placeholder the value of the cell while its value is loading
+     * @param cacheSize the maximum number of loaded values to keep
+     * @throws NullPointerException if the loader is null
+     * @throws IllegalArgumentException if the cache size is negative
+     */
+    public AsyncValueFactory(Function<? super S, ? extends CompletionStage<? extends T>> loader,
+                             T placeholder, int cacheSize) {
+        this.loader = Objects.requireNonNull(loader, "loader must not be null");
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must not be negative: " + cacheSize);
+        }
+        this.placeholder = placeholder;
+        this.cache = createCache(cacheSize);
+        this.failed = Collections.newSetFromMap(createCache(cacheSize));
+    }
+
+    private static <K, V> Map<K, V> createCache(int cacheSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override public ObservableValue<T> call(CellDataFeatures<S,T> cdf) {
+        return getObservableValue(cdf.getValue());
+    }
+
+    /**
+     * Returns a cell factory for a {@link ListView} whose items are the values
+     * of the rows. A cell shows the value that is loaded for its item, a
+     * {@link Node} as its graphic and any other value as its text. A cell
+     * stops observing its value when the ListView keeps it for later use, so
+     * that the loading can be cancelled.
+     *
+     * @return the cell factory
+     */
+    public final Callback<ListView<S>, ListCell<S>> forListView() {
+        return listView -> new AsyncListCell();
+    }
+
+    /**
+     * Returns the value of the cell for the given value of a row. This is the
+     * cached value if it was loaded before, or the placeholder if loading it
+     * failed. Otherwise it is the placeholder until the value is loaded, and
+     * loading starts unless it is in progress already.
+     *
+     * @param rowValue the value of the row
+     * @return the observable value of the cell
+     */
+    public final ObservableValue<T> getObservableValue(S rowValue) {
+        if (cache.containsKey(rowValue)) {
+            return new ReadOnlyObjectWrapper<>(cache.get(rowValue));
+        }
+        if (failed.contains(rowValue)) {
+            return new ReadOnlyObjectWrapper<>(placeholder);
+        }
+        AsyncValue value = pending.get(rowValue);
+        if (value == null) {
+            value = new AsyncValue(rowValue);
+            if (!value.done) {
+                pending.put(rowValue, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the loaded value or the failure for the given value of a row
+     * from the cache, so that it is loaded again when a cell next asks for it.
+     *
+     * @param rowValue the value of the row
+     */
+    public final void invalidate(S rowValue) {
+        cache.remove(rowValue);
+        failed.remove(rowValue);
+    }
+
+    /**
+     * Removes all loaded values and failures from the cache.
+     */
+    public final void clearCache() {
+        cache.clear();
+        failed.clear();
+    }
+
+    private final class AsyncValue extends ObservableValueBase<T> {
+        private final S rowValue;
+        private final CompletableFuture<? extends T> future;
+        private T value = placeholder;
+        private int listenerCount;
+        private boolean done;
+
+        AsyncValue(S rowValue) {
+            this.rowValue = rowValue;
+            this.future = loader.apply(rowValue).toCompletableFuture();
+            future.whenComplete((result, exception) -> {
+                if (Platform.isFxApplicationThread()) {
+                    complete(result, exception);
+                } else {
+                    Platform.runLater(() -> complete(result, exception));
+                }
+            });
+        }
+
+        private void complete(T result, Throwable exception) {
+            if (done) {
+                return;
+            }
+            done = true;
+            if (pending.get(rowValue) == this) {
+                pending.remove(rowValue);
+            }
+            if (exception == null) {
+                cache.put(rowValue, result);
+                value = result;
+                fireValueChangedEvent();
+            } else {
+                failed.add(rowValue);
+            }
+        }
+
+        @Override public T getValue() {
+            return value;
+        }
+
+        @Override public void addListener(InvalidationListener listener) {
+            super.addListener(listener);
+            listenerCount++;
+        }
+
+        @Override public void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+            listenerRemoved();
+        }
+
+        @Override public void addListener(ChangeListener<? super T> listener) {
+            super.addListener(listener);
+            listenerCount++;
+        }
+
+        @Override public void removeListener(ChangeListener<? super T> listener) {
+            super.removeListener(listener);
+            listenerRemoved();
+        }
+
+        private void listenerRemoved() {
+            if (listenerCount > 0) {
+                listenerCount--;
+            }
+            if (listenerCount == 0 && !done) {
+                // A cell that stays on its row removes its listener and asks
+                // for the value again, so only cancel if no cell came back
+                Platform.runLater(() -> {
+                    if (listenerCount == 0 && !done) {
+                        done = true;
+                        if (pending.get(rowValue) == this) {
+                            pending.remove(rowValue);
+                        }
+                        future.cancel(false);
+                    }
+                });
+            }
+        }
+    }
+
+    private final class AsyncListCell extends ListCell<S> {
+        private final InvalidationListener valueListener = o -> showValue();
+        private ObservableValue<T> value;
+
+        AsyncListCell() {
+            IndexedCellHelper.setOnRecycled(this, this::stopObserving);
+        }
+
+        @Override public void updateIndex(int newIndex) {
+            super.updateIndex(newIndex);
+            // A recycled cell that shows the same item again is not updated
+            if (value == null && !isEmpty() && getItem() != null) {
+                observe(getItem());
+            }
+        }
+
+        @Override protected void updateItem(S item, boolean empty) {
+            super.updateItem(item, empty);
+            stopObserving();
+            if (empty || item == null) {
+                setText(null);
+                setGraphic(null);
+            } else {
+                observe(item);
+            }
+        }
+
+        private void observe(S item) {
+            value = getObservableValue(item);
+            value.addListener(valueListener);
+            showValue();
+        }
+
+        private void stopObserving() {
+            if (value != null) {
+                value.removeListener(valueListener);
+                value = null;
+            }
+        }
+
+        private void showValue() {
+            T v = value == null ? null : value.getValue();
+            if (v instanceof Node node) {
+                setText(null);
+                setGraphic(node);
+            } else {
+                setText(v == null ? null : v.toString());
+                setGraphic(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene.control.skin;
+
+import java.util.Arrays;
+
+/**
+ * The cache of the measured sizes of the items of a {@link VirtualFlow}. Next
+ * to the sizes, it keeps a Fenwick tree of their sums and of the number of
+ * measured items, so that the offset of an item and the item at an offset
+ * are found in O(log n). Items that were not measured yet count with an
+ * estimated size that is passed in by the caller.
+ */
+final class ItemSizeCache {
+
+    // NaN for items that were not measured
+    private double[] sizes = new double[0];
+
+    // 1-based Fenwick trees over the measured sizes and their number
+    private double[] sizeTree = new double[1];
+    private int[] countTree = new int[1];
+
+    // The number of slots in use, like the size of a list
+    private int size;
+
+    /**
+     * Returns the number of slots, measured or not.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the size of the item, or -1 if it was not measured.
+     */
+    double get(int index) {
+        if (index < 0 || index >= size) return -1;
+        final double s = sizes[index];
+        return Double.isNaN(s) ? -1 : s;
+    }
+
+    /**
+     * Stores the size of the item, growing the cache if needed.
+     */
+    void set(int index, double value) {
+        ensureSize(index + 1);
+        update(index, value);
+    }
+
+    /**
+     * Forgets the size of the item, if it is in the cache.
+     */
+    void invalidate(int index) {
+        if (index >= 0 && index < size) {
+            update(index, Double.NaN);
+        }
+    }
+
+    void clear() {
+        sizes = new double[0];
+        sizeTree = new double[1];
+        countTree = new int[1];
+        size = 0;
+    }
+
+    /**
+     * Grows the cache to the given number of slots, the new ones not measured.
+     */
+    void ensureSize(int newSize) {
+        if (newSize <= size) return;
+        if (newSize > sizes.length) {
+            final int capacity = Math.max(newSize, Math.max(16, sizes.length * 2));
+            final int oldLength = sizes.length;
+            sizes = Arrays.copyOf(sizes, capacity);
+            Arrays.fill(sizes, oldLength, capacity, Double.NaN);
+            rebuild();
+        }
+        size = newSize;
+    }
+
+    /**
+     * Returns the sum of the measured sizes of the items before the given
+     * index.
+     */
+    double getMeasuredSum(int end) {
+        double sum = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            sum += sizeTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of measured items before the given index.
+     */
+    int getMeasuredCount(int end) {
+        int count = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the offset of the start of the item, counting the items that
+     * were not measured with the estimated size.
+     */
+    double getOffset(int index, double estimate) {
+        if (index <= 0) return 0;
+        return getMeasuredSum(index) + estimate(index - getMeasuredCount(index), estimate);
+    }
+
+    /**
+     * Returns the index of the item that contains the given offset, counting
+     * the items that were not measured with the estimated size, or -1 if the
+     * offset is at or beyond the end of the given number of items.
+     */
+    int getIndexAt(double offset, double estimate, int itemCount) {
+        if (itemCount <= 0) return -1;
+        if (offset < 0) return 0;
+
+        final int n = Math.min(size, itemCount);
+        int position = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(Math.max(n, 1)); step > 0; step >>= 1) {
+            final int next = position + step;
+            if (next <= n) {
+                final double length = sizeTree[next] + estimate(step - countTree[next], estimate);
+                if (length <= remaining) {
+                    position = next;
+                    remaining -= length;
+                }
+            }
+        }
+        double index = position;
+        if (position >= n) {
+            // beyond the slots, all the items have the estimated size
+            if (estimate <= 0) return -1;
+            index = Math.min(position + Math.floor(remaining / estimate), itemCount);
+        }
+
+        // the sizes were added up in another order than getOffset does, so
+        // settle rounding differences the way getOffset sees them
+        int i = (int) index;
+        while (i > 0 && getOffset(i, estimate) > offset) {
+            i--;
+        }
+        while (i < itemCount && getOffset(i + 1, estimate) <= offset) {
+            i++;
+        }
+        return i < itemCount ? i : -1;
+    }
+
+    // Avoids NaN for an infinite estimate when all items were measured
+    private static double estimate(int unmeasured, double estimate) {
+        return unmeasured == 0 ? 0 : unmeasured * estimate;
+    }
+
+    private void update(int index, double value) {
+        final double old = sizes[index];
+        sizes[index] = value;
+        final double delta = (Double.isNaN(value) ? 0 : value) - (Double.isNaN(old) ? 0 : old);
+        final int countDelta = (Double.isNaN(value) ? 0 : 1) - (Double.isNaN(old) ? 0 : 1);
+        if (delta == 0 && countDelta == 0) return;
+        for (int i = index + 1; i < sizeTree.length; i += i & -i) {
+            sizeTree[i] += delta;
+            countTree[i] += countDelta;
+        }
+    }
+
+    private void rebuild() {
+        final int n = sizes.length;
+        sizeTree = new double[n + 1];
+        countTree = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            final double s = sizes[i - 1];
+            if (!Double.isNaN(s)) {
+                sizeTree[i] += s;
+                countTree[i]++;
+            }
+            final int parent = i + (i & -i);
+            if (parent <= n) {
+                sizeTree[parent] += sizeTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+}
@@ -164,6 +164,11 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
             markItemCountDirty();
             getSkinnable().requestLayout();
         }
+
+        @Override public boolean needsRemovedElements() {
+            // only the positions and sizes of the changes are used
+            return false;
+        }
     };
 
     private final WeakListChangeListener<T> weakListViewItemsListener =
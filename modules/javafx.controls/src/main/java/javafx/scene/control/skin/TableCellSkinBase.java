@@ -54,6 +54,10 @@ public abstract class TableCellSkinBase<S, T, C extends IndexedCell<T>> extends
 
     boolean isDeferToParentForPrefWidth = false;
 
+    // the column whose width is observed, which changes when a row reuses
+    // this cell for another column
+    private TableColumnBase<?,?> observedColumn;
+
 
 
     /* *************************************************************************
@@ -79,10 +83,11 @@ public abstract class TableCellSkinBase<S, T, C extends IndexedCell<T>> extends
         getSkinnable().setClip(clip);
         // --- end of RT-22038
 
-        TableColumnBase<?,?> tableColumn = getTableColumn();
-        if (tableColumn != null) {
-            tableColumn.widthProperty().addListener(weakColumnWidthListener);
-        }
+        observeColumnWidth(getTableColumn());
+        registerChangeListener(tableColumnProperty(), e -> {
+            observeColumnWidth(getTableColumn());
+            getSkinnable().requestLayout();
+        });
 
         if (control.getProperties().containsKey(Properties.DEFER_TO_PARENT_PREF_WIDTH)) {
             isDeferToParentForPrefWidth = true;
@@ -130,10 +135,7 @@ public abstract class TableCellSkinBase<S, T, C extends IndexedCell<T>> extends
     /** {@inheritDoc} */
     @Override public void dispose() {
         if (getSkinnable() == null) return;
-        TableColumnBase<?,T> tableColumn = getTableColumn();
-        if (tableColumn != null) {
-            tableColumn.widthProperty().removeListener(weakColumnWidthListener);
-        }
+        observeColumnWidth(null);
 
         super.dispose();
     }
@@ -156,4 +158,22 @@ public abstract class TableCellSkinBase<S, T, C extends IndexedCell<T>> extends
         TableColumnBase<?,?> tableColumn = getTableColumn();
         return tableColumn == null ? 0 : snapSizeX(tableColumn.getWidth());
     }
+
+
+
+    /* *************************************************************************
+     *                                                                         *
+     * Private implementation                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    private void observeColumnWidth(TableColumnBase<?,?> tableColumn) {
+        if (observedColumn != null) {
+            observedColumn.widthProperty().removeListener(weakColumnWidthListener);
+        }
+        observedColumn = tableColumn;
+        if (tableColumn != null) {
+            tableColumn.widthProperty().addListener(weakColumnWidthListener);
+        }
+    }
 }
@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -107,8 +108,15 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
             DoubleProperty fixedCellSizeProperty = tableView.fixedCellSizeProperty();
             if (fixedCellSizeProperty != null) {
                 registerChangeListener(fixedCellSizeProperty, e -> {
+                    boolean wasFixedCellSizeEnabled = fixedCellSizeEnabled;
                     fixedCellSize = fixedCellSizeProperty.get();
                     fixedCellSizeEnabled = fixedCellSize > 0;
+
+                    // not every column has a cell while the cell size is fixed
+                    if (wasFixedCellSizeEnabled != fixedCellSizeEnabled) {
+                        isDirty = true;
+                        getSkinnable().requestLayout();
+                    }
                 });
                 fixedCellSize = fixedCellSizeProperty.get();
                 fixedCellSizeEnabled = fixedCellSize > 0;
@@ -156,7 +164,8 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
                                 /* This is the row-based case */
                                 column = getTableView().getVisibleLeafColumn(0);
                             }
-                            TableCell<T,?> cell = cellsMap.get(column).get();
+                            Reference<TableCell<T,?>> cellRef = cellsMap.get(column);
+                            TableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
@@ -226,6 +235,26 @@ public class TableRowSkin<T> extends TableRowSkinBase<T, TableRow<T>, TableCell<
         return cell.getTableColumn();
     }
 
+    /** {@inheritDoc} */
+    @Override double lookupFixedCellSize() {
+        TableView<T> tableView = getTableView();
+        return tableView == null ? -1 : tableView.getFixedCellSize();
+    }
+
+    /** {@inheritDoc} */
+    @Override boolean reuseCell(TableCell<T, ?> cell, TableColumnBase<T, ?> col) {
+        TableColumn<T, ?> oldColumn = cell.getTableColumn();
+        TableColumn<T, ?> newColumn = (TableColumn<T, ?>) col;
+        if (oldColumn == null || cell.isEditing() || oldColumn.getCellFactory() != newColumn.getCellFactory()) {
+            return false;
+        }
+
+        // clear the item of the old column before showing the new one
+        cell.updateIndex(-1);
+        cell.updateTableColumn(newColumn);
+        return true;
+    }
+
     private TableView<T> getTableView() {
         return getSkinnable().getTableView();
     }
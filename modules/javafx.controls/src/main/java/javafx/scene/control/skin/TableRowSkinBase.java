@@ -118,6 +118,10 @@ public abstract class TableRowSkinBase<T,
      * a memory leak if an application uses TableView and is creating and removing
      * a large number of tableColumns. This is mitigated in the recreateCells()
      * function below - refer to that to learn more.
+     *
+     * When a fixed cell size is set, cells are only created for the columns
+     * in the viewport, and a cell whose column leaves the viewport may be
+     * reused for another column (see layoutChildren).
      */
     WeakHashMap<TableColumnBase, Reference<R>> cellsMap;
 
@@ -151,6 +155,9 @@ public abstract class TableRowSkinBase<T,
         super(control);
         getSkinnable().setPickOnBounds(false);
 
+        fixedCellSize = lookupFixedCellSize();
+        fixedCellSizeEnabled = fixedCellSize > 0;
+
         recreateCells();
         updateCells(true);
 
@@ -245,7 +252,7 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected void layoutChildren(double x, double y, final double w, final double h) {
         checkState();
-        if (cellsMap.isEmpty()) return;
+        if (cellsMap.isEmpty() && !fixedCellSizeEnabled) return;
 
         ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
         if (visibleLeafColumns.isEmpty()) {
@@ -326,14 +333,23 @@ public abstract class TableRowSkinBase<T,
         int index = control.getIndex();
         if (index < 0/* || row >= itemsProperty().get().size()*/) return;
 
-        for (int column = 0, max = cells.size(); column < max; column++) {
-            R tableCell = cells.get(column);
-            TableColumnBase<T, ?> tableColumn = getTableColumn(tableCell);
+        double scrollX = 0;
+        double viewportWidth = 0;
+        List<R> reusableCells = null;
+        if (fixedCellSizeEnabled) {
+            final VirtualFlow<?> virtualFlow = getVirtualFlow();
+            scrollX = virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
+            viewportWidth = getViewportWidth(virtualFlow);
+            reusableCells = getCellsOutsideViewport(visibleLeafColumns, scrollX, viewportWidth);
+        }
+
+        double columnStart = 0;
+        for (int column = 0, max = fixedCellSizeEnabled ? visibleLeafColumns.size() : cells.size(); column < max; column++) {
+            R tableCell;
 
-            boolean isVisible = true;
             if (fixedCellSizeEnabled) {
-                // we determine if the cell is visible, and if not we have the
-                // ability to take it out of the scenegraph to help improve
+                // we determine if the column is visible, and if not we do not
+                // need a cell for it in the scenegraph, which helps to improve
                 // performance. However, we only do this when there is a
                 // fixed cell length specified in the TableView. This is because
                 // when we have a fixed cell length it is possible to know with
@@ -341,103 +357,110 @@ public abstract class TableRowSkinBase<T,
                 // provided by the developer, and this means that we do not have
                 // to concern ourselves with the possibility that the height
                 // may be variable and / or dynamic.
-                isVisible = isColumnPartiallyOrFullyVisible(tableColumn);
+                TableColumnBase<T, ?> tableColumn = visibleLeafColumns.get(column);
+                double columnEnd = columnStart + tableColumn.getWidth();
+                boolean isVisible = isColumnPartiallyOrFullyVisible(columnStart, columnEnd, scrollX, viewportWidth);
+                columnStart = columnEnd;
+
+                if (!isVisible) {
+                    x += snapSizeX(tableColumn.getWidth());
+                    continue;
+                }
 
+                tableCell = getCellInViewport(tableColumn, reusableCells);
                 y = 0;
                 height = fixedCellSize;
             } else {
+                tableCell = cells.get(column);
                 height = h;
             }
 
-            if (isVisible) {
-                if (fixedCellSizeEnabled && tableCell.getParent() == null) {
-                    getChildren().add(tableCell);
-                }
-                // Note: prefWidth() has to be called only after the tableCell is added to the tableRow, if it wasn't
-                // already. Otherwise, it might not have its skin yet, and its pref width is therefore 0.
-                width = tableCell.prefWidth(height);
-
-                // Added for RT-32700, and then updated for RT-34074.
-                // We change the alignment from CENTER_LEFT to TOP_LEFT if the
-                // height of the row is greater than the default size, and if
-                // the alignment is the default alignment.
-                // What I would rather do is only change the alignment if the
-                // alignment has not been manually changed, but for now this will
-                // do.
-                final boolean centreContent = height <= 24.0;
-
-                // if the style origin is null then the property has not been
-                // set (or it has been reset to its default), which means that
-                // we can set it without overwriting someone elses settings.
-                final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
-                if (! centreContent && origin == null) {
-                    tableCell.setAlignment(Pos.TOP_LEFT);
-                }
-                // --- end of RT-32700 fix
-
-                ///////////////////////////////////////////
-                // further indentation code starts here
-                ///////////////////////////////////////////
-                if (indentationRequired && column == indentationColumnIndex) {
-                    if (disclosureVisible) {
-                        double ph = disclosureNode.prefHeight(disclosureWidth);
-
-                        if (width > 0 && width < (disclosureWidth + leftMargin)) {
-                            fadeOut(disclosureNode);
-                        } else {
-                            fadeIn(disclosureNode);
-                            disclosureNode.resize(disclosureWidth, ph);
-
-                            disclosureNode.relocate(x + leftMargin,
-                                    centreContent ? y + (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
-                            disclosureNode.toFront();
-                        }
+            if (fixedCellSizeEnabled && tableCell.getParent() == null) {
+                getChildren().add(tableCell);
+            }
+            // Note: prefWidth() has to be called only after the tableCell is added to the tableRow, if it wasn't
+            // already. Otherwise, it might not have its skin yet, and its pref width is therefore 0.
+            width = tableCell.prefWidth(height);
+
+            // Added for RT-32700, and then updated for RT-34074.
+            // We change the alignment from CENTER_LEFT to TOP_LEFT if the
+            // height of the row is greater than the default size, and if
+            // the alignment is the default alignment.
+            // What I would rather do is only change the alignment if the
+            // alignment has not been manually changed, but for now this will
+            // do.
+            final boolean centreContent = height <= 24.0;
+
+            // if the style origin is null then the property has not been
+            // set (or it has been reset to its default), which means that
+            // we can set it without overwriting someone elses settings.
+            final StyleOrigin origin = ((StyleableObjectProperty<?>) tableCell.alignmentProperty()).getStyleOrigin();
+            if (! centreContent && origin == null) {
+                tableCell.setAlignment(Pos.TOP_LEFT);
+            }
+            // --- end of RT-32700 fix
+
+            ///////////////////////////////////////////
+            // further indentation code starts here
+            ///////////////////////////////////////////
+            if (indentationRequired && column == indentationColumnIndex) {
+                if (disclosureVisible) {
+                    double ph = disclosureNode.prefHeight(disclosureWidth);
+
+                    if (width > 0 && width < (disclosureWidth + leftMargin)) {
+                        fadeOut(disclosureNode);
+                    } else {
+                        fadeIn(disclosureNode);
+                        disclosureNode.resize(disclosureWidth, ph);
+
+                        disclosureNode.relocate(x + leftMargin,
+                                centreContent ? y + (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
+                        disclosureNode.toFront();
                     }
+                }
 
-                    // determine starting point of the graphic or cell node, and the
-                    // remaining width available to them
-                    ObjectProperty<Node> graphicProperty = graphicProperty();
-                    Node graphic = graphicProperty == null ? null : graphicProperty.get();
+                // determine starting point of the graphic or cell node, and the
+                // remaining width available to them
+                ObjectProperty<Node> graphicProperty = graphicProperty();
+                Node graphic = graphicProperty == null ? null : graphicProperty.get();
 
-                    if (graphic != null) {
-                        graphicWidth = graphic.prefWidth(-1) + 3;
-                        double ph = graphic.prefHeight(graphicWidth);
+                if (graphic != null) {
+                    graphicWidth = graphic.prefWidth(-1) + 3;
+                    double ph = graphic.prefHeight(graphicWidth);
 
-                        if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
-                            fadeOut(graphic);
-                        } else {
-                            fadeIn(graphic);
+                    if (width > 0 && width < disclosureWidth + leftMargin + graphicWidth) {
+                        fadeOut(graphic);
+                    } else {
+                        fadeIn(graphic);
 
-                            graphic.relocate(x + leftMargin + disclosureWidth,
-                                    centreContent ? (h / 2.0 - ph / 2.0) :
-                                            (y + tableCell.getPadding().getTop()));
+                        graphic.relocate(x + leftMargin + disclosureWidth,
+                                centreContent ? (h / 2.0 - ph / 2.0) :
+                                        (y + tableCell.getPadding().getTop()));
 
-                            graphic.toFront();
-                        }
+                        graphic.toFront();
                     }
                 }
-                ///////////////////////////////////////////
-                // further indentation code ends here
-                ///////////////////////////////////////////
-                tableCell.resize(width, height);
-                tableCell.relocate(x, y);
-
-                // Request layout is here as (partial) fix for RT-28684.
-                // This does not appear to impact performance...
-                tableCell.requestLayout();
-            } else {
-                width = tableCell.prefWidth(height);
-                if (fixedCellSizeEnabled) {
-                    // we only add/remove to the scenegraph if the fixed cell
-                    // length support is enabled - otherwise we keep all
-                    // TableCells in the scenegraph
-                    getChildren().remove(tableCell);
-                }
             }
+            ///////////////////////////////////////////
+            // further indentation code ends here
+            ///////////////////////////////////////////
+            tableCell.resize(width, height);
+            tableCell.relocate(x, y);
+
+            // Request layout is here as (partial) fix for RT-28684.
+            // This does not appear to impact performance...
+            tableCell.requestLayout();
 
             x += width;
         }
+
+        if (reusableCells != null) {
+            // we only add/remove to the scenegraph if the fixed cell
+            // length support is enabled - otherwise we keep all
+            // TableCells in the scenegraph
+            getChildren().removeAll(reusableCells);
+        }
     }
 
     int getIndentationLevel(C control) {
@@ -516,6 +539,10 @@ public abstract class TableRowSkinBase<T,
             }
 
             if (cell == null) {
+                // with a fixed cell size, cells are created in layoutChildren
+                // once their column is in the viewport
+                if (fixedCellSizeEnabled) continue;
+
                 // if the cell is null it means we don't have it in cache and
                 // need to create it
                 cell = createCellAndCache(col);
@@ -558,6 +585,13 @@ public abstract class TableRowSkinBase<T,
     /** {@inheritDoc} */
     @Override protected double computePrefWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
         double prefWidth = leftInset + rightInset;
+        if (fixedCellSizeEnabled) {
+            // not every column has a cell, but a cell is as wide as its column
+            for (TableColumnBase<?,?> col : getVisibleLeafColumns()) {
+                prefWidth += snapSizeX(col.getWidth());
+            }
+            return prefWidth;
+        }
         for (R cell : cells) {
             prefWidth += cell.prefWidth(height);
         }
@@ -646,6 +680,24 @@ public abstract class TableRowSkinBase<T,
         }
     }
 
+    /**
+     * Returns the fixed cell size of the table, or a value that is not
+     * greater than zero if there is none. This is called from the constructor,
+     * before the cells are first created.
+     */
+    double lookupFixedCellSize() {
+        return -1;
+    }
+
+    /**
+     * Rebinds a cell that shows a column outside of the viewport to the given
+     * column, so that it can be reused rather than creating a new cell.
+     * Returns false if the cell cannot show the given column.
+     */
+    boolean reuseCell(R cell, TableColumnBase<T,?> col) {
+        return false;
+    }
+
     // test-only
     boolean isDirty() {
         return isDirty;
@@ -662,27 +714,84 @@ public abstract class TableRowSkinBase<T,
      *                                                                         *
      **************************************************************************/
 
-    private boolean isColumnPartiallyOrFullyVisible(TableColumnBase col) {
-        if (col == null || !col.isVisible()) return false;
+    private boolean isColumnPartiallyOrFullyVisible(double start, double end, double scrollX, double viewportWidth) {
+        return (start >= scrollX || end > scrollX) && (start < (viewportWidth + scrollX) || end <= (viewportWidth + scrollX));
+    }
+
+    private double getViewportWidth(VirtualFlow<?> virtualFlow) {
+        // determine the width of the table
+        final Insets padding = getSkinnable().getPadding();
+        double headerWidth = getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
 
-        final VirtualFlow<?> virtualFlow = getVirtualFlow();
-        double scrollX = virtualFlow == null ? 0.0 : virtualFlow.getHbar().getValue();
+        // the row is as wide as all of its columns, so only the part of it
+        // inside the viewport of the flow is visible
+        if (virtualFlow != null && virtualFlow.getViewportBreadth() > 0) {
+            headerWidth = Math.min(headerWidth, virtualFlow.getViewportBreadth());
+        }
+        return headerWidth;
+    }
 
-        // work out where this column header is, and it's width (start -> end)
+    /*
+     * Returns the cells of this row whose columns are outside of the viewport.
+     * These cells are removed from the scenegraph after layout, unless they
+     * are reused for a column that came into the viewport.
+     */
+    private List<R> getCellsOutsideViewport(List<? extends TableColumnBase> columns, double scrollX, double viewportWidth) {
+        Set<TableColumnBase> columnsInViewport = new HashSet<>();
         double start = 0;
-        final ObservableList<? extends TableColumnBase> visibleLeafColumns = getVisibleLeafColumns();
-        for (int i = 0, max = visibleLeafColumns.size(); i < max; i++) {
-            TableColumnBase<?,?> c = visibleLeafColumns.get(i);
-            if (c.equals(col)) break;
-            start += c.getWidth();
+        for (int i = 0, max = columns.size(); i < max; i++) {
+            TableColumnBase<?,?> col = columns.get(i);
+            double end = start + col.getWidth();
+            if (isColumnPartiallyOrFullyVisible(start, end, scrollX, viewportWidth)) {
+                columnsInViewport.add(col);
+            }
+            start = end;
         }
-        double end = start + col.getWidth();
 
-        // determine the width of the table
-        final Insets padding = getSkinnable().getPadding();
-        double headerWidth = getSkinnable().getWidth() - padding.getLeft() + padding.getRight();
+        List<R> result = new ArrayList<>();
+        for (int i = 0, max = cells.size(); i < max; i++) {
+            R cell = cells.get(i);
+            if (!columnsInViewport.contains(getTableColumn(cell))) {
+                result.add(cell);
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Returns the cell for a column in the viewport. If the column has no cell
+     * yet, a cell outside of the viewport is reused for it where possible, the
+     * same way VirtualFlow reuses rows, and a new cell is created otherwise.
+     */
+    private R getCellInViewport(TableColumnBase<T,?> col, List<R> reusableCells) {
+        Reference<R> cellRef = cellsMap.get(col);
+        R cell = cellRef == null ? null : cellRef.get();
+        if (cell != null) {
+            return cell;
+        }
+
+        for (int i = 0, max = reusableCells.size(); i < max; i++) {
+            R reusableCell = reusableCells.get(i);
+            TableColumnBase<T,?> oldColumn = getTableColumn(reusableCell);
+            if (reuseCell(reusableCell, col)) {
+                reusableCells.remove(i);
+                if (oldColumn != null) {
+                    cellsMap.remove(oldColumn);
+                }
+                cellsMap.put(col, new WeakReference<>(reusableCell));
+                cell = reusableCell;
+                break;
+            }
+        }
+
+        if (cell == null) {
+            cell = createCellAndCache(col);
+            cells.add(cell);
+        }
 
-        return (start >= scrollX || end > scrollX) && (start < (headerWidth + scrollX) || end <= (headerWidth + scrollX));
+        updateCell(cell, getSkinnable());
+        cell.updateIndex(getSkinnable().getIndex());
+        return cell;
     }
 
     private void requestCellUpdate() {
@@ -723,6 +832,10 @@ public abstract class TableRowSkinBase<T,
         fullRefreshCounter = DEFAULT_FULL_REFRESH_COUNTER;
         getChildren().clear();
 
+        // with a fixed cell size, cells are created once their column is in
+        // the viewport
+        if (fixedCellSizeEnabled) return;
+
         for (TableColumnBase col : columns) {
             if (cellsMap.containsKey(col)) {
                 continue;
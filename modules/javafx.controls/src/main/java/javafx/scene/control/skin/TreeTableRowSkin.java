@@ -25,6 +25,7 @@
 
 package javafx.scene.control.skin;
 
+import java.lang.ref.Reference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -157,8 +158,15 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
         if (getSkinnable() != null) {
             TreeTableView<T> t = getSkinnable().getTreeTableView();
             if (t != null) {
+                boolean wasFixedCellSizeEnabled = fixedCellSizeEnabled;
                 fixedCellSize = t.getFixedCellSize();
                 fixedCellSizeEnabled = fixedCellSize > 0.0;
+
+                // not every column has a cell while the cell size is fixed
+                if (wasFixedCellSizeEnabled != fixedCellSizeEnabled) {
+                    isDirty = true;
+                    getSkinnable().requestLayout();
+                }
             }
         }
     }
@@ -275,6 +283,27 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
         return cell;
     }
 
+    /** {@inheritDoc} */
+    @Override double lookupFixedCellSize() {
+        TreeTableView<T> treeTableView = getSkinnable().getTreeTableView();
+        return treeTableView == null ? -1 : treeTableView.getFixedCellSize();
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked") // the cell factories are the same, so the columns have the same value type
+    @Override boolean reuseCell(TreeTableCell<T, ?> cell, TableColumnBase<TreeItem<T>, ?> col) {
+        TreeTableColumn<T, ?> oldColumn = cell.getTableColumn();
+        TreeTableColumn<T, ?> newColumn = (TreeTableColumn<T, ?>) col;
+        if (oldColumn == null || cell.isEditing() || oldColumn.getCellFactory() != newColumn.getCellFactory()) {
+            return false;
+        }
+
+        // clear the item of the old column before showing the new one
+        cell.updateIndex(-1);
+        ((TreeTableCell<T, Object>) cell).updateTableColumn((TreeTableColumn<T, Object>) newColumn);
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override void updateCells(boolean resetChildren) {
         super.updateCells(resetChildren);
@@ -475,7 +504,8 @@ public class TreeTableRowSkin<T> extends TableRowSkinBase<TreeItem<T>, TreeTable
                                 /* This is the row-based case */
                                 column = treeTableView.getVisibleLeafColumn(0);
                             }
-                            TreeTableCell<T,?> cell = cellsMap.get(column).get();
+                            Reference<TreeTableCell<T,?>> cellRef = cellsMap.get(column);
+                            TreeTableCell<T,?> cell = cellRef == null ? null : cellRef.get();
                             if (cell != null) selection.add(cell);
                         }
                         return FXCollections.observableArrayList(selection);
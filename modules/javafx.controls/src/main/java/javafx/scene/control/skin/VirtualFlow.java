@@ -26,6 +26,7 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.IndexedCellHelper;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -279,9 +280,12 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      * This list is used to calculate the estimatedSize.
      * The list is not expected to be complete, but it is always up to date.
      * When the size of the items in the backing list changes, this list is
-     * cleared.
+     * cleared. It keeps prefix sums of the sizes, so that offsets and indices
+     * can be converted without walking the items.
+     * It is not used when fixedCellSize is set, as all items have that size
+     * then.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final ItemSizeCache itemSizeCache = new ItemSizeCache();
 
     // used for panning the virtual flow
     private double lastX;
@@ -945,6 +949,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private DoubleProperty fixedCellSize = new SimpleDoubleProperty(this, "fixedCellSize") {
         @Override protected void invalidated() {
             fixedCellSizeEnabled = get() > 0;
+            itemSizeCache.clear();
             needsCellsLayout = true;
             layoutChildren();
         }
@@ -1052,7 +1057,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (viewportLength >= estimatedSize) {
             setPosition(0.);
         } else {
+            // the position listener would compute the offset back from the
+            // position, which does not always round to the same value
+            double offset = absoluteOffset;
             setPosition(absoluteOffset / (estimatedSize - viewportLength));
+            absoluteOffset = offset;
         }
     }
 
@@ -1811,6 +1820,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         assert cell != null;
 
         cell.updateIndex(index);
+        // the size of the cell may depend on the index without the cell requesting layout
+        ParentHelper.clearSizeHintCache(cell);
 
         // make sure the cell is sized correctly. This is important for both
         // general layout of cells in a VirtualFlow, but also in cases such as
@@ -1891,7 +1902,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     private final void setViewportBreadth(double value) {
         this.viewportBreadth = value;
     }
-    private final double getViewportBreadth() {
+    final double getViewportBreadth() {
         return viewportBreadth;
     }
 
@@ -2312,6 +2323,31 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     void setCellDirty(int index) {
+        // the size of a visible cell is updated when it is positioned, other
+        // items are measured again when they are needed
+        if (getVisibleCell(index) == null && itemSizeCache.get(index) >= 0) {
+            // getCell measures a piled cell as it is, so update its item first
+            for (int i = 0, max = pile.size(); i < max; i++) {
+                T cell = pile.get(i);
+                if (getCellIndex(cell) == index) {
+                    setCellIndex(cell, index);
+                }
+            }
+            int currentIndex = computeCurrentIndex();
+            if (index <= currentIndex) {
+                // an estimated size up to the current index would move it
+                // whenever the estimate changes, so measure it again now
+                T cell = getCell(index);
+                updateCellSize(cell);
+                releaseCell(cell);
+            } else {
+                // keep the current index and the offset into it, like
+                // updateCellSize does when a size changes
+                double oldOffset = computeViewportOffset(getPosition());
+                itemSizeCache.invalidate(index);
+                recalculateAndImproveEstimatedSize(0, currentIndex, oldOffset);
+            }
+        }
         dirtyCells.set(index);
         requestLayout();
     }
@@ -2808,6 +2844,10 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         for (int i = 0, max = pile.size(); i < max; i++) {
             T cell = pile.get(i);
             wasFocusOwner = wasFocusOwner || doesCellContainFocus(cell);
+            if (cell.isVisible()) {
+                // the cell stays unused until it gets an index again
+                IndexedCellHelper.recycle(cell);
+            }
             cell.setVisible(false);
         }
 
@@ -2894,22 +2934,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double computeViewportOffset(double position, int localCellCount) {
         double p = com.sun.javafx.util.Utils.clamp(0, position, 1);
-        double bound = 0d;
         double estSize = estimatedSize / localCellCount;
         double maxOff = estimatedSize - getViewportLength();
         if ((maxOff > 0) && (absoluteOffset > maxOff)) {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
-            double h = getCellSize(i);
-            if (h < 0) h = estSize;
-            if (bound + h > absoluteOffset) {
-                return absoluteOffset - bound;
-            }
-            bound += h;
-        }
-        return 0d;
+        int index = getItemIndexAt(absoluteOffset, estSize, localCellCount);
+        return index < 0 ? 0d : absoluteOffset - getItemOffset(index, estSize);
     }
 
     private void adjustPositionToIndex(int index) {
@@ -2920,13 +2952,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = getItemOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -2962,7 +2989,7 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
         // once at 95% of the total estimated size, we want a correct size, not
         // an estimated size anymore.
-        if (newPosition > .95) {
+        if (newPosition > .95 && !fixedCellSizeEnabled) {
             int cci = computeCurrentIndex();
             while (cci < getCellCount()) {
                 getOrCreateCellSize(cci); cci++;
@@ -2981,15 +3008,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return getItemOffset(index, estSize);
     }
 
     /**
@@ -3001,19 +3022,41 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
+        int index = getItemIndexAt(absoluteOffset, estSize, currentCellCount);
+        if (index >= 0) {
+            return index;
         }
         return currentCellCount == 0 ? 0 : currentCellCount - 1;
     }
 
+    /**
+     * Returns the offset of the start of the item, using the cached size of
+     * each item before it, or the given estimate for items that have no cached
+     * size yet.
+     */
+    private double getItemOffset(int index, double estSize) {
+        if (fixedCellSizeEnabled) {
+            return index <= 0 ? 0 : index * getFixedCellSize();
+        }
+        return itemSizeCache.getOffset(index, estSize);
+    }
+
+    /**
+     * Returns the index of the item that contains the given offset, or -1 if
+     * the offset is at or beyond the end of the items. Sizes are taken as in
+     * {@link #getItemOffset(int, double)}.
+     */
+    private int getItemIndexAt(double offset, double estSize, int itemCount) {
+        if (fixedCellSizeEnabled) {
+            if (itemCount <= 0) return -1;
+            if (offset < 0) return 0;
+            double index = Math.floor(offset / getFixedCellSize());
+            return index < itemCount ? (int) index : -1;
+        }
+        return itemSizeCache.getIndexAt(offset, estSize, itemCount);
+    }
+
     /**
      * Given an item index, this function will compute and return the viewport
      * offset from the beginning of the specified item. Notice that because each
@@ -3043,39 +3086,33 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // all items have the fixed size, there is nothing to measure or cache
+        if (fixedCellSizeEnabled) {
+            return getFixedCellSize();
+        }
+        // is there a size stored in the cache?
+        double cachedSize = itemSizeCache.get(idx);
+        if (cachedSize >= 0) {
+            return cachedSize;
         }
         if (!create) return -1;
         boolean doRelease = false;
 
         // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
+        itemSizeCache.ensureSize(idx + 1);
 
-        double answer = 1d;
-        if (getFixedCellSize() > 0) {
-            answer = getFixedCellSize();
-            itemSizeCache.set(idx, answer);
-        } else {
-            // Do we have a visible cell for this index?
-            T cell = getVisibleCell(idx);
-            if (cell == null) { // we might get the accumcell here
-                cell = getCell(idx);
-                doRelease = true;
-            }
+        // Do we have a visible cell for this index?
+        T cell = getVisibleCell(idx);
+        if (cell == null) { // we might get the accumcell here
+            cell = getCell(idx);
+            doRelease = true;
+        }
 
-            answer = getCellLength(cell);
-            itemSizeCache.set(idx, answer);
+        double answer = getCellLength(cell);
+        itemSizeCache.set(idx, answer);
 
-            if (doRelease) { // we need to release the accumcell
-                releaseCell(cell);
-            }
+        if (doRelease) { // we need to release the accumcell
+            releaseCell(cell);
         }
         return answer;
     }
@@ -3097,16 +3134,19 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
-            itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if ((oldSize >= 0) && (oldSize != newSize)) {
+                // find the current index before the new size moves it
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
+                itemSizeCache.set(cellIndex, newSize);
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
                     oldOffset = oldOffset + newSize - oldSize;
                 }
                 recalculateAndImproveEstimatedSize(0, currentIndex, oldOffset);
+            } else {
+                itemSizeCache.set(cellIndex, newSize);
             }
         }
     }
@@ -3137,36 +3177,25 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         try {
             int itemCount = getCellCount();
             int cacheCount = itemSizeCache.size();
-            boolean keepRatio = ((cacheCount > 0) && !Double.isInfinite(this.absoluteOffset));
+            boolean keepRatio = ((fixedCellSizeEnabled || cacheCount > 0) && !Double.isInfinite(this.absoluteOffset));
 
             if (oldIndex < 0) oldIndex = computeCurrentIndex();
-            int added = 0;
-            while ((itemCount > itemSizeCache.size()) && (added < improve)) {
-                getOrCreateCellSize(itemSizeCache.size());
-                added++;
-            }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
+            if (fixedCellSizeEnabled) {
+                this.estimatedSize = itemCount == 0 ? 1d : itemCount * getFixedCellSize();
+            } else {
+                int added = 0;
+                while ((itemCount > itemSizeCache.size()) && (added < improve)) {
+                    getOrCreateCellSize(itemSizeCache.size());
+                    added++;
                 }
+                int cnt = itemSizeCache.getMeasuredCount(itemCount);
+                double tot = itemSizeCache.getMeasuredSum(itemCount);
+                this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             }
-            this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = getItemOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -6064,4 +6064,139 @@ public class TableViewTest {
         table.getSelectionModel().selectIndices(1, new int[]{1, 2});
         assertEquals(2, table.getSelectionModel().getSelectedIndex());
     }
+    @Test
+    public void testSelectAllCellsOfLargeTable() {
+        TableView<Integer> largeTable = new TableView<>();
+        for (int col = 0; col < 50; col++) {
+            largeTable.getColumns().add(new TableColumn<>("Column " + col));
+        }
+        List<Integer> items = new ArrayList<>();
+        for (int row = 0; row < 10_000; row++) {
+            items.add(row);
+        }
+        largeTable.getItems().setAll(items);
+
+        TableView.TableViewSelectionModel<Integer> sm = largeTable.getSelectionModel();
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+        int[] changeCount = new int[1];
+        sm.getSelectedCells().addListener((ListChangeListener<TablePosition>) c -> changeCount[0]++);
+
+        sm.selectAll();
+        assertEquals(1, changeCount[0]);
+        assertEquals(500_000, sm.getSelectedCells().size());
+        assertEquals(10_000, sm.getSelectedIndices().size());
+        assertEquals(9_999, sm.getSelectedIndex());
+        assertTrue(sm.isSelected(9_999, largeTable.getColumns().get(49)));
+        assertTrue(sm.isSelected(1234, null));
+
+        TablePosition pos = sm.getSelectedCells().get(50 * 1234 + 7);
+        assertEquals(1234, pos.getRow());
+        assertSame(largeTable.getColumns().get(7), pos.getTableColumn());
+        assertEquals(50 * 1234 + 7, sm.getSelectedCells().indexOf(pos));
+
+        sm.clearSelection();
+        assertEquals(2, changeCount[0]);
+        assertTrue(sm.isEmpty());
+        assertTrue(sm.getSelectedIndices().isEmpty());
+    }
+
+    @Test
+    public void testClearCellSelectionAfterSelectAll() {
+        table.getItems().addAll("1", "2", "3");
+        TableColumn<String, String> first = new TableColumn<>("first");
+        TableColumn<String, String> second = new TableColumn<>("second");
+        table.getColumns().setAll(first, second);
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+
+        sm.selectAll();
+        assertEquals(6, sm.getSelectedCells().size());
+
+        sm.clearSelection(1, second);
+        assertEquals(5, sm.getSelectedCells().size());
+        assertFalse(sm.isSelected(1, second));
+        assertTrue(sm.isSelected(1, first));
+        assertEquals(3, sm.getSelectedIndices().size());
+
+        sm.select(1, second);
+        assertEquals(6, sm.getSelectedCells().size());
+        assertTrue(sm.isSelected(1, null));
+    }
+
+    @Test
+    public void testSelectAllRowsTwice() {
+        table.getItems().addAll("1", "2", "3");
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.select(1);
+
+        sm.selectAll();
+        sm.selectAll();
+        assertEquals(3, sm.getSelectedCells().size());
+        assertEquals(3, sm.getSelectedItems().size());
+        assertNull(((TablePosition) sm.getSelectedCells().get(2)).getTableColumn());
+        assertTrue(sm.isSelected(0));
+    }
+
+    @Test
+    public void testSelectAllCellsThenReorderColumns() {
+        table.getItems().addAll("1", "2", "3");
+        TableColumn<String, String> first = new TableColumn<>("first");
+        TableColumn<String, String> second = new TableColumn<>("second");
+        table.getColumns().setAll(first, second);
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+
+        sm.selectAll();
+        TablePosition before = (TablePosition) sm.getSelectedCells().get(3);
+        table.getColumns().setAll(second, first);
+
+        TablePosition after = (TablePosition) sm.getSelectedCells().get(3);
+        assertEquals(before, after);
+        assertSame(second, after.getTableColumn());
+        assertEquals(before.getColumn(), after.getColumn());
+        assertEquals(1, after.getColumn());
+    }
+
+    @Test
+    public void testSelectAllCellsThenHideColumn() {
+        table.getItems().addAll("1", "2", "3");
+        TableColumn<String, String> first = new TableColumn<>("first");
+        TableColumn<String, String> second = new TableColumn<>("second");
+        table.getColumns().setAll(first, second);
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+
+        sm.selectAll();
+        first.setVisible(false);
+
+        assertEquals(6, sm.getSelectedCells().size());
+        for (int row = 0; row < 3; row++) {
+            TablePosition pos = (TablePosition) sm.getSelectedCells().get(row * 2 + 1);
+            assertEquals(row, pos.getRow());
+            assertSame(second, pos.getTableColumn());
+            assertEquals(1, pos.getColumn());
+        }
+    }
+
+    @Test
+    public void testSelectAllCellsThenRemoveColumn() {
+        table.getItems().addAll("1", "2", "3");
+        TableColumn<String, String> first = new TableColumn<>("first");
+        TableColumn<String, String> second = new TableColumn<>("second");
+        table.getColumns().setAll(first, second);
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+
+        sm.selectAll();
+        table.getColumns().remove(first);
+
+        assertEquals(3, sm.getSelectedCells().size());
+        for (int row = 0; row < 3; row++) {
+            TablePosition pos = (TablePosition) sm.getSelectedCells().get(row);
+            assertEquals(row, pos.getRow());
+            assertSame(second, pos.getTableColumn());
+        }
+        assertEquals(3, sm.getSelectedIndices().size());
+    }
 }
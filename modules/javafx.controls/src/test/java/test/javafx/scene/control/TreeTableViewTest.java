@@ -7250,4 +7250,27 @@ public class TreeTableViewTest {
         treeTableView.getSelectionModel().selectIndices(1, new int[]{1, 2});
         assertEquals(2, treeTableView.getSelectionModel().getSelectedIndex());
     }
+
+    @Test
+    public void testSelectAllCellsThenReorderColumns() {
+        TreeItem<String> root = new TreeItem<>("Root");
+        root.setExpanded(true);
+        root.getChildren().addAll(new TreeItem<>("1"), new TreeItem<>("2"));
+        treeTableView.setRoot(root);
+        TreeTableColumn<String, String> first = new TreeTableColumn<>("first");
+        TreeTableColumn<String, String> second = new TreeTableColumn<>("second");
+        treeTableView.getColumns().setAll(first, second);
+        sm.setSelectionMode(SelectionMode.MULTIPLE);
+        sm.setCellSelectionEnabled(true);
+
+        sm.selectAll();
+        TreeTablePosition before = (TreeTablePosition) sm.getSelectedCells().get(3);
+        treeTableView.getColumns().setAll(second, first);
+
+        TreeTablePosition after = (TreeTablePosition) sm.getSelectedCells().get(3);
+        assertEquals(before, after);
+        assertSame(second, after.getTableColumn());
+        assertEquals(before.getColumn(), after.getColumn());
+        assertEquals(1, after.getColumn());
+    }
 }
@@ -2899,6 +2899,108 @@ public class TreeViewTest {
         return child;
     }
 
+    private static void collectVisibleItems(TreeItem<String> item, List<TreeItem<String>> rows) {
+        rows.add(item);
+        if (item.isExpanded()) {
+            for (TreeItem<String> child : item.getChildren()) {
+                collectVisibleItems(child, rows);
+            }
+        }
+    }
+
+    private void assertRowsMatchVisibleItems(TreeItem<String> treeRoot) {
+        List<TreeItem<String>> rows = new ArrayList<>();
+        collectVisibleItems(treeRoot, rows);
+        if (!treeView.isShowRoot()) {
+            rows.remove(0);
+        }
+        assertEquals(rows.size(), treeView.getExpandedItemCount());
+        for (int row = 0; row < rows.size(); row++) {
+            assertSame(rows.get(row), treeView.getTreeItem(row));
+            assertEquals(row, treeView.getRow(rows.get(row)));
+        }
+        assertNull(treeView.getTreeItem(rows.size()));
+    }
+
+    @Test public void testRowMappingAfterExpandCollapseAndChildrenChanges() {
+        TreeItem<String> treeRoot = new TreeItem<>("root");
+        treeRoot.setExpanded(true);
+        for (int i = 0; i < 20; i++) {
+            TreeItem<String> child = new TreeItem<>("c" + i);
+            for (int j = 0; j < 20; j++) {
+                TreeItem<String> grandChild = new TreeItem<>("c" + i + "-" + j);
+                for (int k = 0; k < 3; k++) {
+                    grandChild.getChildren().add(new TreeItem<>("c" + i + "-" + j + "-" + k));
+                }
+                child.getChildren().add(grandChild);
+            }
+            treeRoot.getChildren().add(child);
+        }
+        treeView = new TreeView<>(treeRoot);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        treeRoot.getChildren().get(3).setExpanded(true);
+        treeRoot.getChildren().get(7).setExpanded(true);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        // a collapsed ancestor hides the change, expanding it shows it
+        treeRoot.getChildren().get(11).getChildren().get(5).setExpanded(true);
+        assertRowsMatchVisibleItems(treeRoot);
+        treeRoot.getChildren().get(11).setExpanded(true);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        treeRoot.getChildren().get(3).getChildren().get(19).setExpanded(true);
+        treeRoot.getChildren().get(3).getChildren().get(0).setExpanded(true);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        treeRoot.getChildren().get(7).getChildren().remove(2, 12);
+        treeRoot.getChildren().get(3).getChildren().get(0).getChildren().add(new TreeItem<>("added"));
+        assertRowsMatchVisibleItems(treeRoot);
+
+        treeRoot.getChildren().get(3).setExpanded(false);
+        treeRoot.getChildren().remove(0);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        treeView.setShowRoot(false);
+        assertRowsMatchVisibleItems(treeRoot);
+    }
+
+    @Test public void testRowMappingAfterChangesDeepInTheTree() {
+        TreeItem<String> treeRoot = new TreeItem<>("root");
+        treeRoot.setExpanded(true);
+        List<TreeItem<String>> path = new ArrayList<>();
+        TreeItem<String> parent = treeRoot;
+        for (int depth = 0; depth < 40; depth++) {
+            TreeItem<String> next = null;
+            for (int i = 0; i < 3; i++) {
+                TreeItem<String> child = new TreeItem<>(depth + "-" + i);
+                child.setExpanded(true);
+                parent.getChildren().add(child);
+                if (i == 1) {
+                    next = child;
+                }
+            }
+            path.add(next);
+            parent = next;
+        }
+        treeView = new TreeView<>(treeRoot);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        // each ancestor merges only the child on the path to the changed item
+        path.get(39).getChildren().add(new TreeItem<>("leaf"));
+        assertRowsMatchVisibleItems(treeRoot);
+
+        path.get(20).setExpanded(false);
+        assertRowsMatchVisibleItems(treeRoot);
+
+        path.get(30).getChildren().get(0).getChildren().add(new TreeItem<>("hidden"));
+        path.get(10).getParent().getChildren().get(2).getChildren().add(new TreeItem<>("visible"));
+        assertRowsMatchVisibleItems(treeRoot);
+
+        path.get(20).setExpanded(true);
+        assertRowsMatchVisibleItems(treeRoot);
+    }
+
     @Test public void test_rt_39661_rowLessThanExpandedItemCount() {
         ObservableList<String> rawItems = test_rt_39661_setup();
         TreeItem child = createSubTree("child", rawItems);
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.scene.control.cell;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.sun.javafx.tk.Toolkit;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.cell.AsyncValueFactory;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.scene.control.infrastructure.StageLoader;
+import test.com.sun.javafx.scene.control.infrastructure.VirtualFlowTestUtils;
+
+import static org.junit.Assert.*;
+
+public class AsyncValueFactoryTest {
+
+    private List<String> loaded;
+    private List<CompletableFuture<String>> futures;
+    private Map<Integer, CompletableFuture<String>> lastFutures;
+    private AsyncValueFactory<Integer, String> factory;
+    private TableView<Integer> tableView;
+    private TableColumn<Integer, String> tableColumn;
+
+    @Before public void setup() {
+        loaded = new ArrayList<>();
+        futures = new ArrayList<>();
+        lastFutures = new HashMap<>();
+        factory = new AsyncValueFactory<>(this::load, "loading", 2);
+        tableView = new TableView<>();
+        tableColumn = new TableColumn<>();
+        tableView.getColumns().add(tableColumn);
+    }
+
+    private CompletableFuture<String> load(Integer row) {
+        loaded.add("row " + row);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        futures.add(future);
+        lastFutures.put(row, future);
+        return future;
+    }
+
+    private ObservableValue<String> call(Integer row) {
+        return factory.call(new TableColumn.CellDataFeatures<>(tableView, tableColumn, row));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullLoader() {
+        new AsyncValueFactory<Integer, String>(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCacheSize() {
+        new AsyncValueFactory<Integer, String>(row -> new CompletableFuture<>(), null, -1);
+    }
+
+    @Test public void testPlaceholderUntilLoaded() {
+        ObservableValue<String> value = call(1);
+        List<String> changes = new ArrayList<>();
+        value.addListener((o, oldValue, newValue) -> changes.add(newValue));
+        assertEquals("loading", value.getValue());
+
+        futures.get(0).complete("one");
+        assertEquals("one", value.getValue());
+        assertEquals(List.of("one"), changes);
+    }
+
+    @Test public void testFailedLoadingKeepsPlaceholder() {
+        ObservableValue<String> value = call(1);
+        value.addListener((InvalidationListener) o -> {});
+        futures.get(0).completeExceptionally(new RuntimeException());
+        assertEquals("loading", value.getValue());
+
+        assertEquals("loading", call(1).getValue());
+        assertEquals(1, loaded.size());
+    }
+
+    @Test public void testInvalidateLoadsFailedValueAgain() {
+        call(1).addListener((InvalidationListener) o -> {});
+        futures.get(0).completeExceptionally(new RuntimeException());
+        factory.invalidate(1);
+
+        call(1);
+        assertEquals(2, loaded.size());
+    }
+
+    @Test public void testLoadingIsShared() {
+        ObservableValue<String> first = call(1);
+        first.addListener((InvalidationListener) o -> {});
+        ObservableValue<String> second = call(1);
+        assertSame(first, second);
+        assertEquals(1, loaded.size());
+    }
+
+    @Test public void testLoadedValueIsCached() {
+        call(1).addListener((InvalidationListener) o -> {});
+        futures.get(0).complete("one");
+
+        assertEquals("one", call(1).getValue());
+        assertEquals(1, loaded.size());
+    }
+
+    @Test public void testLeastRecentlyUsedValueIsDropped() {
+        for (int row = 1; row <= 3; row++) {
+            call(row).addListener((InvalidationListener) o -> {});
+            futures.get(row - 1).complete("value " + row);
+        }
+        assertEquals("value 2", call(2).getValue());
+        assertEquals("value 3", call(3).getValue());
+        assertEquals(3, loaded.size());
+
+        assertEquals("loading", call(1).getValue());
+        assertEquals(4, loaded.size());
+    }
+
+    @Test public void testInvalidateLoadsAgain() {
+        call(1).addListener((InvalidationListener) o -> {});
+        futures.get(0).complete("one");
+        factory.invalidate(1);
+
+        assertEquals("loading", call(1).getValue());
+        assertEquals(2, loaded.size());
+    }
+
+    @Test public void testRemovingLastListenerCancelsLoading() {
+        ObservableValue<String> value = call(1);
+        InvalidationListener first = o -> {};
+        InvalidationListener second = o -> {};
+        value.addListener(first);
+        value.addListener(second);
+
+        value.removeListener(first);
+        assertFalse(futures.get(0).isCancelled());
+        value.removeListener(second);
+        assertTrue(futures.get(0).isCancelled());
+
+        call(1);
+        assertEquals(2, loaded.size());
+    }
+
+    @Test public void testRemovingListenerAfterLoadingDoesNotCancel() {
+        ObservableValue<String> value = call(1);
+        InvalidationListener listener = o -> {};
+        value.addListener(listener);
+        futures.get(0).complete("one");
+        value.removeListener(listener);
+
+        assertFalse(futures.get(0).isCancelled());
+        assertEquals("one", call(1).getValue());
+    }
+
+    @Test public void testScrollingTableViewCancelsLoadingOfRowsOutOfView() {
+        tableColumn.setCellValueFactory(new AsyncValueFactory<>(this::load, "loading", 100));
+        for (int row = 0; row < 100; row++) {
+            tableView.getItems().add(row);
+        }
+        StageLoader sl = new StageLoader(tableView);
+        try {
+            assertEquals("loading", VirtualFlowTestUtils.getCell(tableView, 10, 0).getText());
+            CompletableFuture<String> tenth = lastFutures.get(10);
+
+            // the rows that do not fit anymore stay on the pile
+            tableView.setPrefHeight(100);
+            Toolkit.getToolkit().firePulse();
+            assertTrue(tenth.isCancelled());
+
+            // and observe their values again when they are shown for the same row
+            tableView.setPrefHeight(400);
+            Toolkit.getToolkit().firePulse();
+            assertNotSame(tenth, lastFutures.get(10));
+            assertFalse(lastFutures.get(10).isCancelled());
+            lastFutures.get(10).complete("ten");
+            Toolkit.getToolkit().firePulse();
+            assertEquals("ten", VirtualFlowTestUtils.getCell(tableView, 10, 0).getText());
+
+            CompletableFuture<String> first = lastFutures.get(0);
+            lastFutures.get(1).complete("one");
+            Toolkit.getToolkit().firePulse();
+            assertEquals("one", VirtualFlowTestUtils.getCell(tableView, 1, 0).getText());
+
+            tableView.scrollTo(50);
+            Toolkit.getToolkit().firePulse();
+            assertTrue(first.isCancelled());
+            CompletableFuture<String> shown = lastFutures.get(50);
+            assertFalse(shown.isCancelled());
+            shown.complete("fifty");
+            Toolkit.getToolkit().firePulse();
+            assertEquals("fifty", VirtualFlowTestUtils.getCell(tableView, 50, 0).getText());
+
+            // the recycled rows observe their values again
+            int loadedBefore = loaded.size();
+            tableView.scrollTo(0);
+            Toolkit.getToolkit().firePulse();
+            assertEquals("one", VirtualFlowTestUtils.getCell(tableView, 1, 0).getText());
+            assertFalse(loaded.subList(loadedBefore, loaded.size()).contains("row 1"));
+            assertNotSame(first, lastFutures.get(0));
+            assertFalse(lastFutures.get(0).isCancelled());
+        } finally {
+            sl.dispose();
+        }
+    }
+
+    @Test public void testListViewCellsShowLoadedValues() {
+        ListView<Integer> listView = new ListView<>();
+        listView.setCellFactory(new AsyncValueFactory<>(this::load, "loading", 100).forListView());
+        for (int row = 0; row < 100; row++) {
+            listView.getItems().add(row);
+        }
+        StageLoader sl = new StageLoader(listView);
+        try {
+            assertEquals("loading", VirtualFlowTestUtils.getCell(listView, 10).getText());
+            CompletableFuture<String> tenth = lastFutures.get(10);
+
+            listView.setPrefHeight(100);
+            Toolkit.getToolkit().firePulse();
+            assertTrue(tenth.isCancelled());
+
+            listView.setPrefHeight(400);
+            Toolkit.getToolkit().firePulse();
+            assertFalse(lastFutures.get(10).isCancelled());
+            lastFutures.get(10).complete("ten");
+            assertEquals("ten", VirtualFlowTestUtils.getCell(listView, 10).getText());
+
+            assertEquals("loading", VirtualFlowTestUtils.getCell(listView, 0).getText());
+            CompletableFuture<String> first = lastFutures.get(0);
+            lastFutures.get(1).complete("one");
+            assertEquals("one", VirtualFlowTestUtils.getCell(listView, 1).getText());
+
+            listView.scrollTo(50);
+            Toolkit.getToolkit().firePulse();
+            assertTrue(first.isCancelled());
+            lastFutures.get(50).complete("fifty");
+            assertEquals("fifty", VirtualFlowTestUtils.getCell(listView, 50).getText());
+
+            listView.scrollTo(0);
+            Toolkit.getToolkit().firePulse();
+            assertEquals("one", VirtualFlowTestUtils.getCell(listView, 1).getText());
+            assertFalse(lastFutures.get(0).isCancelled());
+        } finally {
+            sl.dispose();
+        }
+    }
+}
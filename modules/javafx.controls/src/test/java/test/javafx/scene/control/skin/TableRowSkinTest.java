@@ -25,12 +25,16 @@
 
 package test.javafx.scene.control.skin;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.sun.javafx.tk.Toolkit;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.Skin;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
@@ -316,6 +320,47 @@ public class TableRowSkinTest {
         invisibleColumnsShouldRemoveCorrespondingCellsInRowImpl();
     }
 
+    @Test
+    public void fixedCellSizeShouldOnlyCreateCellsForColumnsInViewport() {
+        for (int i = 0; i < 200; i++) {
+            TableColumn<Person, String> column = new TableColumn<>("Column " + i);
+            column.setCellValueFactory(new PropertyValueFactory<>("firstName"));
+            tableView.getColumns().add(column);
+        }
+        tableView.setPrefWidth(300);
+        tableView.setFixedCellSize(24);
+        tableView.refresh();
+        Toolkit.getToolkit().firePulse();
+
+        IndexedCell<?> row = VirtualFlowTestUtils.getCell(tableView, 0);
+        assertTrue(getTableCells(row).size() < 10);
+
+        ScrollBar hbar = VirtualFlowTestUtils.getVirtualFlowHorizontalScrollbar(tableView);
+        hbar.setValue(hbar.getMax());
+        Toolkit.getToolkit().firePulse();
+
+        row = VirtualFlowTestUtils.getCell(tableView, 0);
+        List<TableCell<?, ?>> cells = getTableCells(row);
+        assertTrue(cells.size() < 10);
+
+        TableColumn<Person, ?> lastColumn = tableView.getColumns().get(tableView.getColumns().size() - 1);
+        TableCell<?, ?> lastCell = cells.stream()
+                .filter(cell -> cell.getTableColumn() == lastColumn)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("firstName1", lastCell.getItem());
+    }
+
+    private static List<TableCell<?, ?>> getTableCells(IndexedCell<?> row) {
+        List<TableCell<?, ?>> cells = new ArrayList<>();
+        for (Node node : row.getChildrenUnmodifiable()) {
+            if (node instanceof TableCell<?, ?> cell) {
+                cells.add(cell);
+            }
+        }
+        return cells;
+    }
+
     @After
     public void after() {
         stageLoader.dispose();
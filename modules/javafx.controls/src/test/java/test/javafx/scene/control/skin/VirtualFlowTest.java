@@ -26,6 +26,7 @@
 package test.javafx.scene.control.skin;
 
 import java.util.AbstractList;
+import java.util.Arrays;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -1750,6 +1751,51 @@ assertEquals(0, firstCell.getIndex());
 
     }
 
+    @Test
+    public void testScrollInHugeFlowWithFixedCellSize() {
+        flow.setFixedCellSize(25);
+        flow.setCellCount(10_000_000);
+        pulse();
+        int cntr = prefSizeCounter;
+
+        flow.scrollToTop(5_000_000);
+        pulse();
+        assertEquals(5_000_000, flow.shim_computeCurrentIndex());
+
+        flow.scrollPixels(60);
+        pulse();
+        assertEquals(5_000_002, flow.shim_computeCurrentIndex());
+
+        flow.scrollTo(9_999_999);
+        pulse();
+        assertTrue(flow.shim_computeCurrentIndex() > 9_999_980);
+
+        // only the visible cells are asked for their breadth, lengths are
+        // never measured
+        assertTrue(prefSizeCounter - cntr < 500);
+    }
+
+    @Test
+    public void testCurrentIndexUsesMeasuredSizeOfBigCell() {
+        // scroll gradually so that the cells up to and past cell 29 are measured
+        for (int i = 0; i < 30; i++) {
+            flow.scrollPixels(40);
+            pulse();
+        }
+        flow.scrollToTop(0);
+        pulse();
+        assertEquals(0, flow.shim_computeCurrentIndex());
+
+        // 29 cells of 25 and the 30th of 100 come before cell 30
+        flow.scrollPixels(29 * 25 + 100 + 10);
+        pulse();
+        assertEquals(30, flow.shim_computeCurrentIndex());
+
+        flow.scrollPixels(-20);
+        pulse();
+        assertEquals(29, flow.shim_computeCurrentIndex());
+    }
+
     @Test
     public void testAddCellWithBigCurrentOne() {
         int idx = flow.shim_computeCurrentIndex();
@@ -1767,6 +1813,53 @@ assertEquals(0, firstCell.getIndex());
         assertEquals(29, idx);
     }
 
+
+    @Test
+    public void testSetCellDirtyRemeasuresHiddenCellAndKeepsCurrentIndex() {
+        double[] heights = new double[100];
+        Arrays.fill(heights, 25);
+        flow.setCellFactory(p -> new CellStub(flow) {
+            @Override
+            protected double computeMinHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override
+            protected double computeMaxHeight(double width) {
+                return computePrefHeight(width);
+            }
+
+            @Override
+            protected double computePrefHeight(double width) {
+                int i = getIndex();
+                return i > -1 && i < heights.length ? heights[i] : 25;
+            }
+        });
+        flow.setCellCount(heights.length);
+        pulse();
+        for (int i = 0; i < 20; i++) {
+            flow.scrollPixels(50);
+            pulse();
+        }
+        int currentIndex = flow.shim_computeCurrentIndex();
+        IndexedCell firstCell = VirtualFlowShim.cells_getFirst(flow.cells);
+        double firstCellY = firstCell.getLayoutY();
+        assertTrue(flow.getVisibleCell(5) == null);
+
+        // the cell above the viewport grows while it is not visible
+        heights[5] = 100;
+        flow.setCellDirty(5);
+        pulse();
+        assertEquals(currentIndex, flow.shim_computeCurrentIndex());
+        firstCell = VirtualFlowShim.cells_getFirst(flow.cells);
+        assertEquals(currentIndex, firstCell.getIndex());
+        assertEquals(firstCellY, firstCell.getLayoutY(), 0.1);
+
+        // its new size is used once it is measured again
+        flow.scrollToTop(0);
+        pulse();
+        assertEquals(5 * 25 + 100, flow.getVisibleCell(6).getLayoutY(), 0.1);
+    }
 }
 
 class GraphicalCellStub extends IndexedCellShim<Node> {
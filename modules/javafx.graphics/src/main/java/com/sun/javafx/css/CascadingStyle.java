@@ -99,6 +99,14 @@ public class CascadingStyle implements Comparable<CascadingStyle> {
         return getRule().getOrigin();
     }
 
+    /*
+     * The pseudo-classes of the selector that matched. For a compound selector, these
+     * include the pseudo-classes of the ancestor parts.
+     */
+    public Set<PseudoClass> getPseudoClasses() {
+        return pseudoClasses;
+    }
+
     // Wrapper to make StyleHelper's life a little easier
     public ParsedValue getParsedValue() {
         return style.getDeclaration().getParsedValue();
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import com.sun.javafx.util.Utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A size-bounded cache of the {@link StyleCache} instances of all scenes. The style map ids in a
+ * {@link StyleCache.Key} are only unique within the cache container of a scene, so entries are
+ * keyed by the owner of the ids and the key. When the cache is full, the least recently used
+ * entry is evicted; a {@code StyleCache} that is evicted is recomputed the next time it is needed.
+ * The owners are only weakly referenced, and the entries of an owner that has been garbage
+ * collected are removed.
+ * <p>
+ * The maximum number of entries can be set with the {@code javafx.css.styleCacheSize} system
+ * property.
+ */
+public final class SharedStyleCache {
+
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final int maxSize;
+    private final Map<Entry, StyleCache> entries;
+    private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    SharedStyleCache() {
+        this(getMaxSizeProperty());
+    }
+
+    SharedStyleCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Entry, StyleCache> eldest) {
+                if (size() > SharedStyleCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static int getMaxSizeProperty() {
+        @SuppressWarnings("removal")
+        final Integer size = java.security.AccessController.doPrivileged(
+                (java.security.PrivilegedAction<Integer>) () ->
+                        Integer.getInteger("javafx.css.styleCacheSize", DEFAULT_MAX_SIZE));
+        return Utils.clamp(1, size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the {@code StyleCache} for the given key, creating it if it is not in the cache.
+     *
+     * @param owner the owner of the style map ids in the key
+     * @param generation the generation of the owner's style maps, which changes when the
+     *        owner's styles are cleared
+     * @param key the key
+     * @return the {@code StyleCache}
+     */
+    synchronized StyleCache get(Object owner, int generation, StyleCache.Key key) {
+        expungeCollectedOwners();
+
+        final Entry lookup = new Entry(owner, generation, key, null);
+        StyleCache styleCache = entries.get(lookup);
+        if (styleCache != null) {
+            hitCount++;
+            return styleCache;
+        }
+
+        missCount++;
+        styleCache = new StyleCache();
+        entries.put(new Entry(owner, generation, new StyleCache.Key(key), collectedOwners), styleCache);
+        return styleCache;
+    }
+
+    /**
+     * Removes the entries of the given owner, whose style maps are cleared.
+     *
+     * @param owner the owner of the style map ids
+     */
+    synchronized void remove(Object owner) {
+        expungeCollectedOwners();
+        entries.keySet().removeIf(entry -> entry.get() == owner);
+    }
+
+    private void expungeCollectedOwners() {
+        for (Reference<?> ref; (ref = collectedOwners.poll()) != null; ) {
+            entries.remove(ref);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        while (collectedOwners.poll() != null) {
+            // the entries of these owners are already removed
+        }
+    }
+
+    public synchronized int size() {
+        expungeCollectedOwners();
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized void resetStatistics() {
+        hitCount = missCount = evictionCount = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        final long lookups = hitCount + missCount;
+        return String.format("SharedStyleCache[size=%d, maxSize=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]",
+                entries.size(), maxSize, hitCount, missCount, evictionCount,
+                lookups == 0 ? 0.0 : 100.0 * hitCount / lookups);
+    }
+
+    /*
+     * Weakly references the owner. An entry whose owner has been collected is only equal to
+     * itself, so it can still be removed from the map when it is polled from the queue.
+     */
+    private static final class Entry extends WeakReference<Object> {
+        final int generation;
+        final StyleCache.Key key;
+        final int hash;
+
+        Entry(Object owner, int generation, StyleCache.Key key, ReferenceQueue<Object> queue) {
+            super(owner, queue);
+            this.generation = generation;
+            this.key = key;
+            this.hash = 31 * (31 * System.identityHashCode(owner) + generation) + key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof Entry)) return false;
+            final Entry other = (Entry) obj;
+            final Object owner = get();
+            return owner != null && owner == other.get() && generation == other.generation
+                    && Objects.equals(key, other.key);
+        }
+    }
+}
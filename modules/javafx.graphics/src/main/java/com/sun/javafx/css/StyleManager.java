@@ -41,6 +41,7 @@ import javafx.css.StyleOrigin;
 import javafx.css.Styleable;
 import javafx.css.StyleConverter;
 import javafx.css.Stylesheet;
+import javafx.geometry.NodeOrientation;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -83,6 +84,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +93,7 @@ import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.IntStream;
 
 /**
  * Contains the stylesheet state for a single scene. This includes both the
@@ -219,16 +222,20 @@ final public class StyleManager {
         CacheContainer container = getCacheContainer(styleable, subScene);
         if (container == null) return null;
 
-        Map<StyleCache.Key,StyleCache> styleCache = container.getStyleCache();
-        if (styleCache == null) return null;
+        return sharedStyleCache.get(container, container.styleCacheGeneration, key);
+    }
 
-        StyleCache sharedCache = styleCache.get(key);
-        if (sharedCache == null) {
-            sharedCache = new StyleCache();
-            styleCache.put(new StyleCache.Key(key), sharedCache);
-        }
+    /**
+     * The StyleCaches of all cache containers, bounded in size.
+     */
+    private final SharedStyleCache sharedStyleCache = new SharedStyleCache();
 
-        return sharedCache;
+    /**
+     * Returns the cache of the StyleCaches of all scenes, which provides the statistics of
+     * the cache.
+     */
+    public SharedStyleCache getSharedStyleCache() {
+        return sharedStyleCache;
     }
 
     public StyleMap getStyleMap(Styleable styleable, SubScene subScene, int smapId) {
@@ -1121,7 +1128,9 @@ final public class StyleManager {
                     DataURI dataUri = null;
 
                     if (url != null) {
-                        stylesheet = new CssParser().parse(url);
+                        stylesheet = StylesheetCache.isEnabled()
+                                ? StylesheetCache.load(url)
+                                : new CssParser().parse(url);
                     } else {
                         dataUri = DataURI.tryParse(fname);
                     }
@@ -1696,6 +1705,221 @@ final public class StyleManager {
             return StyleMap.EMPTY_MAP;
         }
 
+        synchronized (styleLock) {
+            final Cache cache = findCache(node, subScene, scene, cacheContainer, null);
+            if (cache == null) {
+                return StyleMap.EMPTY_MAP;
+            }
+
+            final String inlineStyle = node.getStyle();
+            final boolean hasInlineStyles = inlineStyle != null && inlineStyle.trim().isEmpty() == false;
+
+            final PrematchedStyles prematch = prematchedStyles.isEmpty() ? null : prematchedStyles.remove(node);
+            if (prematch != null && prematch.appliesTo(node, cache, triggerStates, staleBranches)) {
+                prematch.copyTriggerStates(triggerStates);
+                return cache.getStyleMap(cacheContainer, node, prematch.key, hasInlineStyles);
+            }
+
+            //
+            // Create a style helper for this node from the styles that match.
+            //
+            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+
+            return smap;
+        }
+    }
+
+    // The selectors matched by prematchStyles, which are used by the CSS pass that follows.
+    // Only accessed on the FX application thread.
+    final Map<Node, PrematchedStyles> prematchedStyles = new IdentityHashMap<>();
+
+    // The nodes whose branch changed after the selectors were prematched
+    private final Set<Node> staleBranches = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Matches the selectors of the stylesheets against the given nodes ahead of the CSS pass.
+     * The nodes are resolved to their caches of candidate selectors on the calling thread. The
+     * candidate selectors of the caches that are new are then found, and applied to the nodes,
+     * in parallel on the common fork-join pool. Looking up or creating the StyleMap of a node
+     * from the selectors that apply is left to the CSS pass, which must be followed by a call
+     * to {@link #forgetPrematchedStyles()}.
+     *
+     * @param nodes the nodes of a scene, which are not in a SubScene
+     */
+    public void prematchStyles(List<Node> nodes) {
+        synchronized (styleLock) {
+            final int size = nodes.size();
+            final Cache[] caches = new Cache[size];
+            final List<PendingMatch> pending = new ArrayList<>();
+            final Set<Styleable> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int n = 0; n < size; n++) {
+                final Node node = nodes.get(n);
+                final CacheContainer cacheContainer = getCacheContainer(node, null);
+                if (cacheContainer != null) {
+                    caches[n] = findCache(node, null, node.getScene(), cacheContainer, pending);
+                    if (caches[n] != null) {
+                        registerStyleClasses(node, registered);
+                    }
+                }
+            }
+
+            // Only reads the stylesheets, which cannot change while styleLock is held
+            try {
+                pending.parallelStream().forEach(PendingMatch::match);
+            } catch (RuntimeException e) {
+                for (PendingMatch match : pending) {
+                    match.cacheMap.remove(match.key, match.cache);
+                }
+                throw e;
+            }
+
+            // Only reads the nodes and their ancestors
+            final PrematchedStyles[] matches = new PrematchedStyles[size];
+            IntStream.range(0, size).parallel().forEach(n -> {
+                if (caches[n] != null) {
+                    matches[n] = new PrematchedStyles(nodes.get(n), caches[n]);
+                }
+            });
+
+            for (int n = 0; n < size; n++) {
+                if (matches[n] != null) {
+                    prematchedStyles.put(nodes.get(n), matches[n]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells the StyleManager that the styles of the given node, and of the nodes in its
+     * branch, have to be matched again if they were matched by {@link #prematchStyles(List)}.
+     *
+     * @param node the node whose id, style class or parent changed
+     */
+    public void forgetPrematchedStyles(Node node) {
+        if (prematchedStyles.isEmpty() == false) {
+            staleBranches.add(node);
+        }
+    }
+
+    /**
+     * Forgets the styles that were matched by {@link #prematchStyles(List)} and were not used by
+     * the CSS pass.
+     */
+    public void forgetPrematchedStyles() {
+        prematchedStyles.clear();
+        staleBranches.clear();
+    }
+
+    /*
+     * StyleClassSet.getStyleClass registers the names that it has not seen before. The selectors
+     * call it for the style classes of a node and of its ancestors, so these are registered
+     * before the selectors are applied on other threads.
+     */
+    private static void registerStyleClasses(Styleable styleable, Set<Styleable> registered) {
+        while (styleable != null && registered.add(styleable)) {
+            final List<String> styleClasses = styleable.getStyleClass();
+            for (int n = 0, nMax = styleClasses.size(); n < nMax; n++) {
+                final String styleClass = styleClasses.get(n);
+                if (styleClass != null && styleClass.isEmpty() == false) {
+                    StyleClassSet.getStyleClass(styleClass);
+                }
+            }
+            styleable = styleable.getStyleableParent();
+        }
+    }
+
+    private static List<Selector> matchSelectors(List<StylesheetContainer> containers, Key key) {
+        final List<Selector> selectorData = new ArrayList<>();
+        for (int n = 0, nMax = containers.size(); n < nMax; n++) {
+            final List<Selector> matchingRules =
+                    containers.get(n).selectorPartitioning.match(key.id, key.className, key.styleClasses);
+            selectorData.addAll(matchingRules);
+        }
+        return selectorData;
+    }
+
+    /*
+     * A Cache that was added to a cache map by prematchStyles, whose selectors are not yet matched.
+     */
+    private static class PendingMatch {
+        final Map<Key, Cache> cacheMap;
+        final Key key;
+        final Cache cache;
+        final List<StylesheetContainer> containers;
+
+        PendingMatch(Map<Key, Cache> cacheMap, Key key, Cache cache, List<StylesheetContainer> containers) {
+            this.cacheMap = cacheMap;
+            this.key = key;
+            this.cache = cache;
+            this.containers = containers;
+        }
+
+        void match() {
+            cache.selectors.addAll(matchSelectors(containers, key));
+        }
+    }
+
+    /*
+     * The selectors of a Cache that apply to a node, as matched by prematchStyles.
+     */
+    private static class PrematchedStyles {
+        final Cache cache;
+        final long[] key;
+        final Set<PseudoClass>[] triggerStates;
+        final NodeOrientation orientation;
+
+        PrematchedStyles(Node node, Cache cache) {
+            // the same depth as the trigger states of CssStyleHelper.createStyleHelper
+            int depth = 0;
+            for (Styleable parent = node; parent != null; parent = parent.getStyleableParent()) {
+                depth++;
+            }
+            this.cache = cache;
+            this.triggerStates = new PseudoClassState[depth];
+            this.key = cache.match(node, triggerStates);
+            this.orientation = node.getEffectiveNodeOrientation();
+        }
+
+        boolean appliesTo(Node node, Cache cache, Set<PseudoClass>[] triggerStates, Set<Node> staleBranches) {
+            if (this.cache != cache
+                    || (triggerStates != null && triggerStates.length != this.triggerStates.length)
+                    || node.getEffectiveNodeOrientation() != orientation) {
+                return false;
+            }
+            if (staleBranches.isEmpty() == false) {
+                for (Node n = node; n != null; n = n.getParent()) {
+                    if (staleBranches.contains(n)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        void copyTriggerStates(Set<PseudoClass>[] triggerStates) {
+            if (triggerStates == null) {
+                return;
+            }
+            for (int n = 0; n < triggerStates.length; n++) {
+                if (this.triggerStates[n] == null) {
+                    continue;
+                }
+                if (triggerStates[n] == null) {
+                    triggerStates[n] = new PseudoClassState();
+                }
+                triggerStates[n].addAll(this.triggerStates[n]);
+            }
+        }
+    }
+
+    /*
+     * Finds the Cache of the selectors that could apply to the node, or returns null if there are
+     * no stylesheets. If pending is not null, the selectors of a Cache that is created are not
+     * matched, but the Cache is added to pending.
+     */
+    private Cache findCache(Node node, SubScene subScene, Scene scene, CacheContainer cacheContainer,
+            List<PendingMatch> pending) {
+
         synchronized (styleLock) {
             final Parent parent =
                 (node instanceof Parent)
@@ -1755,7 +1979,7 @@ final public class StyleManager {
                     && hasSubSceneUserAgentStylesheet == false
                     && hasRegionUserAgentStylesheet == false
                     && platformUserAgentStylesheetContainers.isEmpty()) {
-                return StyleMap.EMPTY_MAP;
+                return null;
             }
 
             final String cname = node.getTypeSelector();
@@ -1788,8 +2012,8 @@ final public class StyleManager {
                 // If the cache is null, then we need to create a new Cache and
                 // add it to the cache map
 
-                // Construct the list of Selectors that could possibly apply
-                final List<Selector> selectorData = new ArrayList<>();
+                // Construct the list of stylesheets whose Selectors could possibly apply
+                final List<StylesheetContainer> containers = new ArrayList<>();
 
                 // User agent stylesheets have lowest precedence and go first
                 if (hasSubSceneUserAgentStylesheet || hasSceneUserAgentStylesheet) {
@@ -1823,18 +2047,14 @@ final public class StyleManager {
                         final Parent root = hasSubSceneUserAgentStylesheet ? subScene.getRoot() : scene.getRoot();
                         container.parentUsers.add(root);
 
-                        final List<Selector> matchingRules =
-                                container.selectorPartitioning.match(id, cname, key.styleClasses);
-                        selectorData.addAll(matchingRules);
+                        containers.add(container);
                     }
 
                 } else if (platformUserAgentStylesheetContainers.isEmpty() == false) {
                     for(int n=0, nMax= platformUserAgentStylesheetContainers.size(); n<nMax; n++) {
                         final StylesheetContainer container = platformUserAgentStylesheetContainers.get(n);
                         if (container != null && container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                            containers.add(container);
                         }
                     }
                 }
@@ -1864,9 +2084,7 @@ final public class StyleManager {
                         // Depending on RefList add method not allowing duplicates.
                         container.parentUsers.add((Parent)region);
 
-                        final List<Selector> matchingRules =
-                                container.selectorPartitioning.match(id, cname, key.styleClasses);
-                        selectorData.addAll(matchingRules);
+                        containers.add(container);
                     }
 
                 }
@@ -1877,9 +2095,7 @@ final public class StyleManager {
                     for(int n=0, nMax=sceneStylesheets.size(); n<nMax; n++) {
                         final StylesheetContainer container = sceneStylesheets.get(n);
                         if (container != null && container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                            containers.add(container);
                         }
                     }
                 }
@@ -1890,27 +2106,26 @@ final public class StyleManager {
                     for(int n=0; n<nMax; n++) {
                         final StylesheetContainer container = parentStylesheets.get(n);
                         if (container.selectorPartitioning != null) {
-                            final List<Selector> matchingRules =
-                                    container.selectorPartitioning.match(id, cname, key.styleClasses);
-                            selectorData.addAll(matchingRules);
+                            containers.add(container);
                         }
                     }
                 }
 
-                // create a new Cache from these selectors.
-                cache = new Cache(selectorData);
+                if (pending != null) {
+                    // The selectors are matched later, see prematchStyles
+                    cache = new Cache(new ArrayList<>());
+                    pending.add(new PendingMatch(cacheMap, key, cache, containers));
+                } else {
+                    // create a new Cache from these selectors.
+                    cache = new Cache(matchSelectors(containers, key));
+                }
                 cacheMap.put(key, cache);
 
                 // cause a new Key to be created the next time this method is called
                 key = null;
             }
 
-            //
-            // Create a style helper for this node from the styles that match.
-            //
-            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
-
-            return smap;
+            return cache;
         }
     }
 
@@ -1963,11 +2178,6 @@ final public class StyleManager {
     // package for testing
     static class CacheContainer {
 
-        private Map<StyleCache.Key,StyleCache> getStyleCache() {
-            if (styleCache == null) styleCache = new HashMap<>();
-            return styleCache;
-        }
-
         private Map<Key,Cache> getCacheMap(List<StylesheetContainer> parentStylesheets, String regionUserAgentStylesheet) {
 
             if (cacheMap == null) {
@@ -2044,7 +2254,8 @@ final public class StyleManager {
         private void clearCache() {
 
             if (cacheMap != null) cacheMap.clear();
-            if (styleCache != null) styleCache.clear();
+            getInstance().sharedStyleCache.remove(this);
+            styleCacheGeneration++;
             if (styleMapList != null) styleMapList.clear();
 
             baseStyleMapId = styleMapId;
@@ -2107,7 +2318,8 @@ final public class StyleManager {
 
         }
 
-        private Map<StyleCache.Key,StyleCache> styleCache;
+        // Identifies the StyleCaches of this container in the shared style cache
+        private int styleCacheGeneration;
 
         private Map<List<String>, Map<Key,Cache>> cacheMap;
 
@@ -2200,6 +2412,15 @@ final public class StyleManager {
                 return StyleMap.EMPTY_MAP;
             }
 
+            return getStyleMap(cacheContainer, node, match(node, triggerStates), hasInlineStyle);
+        }
+
+        /*
+         * Returns the selectors that apply to the node as the bits of a long[], or null if no
+         * selector applies. This only reads the node and its ancestors.
+         */
+        private long[] match(Node node, Set<PseudoClass>[] triggerStates) {
+
             final int selectorDataSize = selectors.size();
 
             //
@@ -2246,9 +2467,17 @@ final public class StyleManager {
                 }
             }
 
+            return nothingMatched ? null : key;
+        }
+
+        private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, long[] key, boolean hasInlineStyle) {
+
             // nothing matched!
-            if (nothingMatched && hasInlineStyle == false) {
-                return StyleMap.EMPTY_MAP;
+            if (key == null) {
+                if (hasInlineStyle == false) {
+                    return StyleMap.EMPTY_MAP;
+                }
+                key = new long[selectors.size()/Long.SIZE + 1];
             }
 
             final String inlineStyle = node.getStyle();
@@ -29,11 +29,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import javafx.css.Declaration;
 import javafx.css.Match;
+import javafx.css.ParsedValue;
+import javafx.css.PseudoClass;
 import javafx.css.Rule;
 import javafx.css.Selector;
 
@@ -153,6 +158,135 @@ public final class StyleMap {
         return cascadingStyles;
     }
 
+    /**
+     * Returns the names of the properties whose value may change if the given pseudo-classes
+     * of the node change. These are the properties with a style that depends on one of the
+     * pseudo-classes, and the properties with a style that looks up such a property, directly
+     * or through other lookups. A lookup that the styles of the node do not declare is found
+     * on an ancestor, but the lookups in the ancestor's value are resolved against the node
+     * again. So, if any property is affected, such a lookup is taken to be affected as well.
+     */
+    public Set<String> getDependentProperties(Set<PseudoClass> pseudoClasses) {
+
+        if (pseudoClassDependencies == null) {
+
+            pseudoClassDependencies = new HashMap<>();
+            lookupDependencies = new HashMap<>();
+            unresolvedLookupProperties = new HashSet<>();
+            ancestorLookupProperties = new HashSet<>();
+
+            for (Map.Entry<String, List<CascadingStyle>> entry : getCascadingStyles().entrySet()) {
+                final String property = entry.getKey();
+                for (CascadingStyle style : entry.getValue()) {
+                    final Set<PseudoClass> states = style.getPseudoClasses();
+                    if (states != null) {
+                        for (PseudoClass state : states) {
+                            pseudoClassDependencies.computeIfAbsent(state, k -> new HashSet<>()).add(property);
+                        }
+                    }
+                    final ParsedValue<?, ?> value = style.getParsedValue();
+                    if (value != null && (value.isLookup() || value.isContainsLookups())) {
+                        final Set<String> lookups = lookupDependencies.computeIfAbsent(property, k -> new HashSet<>());
+                        if (!collectLookups(value, lookups)) {
+                            unresolvedLookupProperties.add(property);
+                        }
+                    }
+                }
+            }
+
+            for (Map.Entry<String, Set<String>> entry : lookupDependencies.entrySet()) {
+                if (!getCascadingStyles().keySet().containsAll(entry.getValue())) {
+                    ancestorLookupProperties.add(entry.getKey());
+                }
+            }
+        }
+
+        final Set<String> dependentProperties = new HashSet<>(unresolvedLookupProperties);
+        boolean affected = false;
+        for (PseudoClass pseudoClass : pseudoClasses) {
+            final Set<String> properties = pseudoClassDependencies.get(pseudoClass);
+            if (properties != null && !properties.isEmpty()) {
+                dependentProperties.addAll(properties);
+                affected = true;
+            }
+        }
+
+        // e.g. -fx-body-color of .root is derived from -fx-color, which .button:hover sets
+        if (affected) {
+            dependentProperties.addAll(ancestorLookupProperties);
+        }
+
+        boolean added = !dependentProperties.isEmpty();
+        while (added) {
+            added = false;
+            for (Map.Entry<String, Set<String>> entry : lookupDependencies.entrySet()) {
+                if (!dependentProperties.contains(entry.getKey())
+                        && !Collections.disjoint(entry.getValue(), dependentProperties)) {
+                    dependentProperties.add(entry.getKey());
+                    added = true;
+                }
+            }
+        }
+        return dependentProperties;
+    }
+
+    /*
+     * Adds the names of the properties that the value looks up to the given set. Returns false
+     * if the value contains lookups that cannot be found.
+     */
+    private static boolean collectLookups(ParsedValue<?, ?> value, Set<String> lookups) {
+
+        final Object val = value.getValue();
+        if (value.isLookup() && val instanceof String) {
+            lookups.add(((String) val).toLowerCase(Locale.ROOT));
+            return true;
+        }
+
+        if (!value.isLookup() && !value.isContainsLookups()) {
+            return true;
+        }
+
+        if (val instanceof ParsedValue<?, ?>) {
+            return collectLookups((ParsedValue<?, ?>) val, lookups);
+        } else if (val instanceof ParsedValue<?, ?>[][]) {
+            for (ParsedValue<?, ?>[] layer : (ParsedValue<?, ?>[][]) val) {
+                for (ParsedValue<?, ?> item : layer) {
+                    if (item != null && !collectLookups(item, lookups)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } else if (val instanceof ParsedValue<?, ?>[]) {
+            for (ParsedValue<?, ?> item : (ParsedValue<?, ?>[]) val) {
+                if (item != null && !collectLookups(item, lookups)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records that a descendant of a node with this style map looked up or inherited the
+     * given property from the node.
+     */
+    public void addDescendantReferencedProperty(String property) {
+        if (descendantReferencedProperties == null) {
+            descendantReferencedProperties = new HashSet<>();
+        }
+        descendantReferencedProperties.add(property);
+    }
+
+    /**
+     * Returns whether a descendant of a node with this style map looked up or inherited
+     * the given property from the node.
+     */
+    public boolean isDescendantReferencedProperty(String property) {
+        return descendantReferencedProperties != null && descendantReferencedProperties.contains(property);
+    }
+
     private static final Comparator<CascadingStyle> cascadingStyleComparator =
             (o1, o2) -> {
 
@@ -177,4 +311,12 @@ public final class StyleMap {
     private final int id; // unique per container
     private List<Selector> selectors;
     private Map<String, List<CascadingStyle>> cascadingStyles;
+    // Built lazily, see getDependentProperties
+    private Map<PseudoClass, Set<String>> pseudoClassDependencies;
+    private Map<String, Set<String>> lookupDependencies;
+    private Set<String> unresolvedLookupProperties;
+    // The properties that look up a property which the styles of this map do not declare
+    private Set<String> ancestorLookupProperties;
+    // The properties that descendants looked up or inherited from a node with this style map
+    private Set<String> descendantReferencedProperties;
 }
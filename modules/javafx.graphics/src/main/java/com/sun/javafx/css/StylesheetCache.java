@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import com.sun.javafx.logging.PlatformLogger;
+import com.sun.javafx.logging.PlatformLogger.Level;
+import com.sun.javafx.util.Logging;
+import javafx.css.CssParser;
+import javafx.css.Stylesheet;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * An on-disk cache of parsed stylesheets in binary format. The cache is enabled with the
+ * {@code javafx.css.cache} system property and stored in the directory given by
+ * {@code javafx.css.cachedir}, by default {@code ~/.openjfx/cache/<version>/css}.
+ * <p>
+ * An entry is keyed by the URL of the stylesheet and is only used if the hash of the current
+ * content of the stylesheet, the JavaFX runtime version and the cache format version match the
+ * entry. Entries are memory-mapped when read. A checksum of the binary stylesheet guards against
+ * truncated or otherwise damaged entries, which are parsed again and replaced. The declarations
+ * of the rules stay in their serialized form until a rule is matched and its declarations are
+ * accessed.
+ */
+final class StylesheetCache {
+
+    private static final int MAGIC = 0x4A464353; // JFCS
+    private static final short CACHE_VERSION = 2;
+
+    private static final String RUNTIME_VERSION;
+    private static final Path CACHE_DIR;
+
+    static {
+        @SuppressWarnings("removal")
+        final Path dir = java.security.AccessController.doPrivileged(
+                (java.security.PrivilegedAction<Path>) () -> {
+            if (!Boolean.getBoolean("javafx.css.cache")) {
+                return null;
+            }
+            final String cacheDir = System.getProperty("javafx.css.cachedir", "");
+            if (!cacheDir.isEmpty()) {
+                return Paths.get(cacheDir);
+            }
+            return Paths.get(System.getProperty("user.home"), ".openjfx", "cache",
+                    System.getProperty("javafx.runtime.version", "versionless"), "css");
+        });
+        CACHE_DIR = dir;
+        RUNTIME_VERSION = System.getProperty("javafx.runtime.version", "versionless");
+    }
+
+    private static PlatformLogger getLogger() {
+        return Logging.getCSSLogger();
+    }
+
+    private StylesheetCache() {
+    }
+
+    static boolean isEnabled() {
+        return CACHE_DIR != null;
+    }
+
+    /**
+     * Loads the stylesheet at the given URL from the cache, or parses it and adds it to the cache.
+     */
+    static Stylesheet load(URL url) throws IOException {
+        return load(url, CACHE_DIR);
+    }
+
+    // package-private for testing
+    static Stylesheet load(URL url, Path cacheDir) throws IOException {
+        final byte[] css;
+        try (InputStream stream = url.openStream()) {
+            css = stream.readAllBytes();
+        }
+
+        final String uri = url.toExternalForm();
+        final byte[] hash = digest(css);
+        final Path file = getCacheFile(cacheDir, uri);
+
+        Stylesheet stylesheet = read(file, uri, hash);
+        if (stylesheet != null) {
+            return stylesheet;
+        }
+
+        final String text = new String(css, StandardCharsets.UTF_8);
+        final List<CssParser.ParseError> errors = StyleManager.getErrors();
+        final int errorCount = errors != null ? errors.size() : 0;
+        stylesheet = new CssParser().parse(uri, text);
+
+        // A stylesheet with parse errors is not cached so that the errors are reported on every
+        // load. Imported stylesheets are not covered by the hash, so stylesheets with imports are
+        // not cached either.
+        if ((errors == null || errors.size() == errorCount) && !text.contains("@import")) {
+            write(file, hash, stylesheet);
+        }
+        return stylesheet;
+    }
+
+    // package-private for testing
+    static Path getCacheFile(Path cacheDir, String uri) {
+        return cacheDir.resolve(toHex(digest(uri.getBytes(StandardCharsets.UTF_8))) + ".bss");
+    }
+
+    // package-private for testing
+    static Stylesheet read(Path file, String uri, byte[] hash) {
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            final ByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.getInt() != MAGIC
+                    || buffer.getShort() != CACHE_VERSION
+                    || !RUNTIME_VERSION.equals(new String(readBytes(buffer), StandardCharsets.UTF_8))
+                    || !Arrays.equals(hash, readBytes(buffer))) {
+                return null;
+            }
+            final int length = buffer.getInt();
+            final int checksum = buffer.getInt();
+            if (buffer.remaining() != length || checksum(buffer.duplicate()) != checksum) {
+                if (getLogger().isLoggable(Level.FINE)) {
+                    getLogger().fine(String.format("Cached stylesheet \"%s\" is damaged", uri));
+                }
+                return null;
+            }
+            return StylesheetHelper.loadBinary(new ByteBufferInputStream(buffer), uri);
+        } catch (IOException | BufferUnderflowException | SecurityException e) {
+            // A broken entry is replaced by the next write
+            if (getLogger().isLoggable(Level.FINE)) {
+                getLogger().fine(String.format("Could not read cached stylesheet \"%s\": %s", uri, e));
+            }
+            return null;
+        }
+    }
+
+    private static void write(Path file, byte[] hash, Stylesheet stylesheet) {
+        Path tmp = null;
+        try {
+            final ByteArrayOutputStream binary = new ByteArrayOutputStream();
+            StylesheetHelper.writeBinary(stylesheet, binary);
+            final byte[] bytes = binary.toByteArray();
+
+            final Path dir = file.getParent();
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, "css", ".tmp");
+            try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                os.writeInt(MAGIC);
+                os.writeShort(CACHE_VERSION);
+                writeBytes(os, RUNTIME_VERSION.getBytes(StandardCharsets.UTF_8));
+                writeBytes(os, hash);
+                os.writeInt(bytes.length);
+                os.writeInt(checksum(ByteBuffer.wrap(bytes)));
+                os.write(bytes);
+            }
+            // Concurrent readers see either the old or the new entry
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException | SecurityException e) {
+            if (getLogger().isLoggable(Level.FINE)) {
+                getLogger().fine(String.format("Could not cache stylesheet \"%s\": %s", stylesheet.getUrl(), e));
+            }
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException | SecurityException ignored) {
+                }
+            }
+        }
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeBytes(DataOutputStream os, byte[] bytes) throws IOException {
+        os.writeShort(bytes.length);
+        os.write(bytes);
+    }
+
+    private static int checksum(ByteBuffer data) {
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    // package-private for testing
+    static byte[] digest(byte[] data) {
+        try {
+            // not looking for security, just a checksum. MD5 should be faster than SHA
+            return MessageDigest.getInstance("MD5").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.sun.glass.ui.Accessible;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.transform.BaseTransform;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.input.PickResultChooser;
 import com.sun.javafx.scene.traversal.Direction;
 import com.sun.javafx.scene.traversal.TraversalMethod;
@@ -101,7 +102,13 @@ public abstract class NodeHelper {
     }
 
     public static void updatePeer(Node node) {
-        getHelper(node).updatePeerImpl(node);
+        if (PulseLogger.NODE_PROFILING_ENABLED) {
+            PulseLogger.nodeStart(node);
+            getHelper(node).updatePeerImpl(node);
+            PulseLogger.nodeEnd(node);
+        } else {
+            getHelper(node).updatePeerImpl(node);
+        }
     }
 
     public static Bounds computeLayoutBounds(Node node) {
@@ -144,7 +151,13 @@ public abstract class NodeHelper {
     }
 
     public static void processCSS(Node node) {
-        getHelper(node).processCSSImpl(node);
+        if (PulseLogger.NODE_PROFILING_ENABLED) {
+            PulseLogger.nodeStart(node);
+            getHelper(node).processCSSImpl(node);
+            PulseLogger.nodeEnd(node);
+        } else {
+            getHelper(node).processCSSImpl(node);
+        }
     }
 
     /*
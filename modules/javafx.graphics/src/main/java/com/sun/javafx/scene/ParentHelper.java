@@ -121,6 +121,10 @@ public class ParentHelper extends NodeHelper {
         return parentAccessor.getTraversalEngine(parent);
     }
 
+    public static void clearSizeHintCache(Parent parent) {
+        parentAccessor.clearSizeHintCache(parent);
+    }
+
     public static void setParentAccessor(final ParentAccessor newAccessor) {
         if (parentAccessor != null) {
             throw new IllegalStateException();
@@ -140,6 +144,7 @@ public class ParentHelper extends NodeHelper {
         void setTraversalEngine(Parent parent, ParentTraversalEngine value);
         ParentTraversalEngine getTraversalEngine(Parent parent);
         List<String> doGetAllParentStylesheets(Parent parent);
+        void clearSizeHintCache(Parent parent);
     }
 
 }
@@ -1963,7 +1963,13 @@ public abstract class NGNode {
         // We know that we are going to render this node, so we call the
         // doRender method, which subclasses implement to do the actual
         // rendering work.
-        doRender(g);
+        if (PulseLogger.NODE_PROFILING_ENABLED) {
+            PulseLogger.nodeStart(this);
+            doRender(g);
+            PulseLogger.nodeEnd(this);
+        } else {
+            doRender(g);
+        }
     }
 
     /**
@@ -62,8 +62,11 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import com.sun.glass.ui.CommonDialogs.FileChooserResult;
@@ -386,6 +389,9 @@ public abstract class Toolkit {
     @SuppressWarnings("removal")
     private final Map<TKListener,AccessControlContext> toolkitListeners = new WeakHashMap<>();
 
+    // Tasks that run at the start of the next pulse, see runAtNextPulse
+    private final Queue<Runnable> pulseTasks = new ConcurrentLinkedQueue<>();
+
     // The set of shutdown hooks is strongly held to avoid premature GC.
     private final Set<Runnable> shutdownHooks = new HashSet<>();
 
@@ -404,6 +410,8 @@ public abstract class Toolkit {
     }
 
     public void firePulse() {
+        runPulseTasks();
+
         // Stages need to be notified of pulses before scenes so the Stage can resized
         // and those changes propogated to scene before it gets its pulse to update
 
@@ -437,6 +445,35 @@ public abstract class Toolkit {
             runPulse(lastTkPulseListener, lastTkPulseAcc);
         }
     }
+
+    /**
+     * Runs the given task on the FX thread at the start of the next pulse, before the pulse
+     * listeners are notified. Unlike {@code Platform.runLater}, the tasks are run in one batch
+     * per pulse. This method can be called from any thread.
+     *
+     * @param task the task to run
+     */
+    public void runAtNextPulse(Runnable task) {
+        pulseTasks.add(Objects.requireNonNull(task));
+        requestNextPulse();
+    }
+
+    private void runPulseTasks() {
+        // Only run the tasks queued before this pulse. Tasks queued by these tasks,
+        // for example a task that schedules itself again, run at the next pulse.
+        for (int count = pulseTasks.size(); count > 0; count--) {
+            final Runnable task = pulseTasks.poll();
+            if (task == null) {
+                break;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), t);
+            }
+        }
+    }
+
     public void addStageTkPulseListener(TKPulseListener listener) {
         if (listener == null) {
             return;
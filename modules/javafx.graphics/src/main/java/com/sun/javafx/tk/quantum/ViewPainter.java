@@ -283,6 +283,13 @@ abstract class ViewPainter implements Runnable {
                     PulseLogger.addMessage("Render Root Path " + i + ": " + getRootPath(i));
                 }
             }
+            if (PulseLogger.NODE_PROFILING_ENABLED) {
+                for (int i=0; i<dirtyRegionSize; i++) {
+                    final RectBounds region = dirtyRegionContainer.getDirtyRegion(i);
+                    PulseLogger.dirtyRegion((int) region.getMinX(), (int) region.getMinY(),
+                            (int) Math.ceil(region.getWidth()), (int) Math.ceil(region.getHeight()));
+                }
+            }
 
             // If -Dprism.printrendergraph=true then we want to print out the render graph to the
             // pulse logger, annotated with all the dirty opts. Invisible nodes are skipped.
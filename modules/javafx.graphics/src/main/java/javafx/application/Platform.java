@@ -189,6 +189,23 @@ public final class Platform {
         Toolkit.getToolkit().requestNextPulse();
     }
 
+    /**
+     * Runs the specified Runnable on the JavaFX Application Thread at the start
+     * of the next pulse, before animations, CSS and layout are processed, and
+     * requests that pulse. Unlike {@link #runLater(Runnable)}, the Runnables are
+     * run in one batch per pulse, which makes this method suited as the commit
+     * executor of a {@link javafx.collections.StagingObservableList}.
+     * This method may be called on any thread.
+     *
+     * @param runnable the Runnable to run at the start of the next pulse
+     * @throws NullPointerException if {@code runnable} is null
+     *
+     * @since 22
+     */
+    public static void runAtNextPulse(Runnable runnable) {
+        Toolkit.getToolkit().runAtNextPulse(runnable);
+    }
+
     /**
      * Returns true if the calling thread is the JavaFX Application Thread.
      * Use this call to ensure that a given task is being executed
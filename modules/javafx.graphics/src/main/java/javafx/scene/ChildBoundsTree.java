@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.javafx.geom.BaseBounds;
+
+/**
+ * A segment tree over the bounds of the children of a Parent. Each inner node
+ * stores the union of the bounds below it, so the root holds the bounds of all
+ * children and a change of a single child is merged in O(log n) by updating
+ * the nodes on its path to the root.
+ * <p>
+ * The leaves are not kept in the order of the children, since the union does
+ * not depend on it. A removed child frees its leaf, which is reused by the next
+ * child that is added, so changes of the children list cost O(log n) per added
+ * or removed child as well. The tree doubles when it is full and is compacted
+ * by {@link #trim()} when most of its leaves are free.
+ */
+final class ChildBoundsTree {
+
+    // The six values stored per tree node
+    private static final int MIN_X = 0, MIN_Y = 1, MIN_Z = 2;
+    private static final int MAX_X = 3, MAX_Y = 4, MAX_Z = 5;
+    private static final int STRIDE = 6;
+
+    private final Map<Node, Integer> positions;
+
+    // The number of leaves, a power of two
+    private int capacity;
+
+    // Tree node i has children 2i and 2i + 1, leaf p is node capacity + p
+    private float[] values;
+
+    // The leaves below usedLeaves that are not in positions
+    private int[] freeLeaves = new int[8];
+    private int freeLeavesCount;
+
+    // The leaves from usedLeaves up to capacity have never been used
+    private int usedLeaves;
+
+    ChildBoundsTree(List<Node> children) {
+        final int size = children.size();
+        capacity = capacityFor(size);
+        values = new float[2 * capacity * STRIDE];
+        for (int i = 0; i < 2 * capacity; i++) {
+            setEmpty(i);
+        }
+        positions = new IdentityHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            positions.put(children.get(i), i);
+        }
+        usedLeaves = size;
+    }
+
+    /**
+     * Sets the bounds of a child without updating the inner nodes. Used
+     * together with {@link #build()} to fill the tree initially.
+     */
+    void setLeaf(Node child, BaseBounds bounds) {
+        final Integer position = positions.get(child);
+        if (position != null) {
+            setNode(capacity + position, bounds);
+        }
+    }
+
+    /**
+     * Computes all the inner nodes from the leaves.
+     */
+    void build() {
+        for (int i = capacity - 1; i > 0; i--) {
+            merge(i);
+        }
+    }
+
+    /**
+     * Sets the bounds of a child and updates the nodes on its path to the
+     * root. An empty bounds removes the child from the union.
+     */
+    void update(Node child, BaseBounds bounds) {
+        final Integer position = positions.get(child);
+        if (position != null) {
+            updateLeaf(position, bounds);
+        }
+    }
+
+    /**
+     * Adds a child with empty bounds. Its bounds are set by a later
+     * {@link #update(Node, BaseBounds)}. Does nothing if the child is in the
+     * tree already.
+     */
+    void add(Node child) {
+        if (positions.containsKey(child)) {
+            return;
+        }
+        final int position;
+        if (freeLeavesCount > 0) {
+            position = freeLeaves[--freeLeavesCount];
+        } else {
+            if (usedLeaves == capacity) {
+                resize(2 * capacity);
+            }
+            position = usedLeaves++;
+        }
+        positions.put(child, position);
+    }
+
+    /**
+     * Removes a child and frees its leaf.
+     */
+    void remove(Node child) {
+        final Integer position = positions.remove(child);
+        if (position == null) {
+            return;
+        }
+        updateLeaf(position, null);
+        if (freeLeavesCount == freeLeaves.length) {
+            freeLeaves = Arrays.copyOf(freeLeaves, 2 * freeLeavesCount);
+        }
+        freeLeaves[freeLeavesCount++] = position;
+    }
+
+    /**
+     * Compacts the tree if less than a quarter of its leaves is in use, so
+     * that a tree which had many children does not keep its size.
+     */
+    void trim() {
+        if (4 * positions.size() >= capacity) {
+            return;
+        }
+        final int newCapacity = capacityFor(positions.size());
+        final float[] newValues = new float[2 * newCapacity * STRIDE];
+        int newPosition = 0;
+        for (Map.Entry<Node, Integer> entry : positions.entrySet()) {
+            System.arraycopy(values, (capacity + entry.getValue()) * STRIDE,
+                    newValues, (newCapacity + newPosition) * STRIDE, STRIDE);
+            entry.setValue(newPosition++);
+        }
+        capacity = newCapacity;
+        values = newValues;
+        for (int i = capacity + newPosition; i < 2 * capacity; i++) {
+            setEmpty(i);
+        }
+        build();
+        freeLeavesCount = 0;
+        usedLeaves = newPosition;
+    }
+
+    /**
+     * Returns the union of the bounds of all children, or empty bounds if all
+     * of them are empty.
+     */
+    BaseBounds getBounds(BaseBounds bounds) {
+        final int o = STRIDE;
+        if (values[o + MIN_X] > values[o + MAX_X]) {
+            return bounds.makeEmpty();
+        }
+        return bounds.deriveWithNewBounds(
+                values[o + MIN_X], values[o + MIN_Y], values[o + MIN_Z],
+                values[o + MAX_X], values[o + MAX_Y], values[o + MAX_Z]);
+    }
+
+    private static int capacityFor(int size) {
+        int n = 1;
+        while (n < size) {
+            n <<= 1;
+        }
+        return n;
+    }
+
+    private void updateLeaf(int position, BaseBounds bounds) {
+        int i = capacity + position;
+        setNode(i, bounds);
+        for (i >>= 1; i > 0; i >>= 1) {
+            merge(i);
+        }
+    }
+
+    // Keeps the leaves at their positions, the new leaves are empty
+    private void resize(int newCapacity) {
+        final float[] newValues = new float[2 * newCapacity * STRIDE];
+        System.arraycopy(values, capacity * STRIDE,
+                newValues, newCapacity * STRIDE, capacity * STRIDE);
+        final int oldCapacity = capacity;
+        capacity = newCapacity;
+        values = newValues;
+        for (int i = capacity + oldCapacity; i < 2 * capacity; i++) {
+            setEmpty(i);
+        }
+        build();
+    }
+
+    private void setNode(int i, BaseBounds bounds) {
+        if (bounds == null || bounds.isEmpty()) {
+            setEmpty(i);
+            return;
+        }
+        final int o = i * STRIDE;
+        values[o + MIN_X] = bounds.getMinX();
+        values[o + MIN_Y] = bounds.getMinY();
+        values[o + MIN_Z] = bounds.getMinZ();
+        values[o + MAX_X] = bounds.getMaxX();
+        values[o + MAX_Y] = bounds.getMaxY();
+        values[o + MAX_Z] = bounds.getMaxZ();
+    }
+
+    private void setEmpty(int i) {
+        final int o = i * STRIDE;
+        Arrays.fill(values, o, o + MAX_X, Float.POSITIVE_INFINITY);
+        Arrays.fill(values, o + MAX_X, o + STRIDE, Float.NEGATIVE_INFINITY);
+    }
+
+    private void merge(int i) {
+        final int o = i * STRIDE;
+        final int l = 2 * i * STRIDE;
+        final int r = l + STRIDE;
+        for (int k = MIN_X; k < MAX_X; k++) {
+            values[o + k] = Math.min(values[l + k], values[r + k]);
+        }
+        for (int k = MAX_X; k < STRIDE; k++) {
+            values[o + k] = Math.max(values[l + k], values[r + k]);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.scene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
+
+import com.sun.javafx.geom.PickRay;
+import com.sun.javafx.scene.input.PickResultChooser;
+
+/**
+ * A uniform grid over the bounds in parent of the children of a Parent. It is
+ * used to pick among a large number of children without visiting each of them:
+ * only the children whose bounds overlap the grid cell of the pick point are
+ * asked to pick.
+ * <p>
+ * The grid is built for one list of ordered children. The Parent drops it when
+ * the list changes. A child whose bounds change is moved to its new cells
+ * before the next pick. Children that overlap too many cells are kept in a
+ * separate list that is visited on every pick.
+ */
+final class ChildPickIndex {
+
+    // Children overlapping more cells than this are not put into the cells
+    private static final int MAX_CELLS_PER_CHILD = 16;
+
+    // Target number of children per cell
+    private static final double CHILDREN_PER_CELL = 2;
+
+    private static final class Entry {
+        final int position;
+        int minCol = -1, minRow, maxCol, maxRow;
+        boolean oversized;
+        boolean pending;
+
+        Entry(int position) {
+            this.position = position;
+        }
+    }
+
+    private final List<Node> children;
+    private final int size;
+    private final Map<Node, Entry> entries;
+    private final List<Node> pending = new ArrayList<>();
+
+    private final int cols, rows;
+    private final double minX, minY, cellWidth, cellHeight;
+
+    // The positions of the children in each cell, in ascending order
+    private final int[][] cells;
+    private final int[] cellSizes;
+    private int[] oversized = new int[4];
+    private int oversizedSize;
+
+    ChildPickIndex(List<Node> children) {
+        this.children = children;
+        this.size = children.size();
+        this.entries = new IdentityHashMap<>(size);
+
+        double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            final Bounds b = children.get(i).getBoundsInParent();
+            if (!b.isEmpty()) {
+                x0 = Math.min(x0, b.getMinX());
+                y0 = Math.min(y0, b.getMinY());
+                x1 = Math.max(x1, b.getMaxX());
+                y1 = Math.max(y1, b.getMaxY());
+            }
+        }
+        if (!(x0 <= x1 && y0 <= y1)) {
+            x0 = y0 = 0;
+            x1 = y1 = 1;
+        }
+
+        final int n = Math.max(1, (int) Math.sqrt(size / CHILDREN_PER_CELL));
+        cols = n;
+        rows = n;
+        minX = x0;
+        minY = y0;
+        cellWidth = x1 > x0 ? (x1 - x0) / cols : 1;
+        cellHeight = y1 > y0 ? (y1 - y0) / rows : 1;
+        cells = new int[cols * rows][];
+        cellSizes = new int[cols * rows];
+
+        for (int i = 0; i < size; i++) {
+            final Node node = children.get(i);
+            final Entry entry = new Entry(i);
+            entries.put(node, entry);
+            insert(entry, node);
+        }
+    }
+
+    /**
+     * Returns whether the index was built for the given list of ordered children.
+     */
+    boolean isFor(List<Node> orderedChildren) {
+        return orderedChildren == children && orderedChildren.size() == size;
+    }
+
+    /**
+     * Called when the bounds in parent of a child may have changed.
+     */
+    void invalidate(Node child) {
+        final Entry entry = entries.get(child);
+        if (entry != null && !entry.pending) {
+            entry.pending = true;
+            pending.add(child);
+        }
+    }
+
+    /**
+     * Picks the children that may contain the point (x, y), in the same order
+     * as Parent#pickChildrenNode. The pick ray must be parallel to the z axis.
+     *
+     * @return false if the result was closed, true otherwise
+     */
+    boolean pick(double x, double y, PickRay pickRay, PickResultChooser result) {
+        // The list may grow while it is processed
+        for (int i = 0; i < pending.size(); i++) {
+            final Node node = pending.get(i);
+            final Entry entry = entries.get(node);
+            entry.pending = false;
+            remove(entry);
+            insert(entry, node);
+        }
+        pending.clear();
+
+        final int cell = row(y) * cols + col(x);
+        final int[] positions = cells[cell];
+        int i = cellSizes[cell] - 1;
+        int j = oversizedSize - 1;
+        while (i >= 0 || j >= 0) {
+            final int position = j < 0 || (i >= 0 && positions[i] > oversized[j])
+                    ? positions[i--]
+                    : oversized[j--];
+            children.get(position).pickNode(pickRay, result);
+            if (result.isClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int col(double x) {
+        final int col = (int) Math.floor((x - minX) / cellWidth);
+        return col < 0 ? 0 : col >= cols ? cols - 1 : col;
+    }
+
+    private int row(double y) {
+        final int row = (int) Math.floor((y - minY) / cellHeight);
+        return row < 0 ? 0 : row >= rows ? rows - 1 : row;
+    }
+
+    // Widens bounds slightly, as the pick point is computed with a different precision
+    private static double slack(double value) {
+        return 1e-3 + Math.abs(value) * 1e-6;
+    }
+
+    private void insert(Entry entry, Node node) {
+        final Bounds b = node.getBoundsInParent();
+        if (b.isEmpty()) {
+            entry.minCol = -1;
+            return;
+        }
+        entry.minCol = col(b.getMinX() - slack(b.getMinX()));
+        entry.maxCol = col(b.getMaxX() + slack(b.getMaxX()));
+        entry.minRow = row(b.getMinY() - slack(b.getMinY()));
+        entry.maxRow = row(b.getMaxY() + slack(b.getMaxY()));
+        entry.oversized =
+                (entry.maxCol - entry.minCol + 1) * (entry.maxRow - entry.minRow + 1) > MAX_CELLS_PER_CHILD;
+
+        if (entry.oversized) {
+            if (oversizedSize == oversized.length) {
+                oversized = Arrays.copyOf(oversized, oversizedSize * 2);
+            }
+            oversizedSize = add(oversized, oversizedSize, entry.position);
+            return;
+        }
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int col = entry.minCol; col <= entry.maxCol; col++) {
+                final int cell = row * cols + col;
+                int[] positions = cells[cell];
+                if (positions == null) {
+                    positions = cells[cell] = new int[4];
+                } else if (cellSizes[cell] == positions.length) {
+                    positions = cells[cell] = Arrays.copyOf(positions, positions.length * 2);
+                }
+                cellSizes[cell] = add(positions, cellSizes[cell], entry.position);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        if (entry.minCol < 0) {
+            return;
+        }
+        if (entry.oversized) {
+            oversizedSize = remove(oversized, oversizedSize, entry.position);
+            return;
+        }
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int col = entry.minCol; col <= entry.maxCol; col++) {
+                final int cell = row * cols + col;
+                cellSizes[cell] = remove(cells[cell], cellSizes[cell], entry.position);
+            }
+        }
+    }
+
+    // Adds position to the sorted array, which has room for it, and returns the new size
+    private static int add(int[] positions, int size, int position) {
+        int index = size;
+        if (size > 0 && positions[size - 1] > position) {
+            index = -Arrays.binarySearch(positions, 0, size, position) - 1;
+            System.arraycopy(positions, index, positions, index + 1, size - index);
+        }
+        positions[index] = position;
+        return size + 1;
+    }
+
+    // Removes position from the sorted array and returns the new size
+    private static int remove(int[] positions, int size, int position) {
+        final int index = Arrays.binarySearch(positions, 0, size, position);
+        if (index < 0) {
+            return size;
+        }
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        return size - 1;
+    }
+}
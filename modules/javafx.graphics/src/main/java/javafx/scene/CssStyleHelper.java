@@ -219,6 +219,7 @@ final class CssStyleHelper {
                     parentNode.styleHelper.firstStyleableAncestor = new WeakReference(findFirstStyleableAncestor(parentNode)) ;
                 }
                 parentNode.styleHelper.triggerStates.addAll(triggerState);
+                parentNode.styleHelper.descendantTriggerStates.addAll(triggerState);
 
             }
 
@@ -516,10 +517,46 @@ final class CssStyleHelper {
      */
     private PseudoClassState triggerStates = new PseudoClassState();
 
+    /**
+     * The subset of triggerStates that come from selectors which match a
+     * descendant of the node, for example the "hover" in ".button:hover .label".
+     * A change to one of these pseudo-classes may change the styles of the
+     * descendants, not just the styles of the node itself.
+     */
+    private PseudoClassState descendantTriggerStates = new PseudoClassState();
+
     boolean pseudoClassStateChanged(PseudoClass pseudoClass) {
         return triggerStates.contains(pseudoClass);
     }
 
+    /**
+     * Returns whether a change to the given pseudo-classes of the node may
+     * change the styles of its descendants. If not, the node can be restyled
+     * on its own.
+     */
+    boolean isDescendantAffected(final Node node, final Set<PseudoClass> changedPseudoClasses) {
+
+        for (PseudoClass pseudoClass : changedPseudoClasses) {
+            if (descendantTriggerStates.contains(pseudoClass)) {
+                return true;
+            }
+        }
+
+        final StyleMap styleMap = getStyleMap(node);
+        if (styleMap == null) {
+            return true;
+        }
+
+        for (String property : styleMap.getDependentProperties(changedPseudoClasses)) {
+            // font affects relative sizes of the descendants
+            if (property.startsWith("-fx-font") || styleMap.isDescendantReferencedProperty(property)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Dynamic pseudo-class state of the node and its parents.
      * Only valid during a pulse.
@@ -740,6 +777,25 @@ final class CssStyleHelper {
 
     private boolean transitionStateInProgress = false;
 
+    // Is the property, or one of its sub-properties, in dependentProperties?
+    private static boolean isDependent(final CssMetaData<? extends Styleable, ?> cssMetaData,
+                                       final Set<String> dependentProperties) {
+
+        if (dependentProperties.contains(cssMetaData.getProperty())) {
+            return true;
+        }
+
+        final List<CssMetaData<? extends Styleable, ?>> subProperties = cssMetaData.getSubProperties();
+        if (subProperties != null) {
+            for (int n = 0, max = subProperties.size(); n < max; n++) {
+                if (isDependent(subProperties.get(n), dependentProperties)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Called by the Node whenever it has transitioned from one set of
      * pseudo-class states to another. This function will then lookup the
@@ -750,6 +806,16 @@ final class CssStyleHelper {
      * animations and that support is detectable via the API.
      */
     void transitionToState(final Node node) {
+        transitionToState(node, null);
+    }
+
+    /**
+     * Transitions the node to its current pseudo-class state after only the
+     * given pseudo-classes have changed. Only the properties whose styles may
+     * depend on these pseudo-classes are looked up again. If changedPseudoClasses
+     * is null, all properties are looked up.
+     */
+    void transitionToState(final Node node, final Set<PseudoClass> changedPseudoClasses) {
 
         if (cacheContainer == null) {
             return;
@@ -768,6 +834,19 @@ final class CssStyleHelper {
         // if the style-map is empty, then we are only looking for inherited styles.
         final boolean inheritOnly = styleMap.isEmpty();
 
+        // the names of the properties that need to be looked up again, or null for all
+        Set<String> dependentProperties = null;
+        if (changedPseudoClasses != null && !inheritOnly) {
+            dependentProperties = styleMap.getDependentProperties(changedPseudoClasses);
+            for (String property : dependentProperties) {
+                // font affects relative sizes of all other properties
+                if (property.startsWith("-fx-font")) {
+                    dependentProperties = null;
+                    break;
+                }
+            }
+        }
+
         //
         // Styles that need lookup can be cached provided none of the styles
         // are from Node.style.
@@ -809,7 +888,11 @@ final class CssStyleHelper {
 
         if (cacheEntry == null) {
             cacheEntry = new StyleCacheEntry();
-            sharedCache.addStyleCacheEntry(cacheEntryKey, cacheEntry);
+            // A partial transition leaves out the properties that didn't change,
+            // so the entry must not be shared with nodes that take the fastpath.
+            if (dependentProperties == null) {
+                sharedCache.addStyleCacheEntry(cacheEntryKey, cacheEntry);
+            }
         }
 
         final List<CssMetaData<? extends Styleable,  ?>> styleables = node.getCssMetaData();
@@ -834,6 +917,11 @@ final class CssStyleHelper {
                 continue;
             }
 
+            // Skip properties the changed pseudo-classes have no effect on.
+            if (dependentProperties != null && !isDependent(cssMetaData, dependentProperties)) {
+                continue;
+            }
+
             // Skip the lookup if we know there isn't a chance for this property
             // to be set (usually due to a "bind").
             if (!cssMetaData.isSettable(node)) continue;
@@ -1247,6 +1335,10 @@ final class CssStyleHelper {
         if (parent != null && parentStyleHelper != null) {
 
             StyleMap parentStyleMap = parentStyleHelper.getStyleMap(parent);
+            if (parentStyleMap != null) {
+                // a pseudo-class change of the parent may change this property
+                parentStyleMap.addDescendantReferencedProperty(property);
+            }
             Set<PseudoClass> transitionStates = ((Node)parent).pseudoClassStates;
             CascadingStyle cascadingStyle = parentStyleHelper.getStyle(parent, property, parentStyleMap, transitionStates);
 
@@ -1294,6 +1386,10 @@ final class CssStyleHelper {
                 }
 
                 StyleMap parentStyleMap = parentStyleHelper.getStyleMap(styleableParent);
+                if (parentStyleMap != null) {
+                    // a pseudo-class change of the parent may change this property
+                    parentStyleMap.addDescendantReferencedProperty(property);
+                }
                 Set<PseudoClass> styleableParentPseudoClassStates =
                     styleableParent instanceof Node
                         ? ((Node)styleableParent).pseudoClassStates
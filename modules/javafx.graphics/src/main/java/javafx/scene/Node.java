@@ -122,6 +122,7 @@ import com.sun.javafx.beans.event.AbstractNotifyListener;
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.collections.UnmodifiableListSet;
 import com.sun.javafx.css.PseudoClassState;
+import com.sun.javafx.css.StyleManager;
 import javafx.css.Selector;
 import javafx.css.Style;
 import javafx.css.converter.BooleanConverter;
@@ -9313,10 +9314,18 @@ public abstract class Node implements EventTarget, Styleable {
      */
     final CssFlags getCSSFlags() { return cssFlag; }
 
+    /**
+     * The pseudo-classes that changed since the last CSS pass, if the only
+     * reason for the UPDATE flag is a change of pseudo-class state. With
+     * these, only the affected properties need to be looked up again and the
+     * children may be skipped. This is null if the node needs a full update.
+     */
+    PseudoClassState cssChangedPseudoClasses;
+
     /**
      * Called when a CSS pseudo-class change would cause styles to be reapplied.
      */
-    private void requestCssStateTransition() {
+    private void requestCssStateTransition(PseudoClass pseudoClass) {
         // If there is no scene, then we cannot make it dirty, so we'll leave
         // the flag alone
         if (getScene() == null) return;
@@ -9325,7 +9334,11 @@ public abstract class Node implements EventTarget, Styleable {
         // to UPDATE to ensure that NodeHelper.processCSS is called on the node.
         if (cssFlag == CssFlags.CLEAN || cssFlag == CssFlags.DIRTY_BRANCH) {
             cssFlag = CssFlags.UPDATE;
+            cssChangedPseudoClasses = new PseudoClassState();
+            cssChangedPseudoClasses.add(pseudoClass);
             notifyParentsOfInvalidatedCSS();
+        } else if (cssFlag == CssFlags.UPDATE && cssChangedPseudoClasses != null) {
+            cssChangedPseudoClasses.add(pseudoClass);
         }
     }
 
@@ -9366,7 +9379,7 @@ public abstract class Node implements EventTarget, Styleable {
         if (modified && styleHelper != null) {
             final boolean isTransition = styleHelper.pseudoClassStateChanged(pseudoClass);
             if (isTransition) {
-                requestCssStateTransition();
+                requestCssStateTransition(pseudoClass);
             }
         }
    }
@@ -9402,6 +9415,7 @@ public abstract class Node implements EventTarget, Styleable {
                 // call subScene.notifyParentsOfInvalidatedCSS() until
                 // Scene.root gets marked dirty, via the recursive call:
                 subScene.cssFlag = CssFlags.UPDATE;
+                subScene.cssChangedPseudoClasses = null;
                 subScene.notifyParentsOfInvalidatedCSS();
             }
         }
@@ -9426,6 +9440,9 @@ public abstract class Node implements EventTarget, Styleable {
 
         if (getScene() == null) return;
 
+        // styles matched ahead of the CSS pass may not apply to this branch anymore
+        StyleManager.getInstance().forgetPrematchedStyles(this);
+
         if (cssFlag == CssFlags.REAPPLY) return;
 
         if (cssFlag == CssFlags.DIRTY_BRANCH) {
@@ -9530,6 +9547,7 @@ public abstract class Node implements EventTarget, Styleable {
         }
 
         cssFlag = CssFlags.UPDATE;
+        cssChangedPseudoClasses = null;
 
     }
 
@@ -9606,6 +9624,7 @@ public abstract class Node implements EventTarget, Styleable {
 
         // update, unless reapply
         if (cssFlag != CssFlags.REAPPLY) cssFlag = CssFlags.UPDATE;
+        cssChangedPseudoClasses = null;
 
         //
         // RT-28394 - need to see if any ancestor has a flag UPDATE
@@ -9659,6 +9678,11 @@ public abstract class Node implements EventTarget, Styleable {
         // Nothing to do...
         if (cssFlag == CssFlags.CLEAN) return;
 
+        // Only a pseudo-class change can be processed incrementally
+        final Set<PseudoClass> changedPseudoClasses =
+                cssFlag == CssFlags.UPDATE ? cssChangedPseudoClasses : null;
+        cssChangedPseudoClasses = null;
+
         // if REAPPLY was deferred, process it now...
         if (cssFlag == CssFlags.REAPPLY) {
             reapplyCss();
@@ -9670,7 +9694,7 @@ public abstract class Node implements EventTarget, Styleable {
 
         // Transition to the new state and apply styles
         if (styleHelper != null && getScene() != null) {
-            styleHelper.transitionToState(this);
+            styleHelper.transitionToState(this, changedPseudoClasses);
         }
     }
 
@@ -32,6 +32,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -45,9 +46,11 @@ import com.sun.javafx.css.StyleManager;
 import com.sun.javafx.geom.BaseBounds;
 import com.sun.javafx.geom.PickRay;
 import com.sun.javafx.geom.Point2D;
+import com.sun.javafx.geom.Vec3d;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.NoninvertibleTransformException;
+import com.sun.javafx.logging.PulseLogger;
 import com.sun.javafx.scene.CssFlags;
 import com.sun.javafx.scene.DirtyBits;
 import com.sun.javafx.scene.input.PickResultChooser;
@@ -80,6 +83,11 @@ public abstract class Parent extends Node {
     // package private for testing
     static final int DIRTY_CHILDREN_THRESHOLD = 10;
 
+    // The number of children from which the bounds are kept in a
+    // ChildBoundsTree instead of being tracked through the edge nodes.
+    // package private for testing
+    static final int BOUNDS_TREE_THRESHOLD = 64;
+
     // If set to true, generate a warning message whenever adding a node to a
     // parent if it is currently a child of another parent.
     private static final boolean warnOnAutoMove = PropertyHelper.getBooleanProperty("javafx.sg.warn");
@@ -89,6 +97,10 @@ public abstract class Parent extends Node {
      */
     private static final int REMOVED_CHILDREN_THRESHOLD = 20;
 
+    // The number of children from which picking uses a ChildPickIndex
+    private static final int PICK_INDEX_THRESHOLD =
+            PropertyHelper.getIntegerProperty("javafx.scene.pickIndexThreshold", 1000);
+
     /**
      * Do not populate list of removed children when its number exceeds threshold,
      * but mark whole parent dirty.
@@ -150,6 +162,11 @@ public abstract class Parent extends Node {
             public List<String> doGetAllParentStylesheets(Parent parent) {
                 return parent.doGetAllParentStylesheets();
             }
+
+            @Override
+            public void clearSizeHintCache(Parent parent) {
+                parent.clearSizeHintCache();
+            }
         });
     }
 
@@ -264,6 +281,7 @@ public abstract class Parent extends Node {
 
     void markViewOrderChildrenDirty() {
         viewOrderChildren.clear();
+        pickIndex = null;
         NodeHelper.markDirty(this, DirtyBits.PARENT_CHILDREN_VIEW_ORDER);
     }
 
@@ -322,6 +340,7 @@ public abstract class Parent extends Node {
         protected void onChanged(Change<Node> c) {
             // proceed with updating the scene graph
             unmodifiableManagedChildren = null;
+            pickIndex = null;
             boolean relayout = false;
             boolean viewOrderChildrenDirty = false;
 
@@ -379,6 +398,16 @@ public abstract class Parent extends Node {
                     }
                 }
 
+                // keep the bounds tree in step with the children, or drop
+                // it when there are too few children to use it
+                if (boundsTree != null) {
+                    if (children.size() < BOUNDS_TREE_THRESHOLD) {
+                        boundsTree = null;
+                    } else {
+                        updateBoundsTreeChildren(c);
+                    }
+                }
+
                 // check to see if the number of children exceeds
                 // DIRTY_CHILDREN_THRESHOLD and dirtyChildren is null.
                 // If so, then we need to create dirtyChildren and
@@ -801,8 +830,25 @@ public abstract class Parent extends Node {
         }
     }
 
+    /**
+     * A grid over the bounds of the children that is used for picking if
+     * there are many children, or null.
+     */
+    private ChildPickIndex pickIndex;
+
     boolean pickChildrenNode(PickRay pickRay, PickResultChooser result) {
         List<Node> orderedChildren = getOrderedChildren();
+        if (orderedChildren.size() >= PICK_INDEX_THRESHOLD) {
+            // The grid is two-dimensional, so it only applies to rays along the z axis
+            final Vec3d direction = pickRay.getDirectionNoClone();
+            if (direction.x == 0 && direction.y == 0) {
+                if (pickIndex == null || !pickIndex.isFor(orderedChildren)) {
+                    pickIndex = new ChildPickIndex(orderedChildren);
+                }
+                final Vec3d origin = pickRay.getOriginNoClone();
+                return pickIndex.pick(origin.x, origin.y, pickRay, result);
+            }
+        }
         for (int i = orderedChildren.size() - 1; i >= 0; i--) {
             orderedChildren.get(i).pickNode(pickRay, result);
             if (result.isClosed()) {
@@ -920,12 +966,34 @@ public abstract class Parent extends Node {
         return performingLayout;
     }
 
+    /*
+     * The number of layout passes started on the FX application thread, and the number of
+     * Parents being laid out by the current pass. Size hints are only kept for the duration
+     * of a pass.
+     */
+    private static int layoutPassCount;
+    private static int activeLayoutCount;
+
     private boolean sizeCacheClear = true;
     private double prefWidthCache = -1;
     private double prefHeightCache = -1;
     private double minWidthCache = -1;
     private double minHeightCache = -1;
 
+    // The last size hints computed for a width or height other than -1, as pairs of
+    // the width or height and the hint. Content-biased layouts query the same node
+    // with the same width or height several times in a layout pass, both while its
+    // ancestors compute their own sizes and while its parent lays it out. The hints
+    // are kept until requestLayout is called on the node or the layout pass ends, as
+    // not every subclass calls requestLayout when the state a biased size depends on
+    // changes.
+    private static final int PREF_WIDTH_HINT = 0;
+    private static final int PREF_HEIGHT_HINT = 2;
+    private static final int MIN_WIDTH_HINT = 4;
+    private static final int MIN_HEIGHT_HINT = 6;
+    private double[] sizeHintCache;
+    private int sizeHintLayoutCount;
+
     void setLayoutFlag(LayoutFlags flag) {
         if (needsLayout != null) {
             needsLayout.set(flag == LayoutFlags.NEEDS_LAYOUT);
@@ -1013,6 +1081,45 @@ public abstract class Parent extends Node {
         prefHeightCache = -1;
         minWidthCache = -1;
         minHeightCache = -1;
+        if (sizeHintCache != null) {
+            Arrays.fill(sizeHintCache, Double.NaN);
+        }
+    }
+
+    /*
+     * Forgets the size hints computed for a given width or height, for a node whose biased
+     * size may have changed without a call to requestLayout.
+     */
+    private void clearSizeHintCache() {
+        if (sizeHintCache != null) {
+            Arrays.fill(sizeHintCache, Double.NaN);
+        }
+    }
+
+    private double getCachedSizeHint(int hint, double size) {
+        if (sizeHintCache == null || activeLayoutCount == 0 || sizeHintLayoutCount != layoutPassCount
+                || !Toolkit.getToolkit().isFxUserThread()) {
+            return -1;
+        }
+        return sizeHintCache[hint] == size ? sizeHintCache[hint + 1] : -1;
+    }
+
+    private double cacheSizeHint(int hint, double size, double result) {
+        result = Double.isNaN(result) || result < 0 ? 0 : result;
+        if (activeLayoutCount == 0 || !Toolkit.getToolkit().isFxUserThread()) {
+            return result;
+        }
+        if (sizeHintCache == null) {
+            sizeHintCache = new double[8];
+            Arrays.fill(sizeHintCache, Double.NaN);
+        } else if (sizeHintLayoutCount != layoutPassCount) {
+            Arrays.fill(sizeHintCache, Double.NaN);
+        }
+        sizeHintLayoutCount = layoutPassCount;
+        sizeHintCache[hint] = size;
+        sizeHintCache[hint + 1] = result;
+        sizeCacheClear = false;
+        return result;
     }
 
     @Override public double prefWidth(double height) {
@@ -1024,8 +1131,8 @@ public abstract class Parent extends Node {
             }
             return prefWidthCache;
         } else {
-            double result = computePrefWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double cached = getCachedSizeHint(PREF_WIDTH_HINT, height);
+            return cached != -1 ? cached : cacheSizeHint(PREF_WIDTH_HINT, height, computePrefWidth(height));
         }
     }
 
@@ -1038,8 +1145,8 @@ public abstract class Parent extends Node {
             }
             return prefHeightCache;
         } else {
-            double result = computePrefHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double cached = getCachedSizeHint(PREF_HEIGHT_HINT, width);
+            return cached != -1 ? cached : cacheSizeHint(PREF_HEIGHT_HINT, width, computePrefHeight(width));
         }
     }
 
@@ -1052,8 +1159,8 @@ public abstract class Parent extends Node {
             }
             return minWidthCache;
         } else {
-            double result = computeMinWidth(height);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double cached = getCachedSizeHint(MIN_WIDTH_HINT, height);
+            return cached != -1 ? cached : cacheSizeHint(MIN_WIDTH_HINT, height, computeMinWidth(height));
         }
     }
 
@@ -1066,8 +1173,8 @@ public abstract class Parent extends Node {
             }
             return minHeightCache;
         } else {
-            double result = computeMinHeight(width);
-            return Double.isNaN(result) || result < 0 ? 0 : result;
+            final double cached = getCachedSizeHint(MIN_HEIGHT_HINT, width);
+            return cached != -1 ? cached : cacheSizeHint(MIN_HEIGHT_HINT, width, computeMinHeight(width));
         }
     }
 
@@ -1185,10 +1292,31 @@ public abstract class Parent extends Node {
      * Calling this method while the Parent is doing layout is a no-op.
      */
     public final void layout() {
+        if (layoutFlag == LayoutFlags.CLEAN) {
+            return;
+        }
+        final boolean fxThread = Toolkit.getToolkit().isFxUserThread();
+        if (fxThread && activeLayoutCount++ == 0) {
+            layoutPassCount++;
+        }
+        try {
+            doLayout();
+        } finally {
+            if (fxThread) {
+                activeLayoutCount--;
+            }
+        }
+    }
+
+    private void doLayout() {
         // layoutFlag can be accessed or changed during layout processing.
         // Hence we need to cache and reset it before performing layout.
         LayoutFlags flag = layoutFlag;
         setLayoutFlag(LayoutFlags.CLEAN);
+        final boolean profile = PulseLogger.NODE_PROFILING_ENABLED && flag != LayoutFlags.CLEAN;
+        if (profile) {
+            PulseLogger.nodeStart(this);
+        }
         switch(flag) {
             case CLEAN:
                 break;
@@ -1221,6 +1349,9 @@ public abstract class Parent extends Node {
                 performingLayout = false;
                 break;
         }
+        if (profile) {
+            PulseLogger.nodeEnd(this);
+        }
     }
 
     /**
@@ -1366,6 +1497,13 @@ public abstract class Parent extends Node {
             return;
         }
 
+        // If only pseudo-classes changed and no descendant depends on them,
+        // then the children need not be updated along with this node.
+        final boolean skipChildren = cssFlag == CssFlags.UPDATE
+                && cssChangedPseudoClasses != null
+                && styleHelper != null
+                && !styleHelper.isDescendantAffected(this, cssChangedPseudoClasses);
+
         // Let the super implementation handle CSS for this node
         ParentHelper.superProcessCSS(this);
 
@@ -1392,12 +1530,19 @@ public abstract class Parent extends Node {
             final Parent childParent = child.getParent();
             if (childParent == null || childParent != this) continue;
 
+            // Children that are dirty on their own still need to be processed.
+            if (skipChildren) {
+                child.processCSS();
+                continue;
+            }
+
             // If the parent styles are being updated, recalculated or
             // reapplied, then make sure the children get the same treatment.
             // Unless the child is already more dirty than this parent (RT-29074).
             if(CssFlags.UPDATE.compareTo(child.cssFlag) > 0) {
                 child.cssFlag = CssFlags.UPDATE;
             }
+            child.cssChangedPseudoClasses = null;
             NodeHelper.processCSS(child);
         }
     }
@@ -1488,6 +1633,13 @@ public abstract class Parent extends Node {
     private Node near;
     private Node far;
 
+    /**
+     * The bounds of the children when there are at least
+     * BOUNDS_TREE_THRESHOLD of them, or null. While it is in use, the edge
+     * nodes above are not maintained.
+     */
+    private ChildBoundsTree boundsTree;
+
     private BaseBounds doComputeGeomBounds(BaseBounds bounds, BaseTransform tx) {
         // If we have no children, our bounds are invalid
         if (children.isEmpty()) {
@@ -1592,6 +1744,10 @@ public abstract class Parent extends Node {
     // TOGGLED TO BE INVISIBLE. This is because in both cases it needs to be
     // cleared from the state which manages bounds.
     private void childExcluded(final Node node) {
+        if (boundsTree != null) {
+            boundsTree.update(node, null);
+            cachedBoundsInvalid = true;
+        }
         if (node == left) {
             left = null;
             cachedBoundsInvalid = true;
@@ -1645,6 +1801,12 @@ public abstract class Parent extends Node {
             return;
         }
 
+        // many children, merge the dirty ones into the bounds tree
+        if (children.size() >= BOUNDS_TREE_THRESHOLD) {
+            updateBoundsTree();
+            return;
+        }
+
         if ((dirtyChildrenCount == 0) ||
                 !updateCachedBounds(dirtyChildren != null
                                         ? dirtyChildren : children,
@@ -1654,6 +1816,61 @@ public abstract class Parent extends Node {
         }
     }
 
+    private void updateBoundsTree() {
+        if (boundsTree == null) {
+            boundsTree = new ChildBoundsTree(children);
+            for (int i = 0, max = children.size(); i < max; i++) {
+                final Node node = children.get(i);
+                node.boundsChanged = false;
+                if (node.isVisible()) {
+                    tmp = getChildTransformedBounds(node, BaseTransform.IDENTITY_TRANSFORM, tmp);
+                    boundsTree.setLeaf(node, tmp);
+                }
+            }
+            boundsTree.build();
+            top = left = bottom = right = near = far = null;
+        } else {
+            boundsTree.trim();
+            final List<Node> dirtyNodes = dirtyChildren != null ? dirtyChildren : children;
+            int remainingDirtyNodes = dirtyChildrenCount;
+            for (int i = dirtyNodes.size() - 1; remainingDirtyNodes > 0; --i) {
+                final Node node = dirtyNodes.get(i);
+                if (node.boundsChanged) {
+                    // assert node.isVisible();
+                    node.boundsChanged = false;
+                    --remainingDirtyNodes;
+                    tmp = getChildTransformedBounds(node, BaseTransform.IDENTITY_TRANSFORM, tmp);
+                    boundsTree.update(node, tmp);
+                }
+            }
+        }
+        cachedBounds = boundsTree.getBounds(cachedBounds);
+    }
+
+    /**
+     * Frees the leaves of the removed children in the bounds tree and adds
+     * the new children. Their bounds are merged when they are included.
+     */
+    private void updateBoundsTreeChildren(Change<Node> c) {
+        c.reset();
+        while (c.next()) {
+            final List<Node> removedNodes = c.getRemoved();
+            for (int i = 0, max = removedNodes.size(); i < max; i++) {
+                final Node node = removedNodes.get(i);
+                // a node may be removed and added again by the same change
+                if (!childSet.contains(node)) {
+                    boundsTree.remove(node);
+                }
+            }
+        }
+        c.reset();
+        while (c.next()) {
+            for (int i = c.getFrom(), to = c.getTo(); i < to; i++) {
+                boundsTree.add(children.get(i));
+            }
+        }
+    }
+
     private static final int LEFT_INVALID = 1;
     private static final int TOP_INVALID = 1 << 1;
     private static final int NEAR_INVALID = 1 << 2;
@@ -1855,6 +2072,10 @@ public abstract class Parent extends Node {
      * Called by Node whenever its bounds have changed.
      */
     void childBoundsChanged(Node node) {
+        if (pickIndex != null) {
+            pickIndex.invalidate(node);
+        }
+
         // See comment above at "currentlyProcessedChild" field
         if (node == currentlyProcessedChild) {
             return;
@@ -1878,6 +2099,10 @@ public abstract class Parent extends Node {
      * Called by node whenever the visibility of the node changes.
      */
     void childVisibilityChanged(Node node) {
+        if (pickIndex != null) {
+            pickIndex.invalidate(node);
+        }
+
         if (node.isVisible()) {
             childIncluded(node);
         } else {
@@ -45,4 +45,18 @@ class PropertyHelper {
         return false;
     }
 
+    // Function to return the value of an integer system property, or defaultValue
+    // if it is not set. See getBooleanProperty for why this must be package-private.
+    static int getIntegerProperty(final String propName, final int defaultValue) {
+        try {
+            @SuppressWarnings("removal")
+            int answer =
+                AccessController.doPrivileged((java.security.PrivilegedAction<Integer>) () ->
+                        Integer.getInteger(propName, defaultValue));
+            return answer;
+        } catch (Exception any) {
+        }
+        return defaultValue;
+    }
+
 }
@@ -562,8 +562,53 @@ public class Scene implements EventTarget {
         }
     }
 
+    // If true, the selectors are matched in parallel ahead of a CSS pass that restyles many nodes
+    private static final boolean parallelCssMatching = PropertyHelper.getBooleanProperty("javafx.css.parallelMatching");
+
+    // The minimum number of nodes to restyle for the selectors to be matched in parallel
+    private static final int PARALLEL_CSS_MATCHING_THRESHOLD = 512;
+
+    /*
+     * Collects the nodes that will be matched against the stylesheets in the CSS pass, that is
+     * the nodes of every branch that is marked for REAPPLY. The children of a SubScene are not
+     * reachable through getChildrenUnmodifiable and are styled by the SubScene.
+     */
+    private static void collectReapplyNodes(Node node, boolean reapply, List<Node> nodes) {
+        reapply |= node.cssFlag == CssFlags.REAPPLY;
+        if (reapply) {
+            nodes.add(node);
+        } else if (node.cssFlag == CssFlags.CLEAN) {
+            return;
+        }
+        if (node instanceof Parent) {
+            final List<Node> children = ((Parent) node).getChildrenUnmodifiable();
+            for (int i = 0, max = children.size(); i < max; i++) {
+                collectReapplyNodes(children.get(i), reapply, nodes);
+            }
+        }
+    }
+
     private void doCSSPass() {
         final Parent sceneRoot = getRoot();
+        boolean prematched = false;
+        if (parallelCssMatching && sceneRoot.cssFlag != CssFlags.CLEAN) {
+            final List<Node> nodes = new ArrayList<>();
+            collectReapplyNodes(sceneRoot, false, nodes);
+            if (nodes.size() >= PARALLEL_CSS_MATCHING_THRESHOLD) {
+                StyleManager.getInstance().prematchStyles(nodes);
+                prematched = true;
+            }
+        }
+        try {
+            doCSSPass(sceneRoot);
+        } finally {
+            if (prematched) {
+                StyleManager.getInstance().forgetPrematchedStyles();
+            }
+        }
+    }
+
+    private void doCSSPass(Parent sceneRoot) {
         //
         // RT-17547: when the tree is synchronized, the dirty bits are
         // are cleared but the cssFlag might still be something other than
@@ -641,7 +641,10 @@ public class SubScene extends Node {
         Parent root = getRoot();
         if (root.isDirty(DirtyBits.NODE_CSS)) {
             root.clearDirty(DirtyBits.NODE_CSS);
-            if (cssFlag == CssFlags.CLEAN) { cssFlag = CssFlags.UPDATE; }
+            if (cssFlag == CssFlags.CLEAN) {
+                cssFlag = CssFlags.UPDATE;
+                cssChangedPseudoClasses = null;
+            }
         }
         super.processCSS();
     }
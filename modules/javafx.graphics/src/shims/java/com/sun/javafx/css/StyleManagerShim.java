@@ -160,6 +160,18 @@ public class StyleManagerShim {
         return sm.findMatchingStyles(node, subScene, triggerStates);
     }
 
+    public void prematchStyles(List<Node> nodes) {
+        sm.prematchStyles(nodes);
+    }
+
+    public boolean isPrematched(Node node) {
+        return sm.prematchedStyles.containsKey(node);
+    }
+
+    public void forgetPrematchedStyles() {
+        sm.forgetPrematchedStyles();
+    }
+
     public byte[] calculateCheckSum(String fname) {
         return sm.calculateCheckSum(fname);
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import javafx.css.Stylesheet;
+
+public class StylesheetCacheShim {
+
+    public static Stylesheet load(URL url, Path cacheDir) throws IOException {
+        return StylesheetCache.load(url, cacheDir);
+    }
+
+    public static Path getCacheFile(Path cacheDir, URL url) {
+        return StylesheetCache.getCacheFile(cacheDir, url.toExternalForm());
+    }
+
+    /*
+     * Returns the cached stylesheet if the cache has a valid entry for the current
+     * content of the stylesheet at the given URL, or null.
+     */
+    public static Stylesheet readCached(URL url, Path cacheDir) throws IOException {
+        final byte[] css;
+        try (InputStream stream = url.openStream()) {
+            css = stream.readAllBytes();
+        }
+        return StylesheetCache.read(getCacheFile(cacheDir, url), url.toExternalForm(),
+                StylesheetCache.digest(css));
+    }
+}
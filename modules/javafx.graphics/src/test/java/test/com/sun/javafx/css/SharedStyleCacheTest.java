@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.SharedStyleCache;
+import com.sun.javafx.css.SharedStyleCacheShim;
+import com.sun.javafx.css.StyleCache;
+import java.lang.ref.WeakReference;
+import org.junit.Before;
+import org.junit.Test;
+import test.util.memory.JMemoryBuddy;
+
+import static org.junit.Assert.*;
+
+public class SharedStyleCacheTest {
+
+    private SharedStyleCache cache;
+    private final Object owner = new Object();
+
+    private static StyleCache.Key key(int... ids) {
+        return new StyleCache.Key(ids, ids.length);
+    }
+
+    @Before
+    public void setUp() {
+        cache = SharedStyleCacheShim.create(2);
+    }
+
+    @Test
+    public void testEqualKeysShareStyleCache() {
+        StyleCache first = SharedStyleCacheShim.get(cache, owner, 0, key(1, 2));
+        StyleCache second = SharedStyleCacheShim.get(cache, owner, 0, key(1, 2));
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testOwnerAndGenerationAreKeyed() {
+        StyleCache first = SharedStyleCacheShim.get(cache, owner, 0, key(1));
+
+        assertNotSame(first, SharedStyleCacheShim.get(cache, new Object(), 0, key(1)));
+        assertNotSame(first, SharedStyleCacheShim.get(cache, owner, 1, key(1)));
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        StyleCache first = SharedStyleCacheShim.get(cache, owner, 0, key(1));
+        SharedStyleCacheShim.get(cache, owner, 0, key(2));
+        // touch the first entry, so the second one is the eldest
+        SharedStyleCacheShim.get(cache, owner, 0, key(1));
+        SharedStyleCacheShim.get(cache, owner, 0, key(3));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(first, SharedStyleCacheShim.get(cache, owner, 0, key(1)));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void testResetStatistics() {
+        SharedStyleCacheShim.get(cache, owner, 0, key(1));
+        cache.resetStatistics();
+
+        assertEquals(0, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testRemoveOwner() {
+        Object other = new Object();
+        SharedStyleCacheShim.get(cache, owner, 0, key(1));
+        StyleCache kept = SharedStyleCacheShim.get(cache, other, 0, key(1));
+
+        SharedStyleCacheShim.remove(cache, owner);
+
+        assertEquals(1, cache.size());
+        assertSame(kept, SharedStyleCacheShim.get(cache, other, 0, key(1)));
+    }
+
+    @Test
+    public void testEntriesOfCollectedOwnerAreRemoved() throws InterruptedException {
+        Object collectable = new Object();
+        SharedStyleCacheShim.get(cache, collectable, 0, key(1));
+        SharedStyleCacheShim.get(cache, owner, 0, key(1));
+        WeakReference<Object> ref = new WeakReference<>(collectable);
+        collectable = null;
+
+        JMemoryBuddy.assertCollectable(ref);
+
+        // the entry is enqueued after the owner is collected
+        for (int n = 0; n < 100 && cache.size() != 1; n++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, cache.size());
+    }
+}
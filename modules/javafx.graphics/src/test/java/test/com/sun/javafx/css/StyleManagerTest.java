@@ -705,6 +705,85 @@ public class StyleManagerTest {
         assertEquals(Color.RED, obj);
     }
 
+    @Test
+    public void testPrematchStyles_matchesSameStylesAsFindMatchingStyles() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet("/test/com/sun/javafx/css/ua0.css");
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("rect"); }};
+        Rectangle other = new Rectangle(){{ getStyleClass().add("other"); }};
+        Group root = new Group(rect, other);
+        Scene scene = new Scene(root);
+
+        sm.prematchStyles(List.of(root, rect, other, rect));
+        assertTrue(sm.isPrematched(rect));
+        assertTrue(sm.isPrematched(other));
+
+        StyleMap matchingStyles = sm.findMatchingStyles(rect, null, null);
+        assertFalse(sm.isPrematched(rect));
+        Map<String,List<CascadingStyle>> styleMap = matchingStyles.getCascadingStyles();
+
+        List<CascadingStyle> styles = styleMap.get("-fx-fill");
+        assertEquals(1, styles.size());
+
+        Object obj = styles.get(0).getParsedValue().convert(null);
+        assertEquals(Color.RED, obj);
+
+        assertFalse(sm.findMatchingStyles(other, null, null).getCascadingStyles().containsKey("-fx-fill"));
+        assertFalse(sm.isPrematched(other));
+
+        sm.forgetPrematchedStyles();
+    }
+
+    @Test
+    public void testPrematchStyles_styleClassChangeAfterPrematch() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        sm.setDefaultUserAgentStylesheet("/test/com/sun/javafx/css/ua0.css");
+
+        Rectangle rect = new Rectangle();
+        Group root = new Group(rect);
+        Scene scene = new Scene(root);
+
+        sm.prematchStyles(List.of(root, rect));
+        assertTrue(sm.isPrematched(rect));
+
+        rect.getStyleClass().add("rect");
+
+        List<CascadingStyle> styles = sm.findMatchingStyles(rect, null, null).getCascadingStyles().get("-fx-fill");
+        assertEquals(1, styles.size());
+        assertEquals(Color.RED, styles.get(0).getParsedValue().convert(null));
+
+        sm.forgetPrematchedStyles();
+    }
+
+    @Test
+    public void testPrematchStyles_parentStyleClassChangeAfterPrematch() {
+
+        StyleManagerShim sm = StyleManagerShim.getInstance();
+        Stylesheet stylesheet = new CssParser().parse("*.outer *.inner { -fx-fill: blue; }");
+        stylesheet.setOrigin(StyleOrigin.USER_AGENT);
+        sm.setDefaultUserAgentStylesheet(stylesheet);
+
+        Rectangle rect = new Rectangle(){{ getStyleClass().add("inner"); }};
+        Group group = new Group(rect);
+        Scene scene = new Scene(new Group(group));
+
+        sm.prematchStyles(List.of(scene.getRoot(), group, rect));
+        assertTrue(sm.isPrematched(rect));
+        assertFalse(sm.findMatchingStyles(rect, null, null).getCascadingStyles().containsKey("-fx-fill"));
+
+        sm.prematchStyles(List.of(scene.getRoot(), group, rect));
+        group.getStyleClass().add("outer");
+
+        List<CascadingStyle> styles = sm.findMatchingStyles(rect, null, null).getCascadingStyles().get("-fx-fill");
+        assertEquals(1, styles.size());
+        assertEquals(Color.BLUE, styles.get(0).getParsedValue().convert(null));
+
+        sm.forgetPrematchedStyles();
+    }
+
     @Test
     public void testFindMatchingStyles_defaultStyleSheet_sceneUserAgentStylesheet() {
 
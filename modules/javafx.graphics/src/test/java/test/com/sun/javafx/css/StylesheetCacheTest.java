@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.javafx.css.StylesheetCacheShim;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import javafx.css.CssParser;
+import javafx.css.Rule;
+import javafx.css.Stylesheet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StylesheetCacheTest {
+
+    private static final String CSS =
+            ".a { -fx-fill: red; }\n" +
+            ".b:hover > .c { -fx-background-color: blue, derive(-fx-base, 20%); -fx-padding: 1 2 3 4; }\n";
+
+    private static final FileTime OLD = FileTime.fromMillis(0);
+
+    private Path dir;
+    private Path cacheDir;
+    private Path cssFile;
+    private URL url;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("StylesheetCacheTest");
+        cacheDir = dir.resolve("cache");
+        cssFile = dir.resolve("test.css");
+        Files.writeString(cssFile, CSS);
+        url = cssFile.toUri().toURL();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    private Path cacheFile() {
+        return StylesheetCacheShim.getCacheFile(cacheDir, url);
+    }
+
+    // Rule.toString leaves out declarations that have not been deserialized yet
+    private static String describe(Stylesheet stylesheet) {
+        final StringBuilder sb = new StringBuilder();
+        for (Rule rule : stylesheet.getRules()) {
+            sb.append(rule.getSelectors()).append(rule.getDeclarations()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private void assertParsed(Stylesheet stylesheet) throws IOException {
+        assertNotNull(stylesheet);
+        assertEquals(describe(new CssParser().parse(url)), describe(stylesheet));
+    }
+
+    // Loads the stylesheet and checks that it was parsed and the entry was written again
+    private void assertLoadParsesAndReplacesEntry() throws IOException {
+        assertNull(StylesheetCacheShim.readCached(url, cacheDir));
+        Files.setLastModifiedTime(cacheFile(), OLD);
+
+        assertParsed(StylesheetCacheShim.load(url, cacheDir));
+        assertTrue(Files.getLastModifiedTime(cacheFile()).compareTo(OLD) > 0);
+        assertParsed(StylesheetCacheShim.readCached(url, cacheDir));
+    }
+
+    @Test
+    public void testMissParsesAndWritesEntry() throws IOException {
+        assertTrue(Files.notExists(cacheFile()));
+        assertNull(StylesheetCacheShim.readCached(url, cacheDir));
+
+        assertParsed(StylesheetCacheShim.load(url, cacheDir));
+
+        assertTrue(Files.isRegularFile(cacheFile()));
+        assertParsed(StylesheetCacheShim.readCached(url, cacheDir));
+    }
+
+    @Test
+    public void testHitReadsEntryWithoutWritingIt() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+        Files.setLastModifiedTime(cacheFile(), OLD);
+
+        assertParsed(StylesheetCacheShim.load(url, cacheDir));
+
+        assertEquals(OLD, Files.getLastModifiedTime(cacheFile()));
+    }
+
+    @Test
+    public void testContentChangeInvalidatesEntry() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        Files.writeString(cssFile, CSS + ".d { -fx-opacity: 0.5; }\n");
+
+        assertLoadParsesAndReplacesEntry();
+        assertTrue(describe(StylesheetCacheShim.readCached(url, cacheDir)).contains(".d"));
+    }
+
+    @Test
+    public void testVersionMismatchFallsBackToParsing() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        // the cache format version follows the 4 byte magic number
+        final byte[] bytes = Files.readAllBytes(cacheFile());
+        bytes[5]++;
+        Files.write(cacheFile(), bytes);
+
+        assertLoadParsesAndReplacesEntry();
+    }
+
+    @Test
+    public void testTruncatedEntryFallsBackToParsing() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        final byte[] bytes = Files.readAllBytes(cacheFile());
+        Files.write(cacheFile(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertLoadParsesAndReplacesEntry();
+    }
+
+    @Test
+    public void testEmptyEntryFallsBackToParsing() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        Files.write(cacheFile(), new byte[0]);
+
+        assertLoadParsesAndReplacesEntry();
+    }
+
+    @Test
+    public void testCorruptEntryFallsBackToParsing() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        // damage the serialized declarations at the end of the entry
+        final byte[] bytes = Files.readAllBytes(cacheFile());
+        for (int i = bytes.length - 8; i < bytes.length; i++) {
+            bytes[i] ^= 0x55;
+        }
+        Files.write(cacheFile(), bytes);
+
+        assertLoadParsesAndReplacesEntry();
+    }
+
+    @Test
+    public void testGarbageEntryFallsBackToParsing() throws IOException {
+        StylesheetCacheShim.load(url, cacheDir);
+
+        Files.write(cacheFile(), "not a cached stylesheet".getBytes(StandardCharsets.UTF_8));
+
+        assertLoadParsesAndReplacesEntry();
+    }
+}
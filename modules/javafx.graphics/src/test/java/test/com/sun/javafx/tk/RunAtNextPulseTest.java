@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.tk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.javafx.tk.Toolkit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubToolkit;
+
+public class RunAtNextPulseTest {
+
+    private StubToolkit toolkit;
+
+    @Before
+    public void setUp() {
+        toolkit = (StubToolkit) Toolkit.getToolkit();
+        // run anything left over from other tests
+        toolkit.fireTestPulse();
+    }
+
+    @Test
+    public void testTasksRunInOrderAtNextPulse() {
+        final List<Integer> runs = new ArrayList<>();
+        toolkit.runAtNextPulse(() -> runs.add(1));
+        toolkit.runAtNextPulse(() -> runs.add(2));
+        assertTrue(runs.isEmpty());
+        assertTrue(toolkit.isPulseRequested());
+
+        toolkit.fireTestPulse();
+        assertEquals(List.of(1, 2), runs);
+    }
+
+    @Test
+    public void testTaskScheduledByTaskRunsAtFollowingPulse() {
+        final int[] runs = new int[1];
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                runs[0]++;
+                toolkit.runAtNextPulse(this);
+            }
+        };
+        toolkit.runAtNextPulse(task);
+
+        toolkit.fireTestPulse();
+        assertEquals(1, runs[0]);
+
+        toolkit.fireTestPulse();
+        assertEquals(2, runs[0]);
+    }
+}
@@ -26,6 +26,7 @@
 package test.javafx.css;
 
 import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.css.StylesheetHelper;
 import javafx.css.StyleConverter.StringStore;
 import javafx.css.converter.EnumConverter;
 import javafx.css.converter.StringConverter;
@@ -776,4 +777,19 @@ public class StylesheetTest {
         assertEquals(Color.BLUE, rect.getFill());
     }
 
+    @Test
+    public void testBinaryRoundTripKeepsUrl() throws IOException {
+        String docbase = "file:/styles/test.css";
+        Stylesheet stylesheet = new CssParser().parse(docbase, ".root { -fx-background-color: red; }");
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        StylesheetHelper.writeBinary(stylesheet, baos);
+        Stylesheet result = StylesheetHelper.loadBinary(new ByteArrayInputStream(baos.toByteArray()), docbase);
+
+        assertEquals(docbase, result.getUrl());
+        assertEquals(1, result.getRules().size());
+        Declaration decl = result.getRules().get(0).getDeclarations().get(0);
+        assertEquals("-fx-background-color", decl.getProperty());
+    }
+
 }
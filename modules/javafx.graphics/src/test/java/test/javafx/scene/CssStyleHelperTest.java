@@ -25,11 +25,17 @@
 package test.javafx.scene;
 
 import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.css.StyleMap;
 import javafx.stage.Stage;
 import com.sun.javafx.tk.Toolkit;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import javafx.css.CssParser;
 import javafx.css.PseudoClass;
+import javafx.css.Rule;
+import javafx.css.Selector;
 import javafx.css.Stylesheet;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
@@ -658,4 +664,172 @@ public class CssStyleHelperTest {
         assertEquals(new Insets(10), a.getPadding());
         assertEquals(new Insets(4), b.getPadding());
     }
+
+    @Test
+    public void pseudoClassChangeUpdatesOnlyDependentStylesOfNode() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+            "pseudoClassChangeUpdatesOnlyDependentStylesOfNode",
+            """
+                .a { -fx-background-color: red; -fx-padding: 4; }
+                .a:ps1 { -fx-background-color: blue; }
+                .c { -fx-background-color: green; }
+            """
+        );
+
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, A.getBackground().getFills().get(0).getFill());
+        assertEquals(new Insets(4), A.getPadding());
+        assertEquals(Color.GREEN, C.getBackground().getFills().get(0).getFill());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.BLUE, A.getBackground().getFills().get(0).getFill());
+        assertEquals(new Insets(4), A.getPadding());
+        assertEquals(Color.GREEN, C.getBackground().getFills().get(0).getFill());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), false);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, A.getBackground().getFills().get(0).getFill());
+        assertEquals(new Insets(4), A.getPadding());
+    }
+
+    @Test
+    public void pseudoClassChangeUpdatesDescendantsThatDependOnIt() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+            "pseudoClassChangeUpdatesDescendantsThatDependOnIt",
+            """
+                .a { -my-color: red; }
+                .a:ps1 { -my-color: blue; }
+                .a:ps2 .d { -fx-background-color: yellow; }
+                .c { -fx-background-color: -my-color; }
+                .d { -fx-background-color: green; }
+            """
+        );
+
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        Pane D = new Pane();
+        D.getStyleClass().add("d");
+        A.getChildren().addAll(C, D);
+        root.getChildren().add(A);
+
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, C.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.GREEN, D.getBackground().getFills().get(0).getFill());
+
+        // C looks up -my-color from A
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.BLUE, C.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.GREEN, D.getBackground().getFills().get(0).getFill());
+
+        // D matches a selector with a pseudo-class of A
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps2"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.BLUE, C.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.YELLOW, D.getBackground().getFills().get(0).getFill());
+    }
+
+    @Test
+    public void pseudoClassChangeUpdatesPropertiesThatLookUpDependentProperties() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+            "pseudoClassChangeUpdatesPropertiesThatLookUpDependentProperties",
+            """
+                .a { -my-base: red; -my-color: -my-base; -fx-background-color: -my-color; }
+                .a:ps1 { -my-base: blue; }
+                .c { -fx-background-color: -my-color; }
+            """
+        );
+
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, A.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.RED, C.getBackground().getFills().get(0).getFill());
+
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.BLUE, A.getBackground().getFills().get(0).getFill());
+        assertEquals(Color.BLUE, C.getBackground().getFills().get(0).getFill());
+    }
+
+    @Test
+    public void pseudoClassChangeUpdatesPropertiesThatLookUpAncestorValuesOfDependentProperties() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+            "pseudoClassChangeUpdatesPropertiesThatLookUpAncestorValuesOfDependentProperties",
+            """
+                .a { -my-body: -my-color; }
+                .c { -my-color: red; -fx-background-color: -my-body; }
+                .c:ps1 { -my-color: blue; }
+            """
+        );
+
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Pane C = new Pane();
+        C.getStyleClass().add("c");
+        A.getChildren().add(C);
+        root.getChildren().add(A);
+
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.RED, C.getBackground().getFills().get(0).getFill());
+
+        C.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+
+        assertEquals(Color.BLUE, C.getBackground().getFills().get(0).getFill());
+    }
+
+    @Test
+    public void dependentPropertiesIncludeLookupsOfChangedAndAncestorProperties() throws IOException {
+        Stylesheet stylesheet = new CssParser().parse(
+            "dependentPropertiesIncludeLookupsOfChangedAndAncestorProperties",
+            """
+                .a { -my-base: red; -my-color: -my-base; -fx-background-color: -my-color; -fx-border-color: -my-other; }
+                .a:ps1 { -my-base: blue; }
+            """
+        );
+
+        List<Selector> selectors = new ArrayList<>();
+        for (Rule rule : stylesheet.getRules()) {
+            selectors.addAll(rule.getSelectors());
+        }
+        StyleMap styleMap = new StyleMap(0, selectors);
+
+        // -my-other is found on an ancestor, whose value may look up -my-base of this node
+        assertEquals(Set.of("-my-base", "-my-color", "-fx-background-color", "-fx-border-color"),
+                styleMap.getDependentProperties(Set.of(PseudoClass.getPseudoClass("ps1"))));
+        assertEquals(Set.of(), styleMap.getDependentProperties(Set.of(PseudoClass.getPseudoClass("ps2"))));
+    }
 }
@@ -339,6 +339,75 @@ public class ParentTest {
         assertEquals(250, g.prefHeight(-1), 1e-100);
     }
 
+    @Test
+    public void testSizeHintsForGivenSizeAreCachedDuringLayoutOfParent() {
+        CountingParent p = new CountingParent(new Rectangle(100, 200));
+        int[] layoutCount = new int[1];
+        Parent parent = new MockParent(p) {
+            @Override
+            protected void layoutChildren() {
+                layoutCount[0]++;
+                assertEquals(200, p.prefHeight(50), 0);
+                assertEquals(200, p.prefHeight(50), 0);
+                assertEquals(200, p.prefHeight(60), 0);
+                assertEquals(100, p.minWidth(30), 0);
+                assertEquals(100, p.minWidth(30), 0);
+            }
+        };
+
+        parent.layout();
+        assertEquals(1, layoutCount[0]);
+        assertEquals(2, p.prefHeightCount);
+        assertEquals(1, p.minWidthCount);
+
+        // a new layout of the parent computes the hints again
+        parent.requestLayout();
+        parent.layout();
+        assertEquals(2, layoutCount[0]);
+        assertEquals(4, p.prefHeightCount);
+        assertEquals(2, p.minWidthCount);
+    }
+
+    @Test
+    public void testSizeHintsForGivenSizeAreCachedDuringLayoutOfAncestor() {
+        CountingParent p = new CountingParent(new Rectangle(100, 200));
+        Parent parent = new MockParent(p);
+        Parent grandParent = new MockParent(parent) {
+            @Override
+            protected void layoutChildren() {
+                assertEquals(200, p.prefHeight(50), 0);
+                super.layoutChildren();
+                assertEquals(200, p.prefHeight(50), 0);
+            }
+        };
+
+        grandParent.layout();
+        assertEquals(1, p.prefHeightCount);
+
+        // a layout request of the node drops its hints within the same pass
+        grandParent.requestLayout();
+        Parent requestingGrandParent = new MockParent(new MockParent(p)) {
+            @Override
+            protected void layoutChildren() {
+                assertEquals(200, p.prefHeight(50), 0);
+                p.requestLayout();
+                assertEquals(200, p.prefHeight(50), 0);
+            }
+        };
+        requestingGrandParent.layout();
+        assertEquals(3, p.prefHeightCount);
+    }
+
+    @Test
+    public void testSizeHintsForGivenSizeAreNotCachedOutsideLayoutOfParent() {
+        CountingParent p = new CountingParent(new Rectangle(100, 200));
+        new MockParent(p);
+
+        assertEquals(200, p.prefHeight(50), 0);
+        assertEquals(200, p.prefHeight(50), 0);
+        assertEquals(2, p.prefHeightCount);
+    }
+
     @Test
     public void testPrefWidthIncludesChildLayoutX() {
         Rectangle r = new Rectangle(10,10,100,100);
@@ -840,6 +909,69 @@ public class ParentTest {
         assertNull(res.getIntersectedNode());
     }
 
+    private Group createPickingGrid(Rectangle background) {
+        // More children than the threshold from which a pick index is used
+        Group g = new Group(background);
+        for (int i = 0; i < 2000; i++) {
+            Rectangle r = new Rectangle(i % 50 * 10, i / 50 * 10, 8, 8);
+            r.setId("r" + i);
+            ParentShim.getChildren(g).add(r);
+        }
+        Scene scene = new Scene(g);
+        stage.setScene(scene);
+        stage.show();
+        toolkit.fireTestPulse();
+        return g;
+    }
+
+    private static Node pick(Node node, double x, double y) {
+        PickResultChooser res = new PickResultChooser();
+        NodeHelper.pickNode(node, new PickRay(x, y, 1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY), res);
+        return res.getIntersectedNode();
+    }
+
+    @Test
+    public void testPickingAmongManyChildren() {
+        Rectangle background = new Rectangle(0, 0, 500, 400);
+        Group g = createPickingGrid(background);
+
+        assertEquals("r0", pick(g, 4, 4).getId());
+        assertEquals("r51", pick(g, 14, 14).getId());
+        assertEquals("r1999", pick(g, 495, 395).getId());
+        // the gaps between the small rectangles hit the background
+        assertSame(background, pick(g, 9, 9));
+        assertNull(pick(g, 600, 600));
+    }
+
+    @Test
+    public void testPickingAmongManyChildrenAfterChanges() {
+        Rectangle background = new Rectangle(0, 0, 500, 400);
+        Group g = createPickingGrid(background);
+        assertEquals("r0", pick(g, 4, 4).getId());
+
+        Node r0 = g.getChildren().get(1);
+        r0.setTranslateX(250);
+        r0.setTranslateY(250);
+        assertSame(background, pick(g, 4, 4));
+        // r0 now lies under r1275, which comes later in paint order
+        assertEquals("r1275", pick(g, 254, 254).getId());
+
+        r0.toFront();
+        assertSame(r0, pick(g, 254, 254));
+
+        r0.setVisible(false);
+        assertEquals("r1275", pick(g, 254, 254).getId());
+
+        r0.setVisible(true);
+        r0.setViewOrder(1);
+        assertEquals("r1275", pick(g, 254, 254).getId());
+
+        ParentShim.getChildren(g).remove(r0);
+        ParentShim.getChildren(g).add(r0);
+        r0.setViewOrder(0);
+        assertSame(r0, pick(g, 254, 254));
+    }
+
     @Test
     public void testNegativeIndex_Add() {
         Group g = new Group();
@@ -927,6 +1059,27 @@ public class ParentTest {
         g.getChildren().remove(0);
     }
 
+    private static class CountingParent extends Parent {
+        int prefHeightCount;
+        int minWidthCount;
+
+        CountingParent(Node... children) {
+            ParentShim.getChildren(this).addAll(children);
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            prefHeightCount++;
+            return super.computePrefHeight(width);
+        }
+
+        @Override
+        protected double computeMinWidth(double height) {
+            minWidthCount++;
+            return super.computeMinWidth(height);
+        }
+    }
+
     public static class MockParent extends Parent {
         public MockParent(Node... children) {
             ParentShim.getChildren(this).addAll(children);
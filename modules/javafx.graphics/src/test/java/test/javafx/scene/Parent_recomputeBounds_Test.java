@@ -33,12 +33,17 @@ import static org.junit.Assert.assertTrue;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.NodeShim;
 import javafx.scene.ParentShim;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Circle;
 import javafx.scene.transform.Translate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 public class Parent_recomputeBounds_Test {
@@ -341,6 +346,127 @@ public class Parent_recomputeBounds_Test {
         assertEquals(300, b.getHeight(), 0.0001);
     }
 
+    @Test
+    public void shouldRecomputeBoundsOfManyNodesWhenEdgeNodesChange() {
+        final Group g = new Group();
+        final Rectangle left = new Rectangle(0, 100, 10, 10);
+        final Rectangle right = new Rectangle(990, 100, 10, 10);
+        g.getChildren().add(left);
+        for (int i = 0; i < 2 * ParentShim.BOUNDS_TREE_THRESHOLD; i++) {
+            g.getChildren().add(new Rectangle(100 + i, 50 + i, 10, 10));
+        }
+        g.getChildren().add(right);
+        Bounds b;
+
+        b = g.getBoundsInParent();
+        assertEquals(0, b.getMinX(), 0.0001);
+        assertEquals(50, b.getMinY(), 0.0001);
+        assertEquals(1000, b.getWidth(), 0.0001);
+        assertEquals(2 * ParentShim.BOUNDS_TREE_THRESHOLD + 9, b.getHeight(), 0.0001);
+
+        // the edge nodes move inwards
+        left.setX(500);
+        right.setX(500);
+
+        b = g.getBoundsInParent();
+        assertEquals(100, b.getMinX(), 0.0001);
+        assertEquals(500 + 10 - 100, b.getWidth(), 0.0001);
+
+        left.setY(-10);
+
+        b = g.getBoundsInParent();
+        assertEquals(-10, b.getMinY(), 0.0001);
+
+        left.setVisible(false);
+
+        b = g.getBoundsInParent();
+        assertEquals(50, b.getMinY(), 0.0001);
+
+        left.setVisible(true);
+
+        b = g.getBoundsInParent();
+        assertEquals(-10, b.getMinY(), 0.0001);
+
+        g.getChildren().remove(left);
+
+        b = g.getBoundsInParent();
+        assertEquals(50, b.getMinY(), 0.0001);
+
+        g.getChildren().remove(10, g.getChildren().size());
+        ((Rectangle) g.getChildren().get(0)).setX(0);
+
+        b = g.getBoundsInParent();
+        assertEquals(0, b.getMinX(), 0.0001);
+        assertEquals(50, b.getMinY(), 0.0001);
+        assertEquals(119, b.getMaxX(), 0.0001);
+        assertEquals(69, b.getMaxY(), 0.0001);
+    }
+
+    @Test
+    public void shouldUpdateBoundsOfManyNodesWhenChildrenAreAddedAndRemoved() {
+        final Group g = new Group();
+        final int count = 2 * ParentShim.BOUNDS_TREE_THRESHOLD;
+        for (int i = 0; i < count; i++) {
+            g.getChildren().add(new Rectangle(100 + i, 100, 10, 10));
+        }
+        Bounds b;
+
+        b = g.getBoundsInParent();
+        assertEquals(100, b.getMinX(), 0.0001);
+        assertEquals(100 + count + 9, b.getMaxX(), 0.0001);
+
+        // the removed leaves are reused by the added nodes
+        g.getChildren().remove(0, 10);
+        g.getChildren().add(new Rectangle(0, 0, 10, 10));
+        g.getChildren().add(new Rectangle(2000, 2000, 10, 10));
+
+        b = g.getBoundsInParent();
+        assertEquals(0, b.getMinX(), 0.0001);
+        assertEquals(0, b.getMinY(), 0.0001);
+        assertEquals(2010, b.getMaxX(), 0.0001);
+        assertEquals(2010, b.getMaxY(), 0.0001);
+
+        // the tree grows beyond its initial size
+        for (int i = 0; i < 3 * count; i++) {
+            g.getChildren().add(new Rectangle(-i, 100, 10, 10));
+        }
+
+        b = g.getBoundsInParent();
+        assertEquals(-3 * count + 1, b.getMinX(), 0.0001);
+
+        // a node that is removed and added again by the same change stays
+        final Node last = g.getChildren().get(g.getChildren().size() - 1);
+        final List<Node> reversed = new ArrayList<>(g.getChildren());
+        Collections.reverse(reversed);
+        reversed.remove(1);
+        g.getChildren().setAll(reversed);
+
+        b = g.getBoundsInParent();
+        assertEquals(-3 * count + 1, b.getMinX(), 0.0001);
+        last.setTranslateX(-10000);
+
+        b = g.getBoundsInParent();
+        assertEquals(-3 * count + 1 - 10000, b.getMinX(), 0.0001);
+
+        // the tree is compacted once most of its leaves are free
+        g.getChildren().remove(ParentShim.BOUNDS_TREE_THRESHOLD, g.getChildren().size());
+        final Rectangle r = (Rectangle) g.getChildren().get(1);
+        r.setX(-20000);
+
+        b = g.getBoundsInParent();
+        assertEquals(-20000, b.getMinX(), 0.0001);
+
+        r.setVisible(false);
+        b = g.getBoundsInParent();
+        for (Node n : g.getChildren()) {
+            if (n != r) {
+                assertTrue(n.getBoundsInParent().getMinX() >= b.getMinX());
+                assertTrue(n.getBoundsInParent().getMaxX() <= b.getMaxX());
+            }
+        }
+        assertEquals(last.getBoundsInParent().getMinX(), b.getMinX(), 0.0001);
+    }
+
     @Test
     public void transformedBoundsCalculationShouldNotInfluenceUntransformed() {
         final Group g = new Group();
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package collections;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ChangeListener;
+
+/**
+ * Measures the cost of adding and removing a listener and of firing a change
+ * event on a property with 1, 2, 8 and 64 change listeners, together with the
+ * number of bytes allocated per operation.
+ * <p>
+ * Usage: {@code java ListenerDispatch [operations] [iterations]}
+ */
+public class ListenerDispatch {
+
+    private static final int[] LISTENER_COUNTS = {1, 2, 8, 64};
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static int sink;
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        // The first round is a warm-up
+        for (int i = 0; i <= iterations; i++) {
+            for (int count : LISTENER_COUNTS) {
+                IntegerProperty property = new SimpleIntegerProperty();
+                ChangeListener<Number>[] listeners = createListeners(count);
+                for (ChangeListener<Number> listener : listeners) {
+                    property.addListener(listener);
+                }
+                Result addRemove = measure(operations, () -> {
+                    property.removeListener(listeners[0]);
+                    property.addListener(listeners[0]);
+                });
+                Result fire = measure(operations, () -> property.set(property.get() + 1));
+                if (i > 0) {
+                    System.out.printf("%2d listeners   add/remove: %6.1f ns %5.1f B   fire: %6.1f ns %5.1f B%n",
+                            count, addRemove.nanos, addRemove.bytes, fire.nanos, fire.bytes);
+                }
+            }
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeListener<Number>[] createListeners(int count) {
+        ChangeListener<Number>[] listeners = new ChangeListener[count];
+        for (int i = 0; i < count; i++) {
+            listeners[i] = (observable, oldValue, newValue) -> sink += newValue.intValue();
+        }
+        return listeners;
+    }
+
+    private static Result measure(int operations, Runnable operation) {
+        long threadId = Thread.currentThread().getId();
+        long b0 = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < operations; i++) {
+            operation.run();
+        }
+        long t1 = System.nanoTime();
+        long b1 = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        return new Result((double) (t1 - t0) / operations, (double) (b1 - b0) / operations);
+    }
+
+    private record Result(double nanos, double bytes) {
+    }
+}
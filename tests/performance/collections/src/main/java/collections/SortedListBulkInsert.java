@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+
+/**
+ * Compares appending a batch of rows to a large sorted list with a single
+ * {@code addAll} call, which is handled by the sort-and-merge path of
+ * {@link SortedList}, with appending the same rows one by one, which inserts
+ * every row into the sorted mapping separately.
+ * <p>
+ * Usage: {@code java SortedListBulkInsert [size] [batch] [iterations]}
+ */
+public class SortedListBulkInsert {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int batch = args.length > 1 ? Integer.parseInt(args[1]) : 50_000;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        // Adding rows one by one is far too slow for the whole batch,
+        // so only a part of it is measured and the result is extrapolated
+        int singleBatch = Math.min(batch, 2_000);
+
+        System.out.printf("SortedList of %d elements, batch of %d elements%n", size, batch);
+        // The first round is a warm-up
+        for (int i = 0; i <= iterations; i++) {
+            long bulk = run(size, batch, true);
+            long single = run(size, singleBatch, false);
+            if (i > 0) {
+                System.out.printf("addAll: %6d ms   add: %6d ms (extrapolated from %d elements)%n",
+                        bulk, single * batch / singleBatch, singleBatch);
+            }
+        }
+    }
+
+    private static long run(int size, int batch, boolean bulk) {
+        Random random = new Random(42);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        for (int i = 0; i < size; i++) {
+            source.add(random.nextInt());
+        }
+        SortedList<Integer> sorted = source.sorted();
+        List<Integer> rows = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            rows.add(random.nextInt());
+        }
+
+        long t0 = System.nanoTime();
+        if (bulk) {
+            source.addAll(rows);
+        } else {
+            for (Integer row : rows) {
+                source.add(row);
+            }
+        }
+        long t1 = System.nanoTime();
+        if (sorted.size() != size + batch) {
+            throw new AssertionError();
+        }
+        return (t1 - t0) / 1_000_000;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package event;
+
+import java.lang.management.ManagementFactory;
+
+import javafx.event.Event;
+import javafx.event.EventDispatchChain;
+import javafx.event.EventTarget;
+import javafx.event.EventType;
+
+import com.sun.javafx.event.EventHandlerManager;
+import com.sun.javafx.event.EventUtil;
+
+/**
+ * Measures the cost of {@code EventUtil.fireEvent} through dispatch chains of
+ * 8, 32 and 128 targets, of which every fourth has a filter and a handler,
+ * together with the number of bytes allocated and the number of event copies
+ * made per event. The nested rows fire a second event through the same chain
+ * from the handler of the leaf.
+ * <p>
+ * Usage: {@code java --add-exports javafx.base/com.sun.javafx.event=ALL-UNNAMED
+ * DeepChainDispatch [events] [iterations]}
+ */
+public class DeepChainDispatch {
+
+    private static final int[] DEPTHS = {8, 32, 128};
+
+    private static final EventType<Event> TICK = new EventType<>(Event.ANY, "TICK");
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static int sink;
+
+    private static long copies;
+
+    public static void main(String[] args) {
+        int events = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        // The first round is a warm-up
+        for (int i = 0; i <= iterations; i++) {
+            for (int depth : DEPTHS) {
+                run("fire", createChain(depth, false), depth, events, i > 0);
+                run("nested", createChain(depth, true), depth, events, i > 0);
+            }
+        }
+        if (sink == 42) {
+            System.out.println();
+        }
+    }
+
+    private static void run(String name, Target leaf, int depth, int events, boolean print) {
+        Event event = new TickEvent(TICK);
+        long threadId = Thread.currentThread().getId();
+        copies = 0;
+        long b0 = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long t0 = System.nanoTime();
+        for (int j = 0; j < events; j++) {
+            EventUtil.fireEvent(leaf, event);
+        }
+        long t1 = System.nanoTime();
+        long b1 = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        if (print) {
+            System.out.printf("depth %3d %7s: %8.1f ns %7.1f B %5.1f copies%n", depth, name,
+                    (double) (t1 - t0) / events, (double) (b1 - b0) / events,
+                    (double) copies / events);
+        }
+    }
+
+    private static Target createChain(int depth, boolean nested) {
+        Target target = null;
+        for (int i = 0; i < depth; i++) {
+            target = new Target(target);
+            if (i % 4 == 0) {
+                target.handlerManager.addEventFilter(TICK, e -> sink++);
+                target.handlerManager.addEventHandler(TICK, e -> sink++);
+            }
+        }
+        if (nested) {
+            final Target leaf = target;
+            final Event nestedEvent = new TickEvent(NESTED_TICK);
+            leaf.handlerManager.addEventHandler(TICK, e -> EventUtil.fireEvent(leaf, nestedEvent));
+        }
+        return target;
+    }
+
+    private static final EventType<Event> NESTED_TICK = new EventType<>(Event.ANY, "NESTED_TICK");
+
+    private static final class TickEvent extends Event {
+        TickEvent(EventType<? extends Event> eventType) {
+            super(eventType);
+        }
+
+        @Override
+        public Event copyFor(Object newSource, EventTarget newTarget) {
+            copies++;
+            return super.copyFor(newSource, newTarget);
+        }
+    }
+
+    private static final class Target implements EventTarget {
+        private final Target parent;
+        private final EventHandlerManager handlerManager = new EventHandlerManager(this);
+
+        Target(Target parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public EventDispatchChain buildEventDispatchChain(EventDispatchChain tail) {
+            for (Target t = this; t != null; t = t.parent) {
+                tail = tail.prepend(t.handlerManager);
+            }
+            return tail;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package layout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Measures layout passes over a nested VBox / GridPane / HBox scene whose
+ * leaves are FlowPanes, which have a horizontal content bias. The containers
+ * ask the leaves for their height at a given width several times per pass;
+ * the benchmark reports how often a leaf actually computes its preferred
+ * height per pass, together with the time per pass.
+ * <p>
+ * Usage: {@code java -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw
+ * NestedLayoutPass [rows] [passes] [iterations]}
+ */
+public class NestedLayoutPass {
+
+    private static final List<CountingFlowPane> leaves = new ArrayList<>();
+
+    public static void main(String[] args) throws InterruptedException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                run(rows, passes, iterations);
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run(int rows, int passes, int iterations) {
+        VBox root = createScene(rows);
+        new Scene(new Group(root));
+
+        System.out.printf("%d rows, %d leaves%n", rows, leaves.size());
+        // The first round is a warm-up
+        for (int i = 0; i <= iterations; i++) {
+            resetCounts();
+            long t0 = System.nanoTime();
+            for (int pass = 0; pass < passes; pass++) {
+                // Alternate the width so that every pass lays out the whole tree
+                root.resize(pass % 2 == 0 ? 800 : 780, 10_000);
+                root.layout();
+            }
+            long nanos = System.nanoTime() - t0;
+            if (i > 0) {
+                System.out.printf("%8.1f us/pass   computePrefHeight: %5.2f calls/leaf/pass%n",
+                        nanos / 1000.0 / passes, (double) totalCount() / leaves.size() / passes);
+            }
+        }
+    }
+
+    private static VBox createScene(int rows) {
+        VBox root = new VBox();
+        for (int r = 0; r < rows; r++) {
+            GridPane grid = new GridPane();
+            for (int c = 0; c < 4; c++) {
+                VBox cell = new VBox(createLeaf(), new HBox(createLeaf(), createLeaf()));
+                grid.add(cell, c, 0);
+            }
+            root.getChildren().add(grid);
+        }
+        return root;
+    }
+
+    private static CountingFlowPane createLeaf() {
+        CountingFlowPane leaf = new CountingFlowPane();
+        for (int i = 0; i < 8; i++) {
+            leaf.getChildren().add(new Rectangle(20, 10));
+        }
+        leaves.add(leaf);
+        return leaf;
+    }
+
+    private static void resetCounts() {
+        for (CountingFlowPane leaf : leaves) {
+            leaf.count = 0;
+        }
+    }
+
+    private static long totalCount() {
+        long total = 0;
+        for (CountingFlowPane leaf : leaves) {
+            total += leaf.count;
+        }
+        return total;
+    }
+
+    private static class CountingFlowPane extends FlowPane {
+        int count;
+
+        @Override
+        protected double computePrefHeight(double forWidth) {
+            count++;
+            return super.computePrefHeight(forWidth);
+        }
+    }
+}